@@ -0,0 +1,80 @@
+package main;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.Blackhole;
+
+/*
+ * Claiming and allocating. Both change the board for good, so every call gets a fresh game
+ * (Level.Invocation) and does a whole board's worth of work to keep the setup cost out of the result.
+ *
+ * Board.claimTask only adds confirmation dialogs around GameEngine.claimTask, so the engine call is
+ * what is measured here.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ActionBenchmark {
+
+    private static final int ALLOCATION = 50;
+
+    @Param({"2", "3", "4"})
+    public int playerCount;
+
+    @Param({"24", "240", "2400"})
+    public int boardSize;
+
+    private GameEngine engine;
+    private List<Player> players;
+    private int[] taskSquares;
+
+    @Setup(Level.Invocation)
+    public void setUp(BenchmarkParams params) {
+        // every claim and allocation is paid for, so none of them takes the INSUFFICIENT_FUNDS path
+        engine = BenchmarkGames.newEngine(playerCount, boardSize, BenchmarkGames.fullBoardResources(boardSize));
+        players = engine.getGame().getPlayers();
+        taskSquares = BenchmarkGames.taskSquares(engine);
+
+        // allocation needs owned tasks to fund
+        if (params.getBenchmark().endsWith("allocateResources")) {
+            BenchmarkGames.claimAll(engine);
+        }
+    }
+
+    // Claims every task on the board, players taking turns; score is per board
+    @Benchmark
+    public void claimTask(Blackhole bh) {
+        for (int i = 0; i < taskSquares.length; i++) {
+            Player player = players.get(i % players.size());
+            player.setPosition(taskSquares[i]);
+            bh.consume(engine.claimTask(player));
+        }
+    }
+
+    // One allocation round: every player funds every task they may fund; score is per board
+    @Benchmark
+    public void allocateResources(Blackhole bh) {
+        for (Player player : players) {
+            for (Task task : engine.getAllocatableTasks(player)) {
+                bh.consume(engine.allocateResources(player, task, ALLOCATION));
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package main;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Shared setup for the benchmarks: seeded games with the same players every time, on the built-in
+ * board or, for any other boardSize, a board generated in the board file format.
+ */
+final class BenchmarkGames {
+
+    static final long SEED = 20240901L;
+    static final String[] CHARACTERS = {"🦁", "🐘", "🦒", "🦓"};
+
+    private BenchmarkGames() {
+    }
+
+    private static final Map<Integer, BoardDefinition> BOARDS = new ConcurrentHashMap<>();
+
+    // A new seeded game on a board of boardSize squares
+    static GameEngine newEngine(int playerCount, int boardSize, int startingResources) {
+        ArrayList<Player> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            Player player = new Player("Player " + (i + 1));
+            player.setCharacter(CHARACTERS[i % CHARACTERS.length]);
+            player.addResources(startingResources);
+            players.add(player);
+        }
+        return new GameEngine(new Game(players, SEED), board(boardSize));
+    }
+
+    // Enough for any one player to claim and fully fund every task on a board of boardSize squares
+    static int fullBoardResources(int boardSize) {
+        BoardDefinition board = board(boardSize);
+        int total = 0;
+        for (int id = 0; id < board.getTaskCount(); id++) {
+            total += board.getRequiredResources(id);
+        }
+        return total;
+    }
+
+    // The built-in board when it has that many squares, otherwise a generated one (compiled once per size)
+    static BoardDefinition board(int size) {
+        if (size == BoardDefinition.DEFAULT.getSize()) {
+            return BoardDefinition.DEFAULT;
+        }
+        return BOARDS.computeIfAbsent(size, BenchmarkGames::generateBoard);
+    }
+
+    /*
+     * Every third square an event, as on the built-in board, and the rest tasks of the four phases in
+     * turn at the built-in board's two prices, written as the lines of a board file.
+     */
+    private static BoardDefinition generateBoard(int size) {
+        List<String> lines = new ArrayList<>();
+        lines.add("squares " + size);
+        StringBuilder events = new StringBuilder("event");
+        int tasks = 0;
+        for (int pos = 1; pos < size; pos++) {
+            if (pos % 3 == 0) {
+                events.append(' ').append(pos);
+                continue;
+            }
+            String phase = TaskRegistry.PHASES[tasks % TaskRegistry.PHASES.length];
+            String price = tasks / TaskRegistry.PHASES.length % 2 == 0 ? " 1000 250 " : " 1500 500 ";
+            lines.add("task " + pos + " " + phase + price + phase + " task " + ++tasks);
+        }
+        if (size > 3) {
+            lines.add(events.toString());
+        }
+        try {
+            return BoardDefinition.parse("generated " + size, lines);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Squares that hold a claimable task
+    static int[] taskSquares(GameEngine engine) {
+        List<Task> boardTasks = engine.getBoardTasks();
+        int count = 0;
+        int[] squares = new int[boardTasks.size()];
+        for (int pos = 1; pos < boardTasks.size(); pos++) {
+            if (!engine.isRandomEventSquare(pos)) {
+                squares[count++] = pos;
+            }
+        }
+        return Arrays.copyOf(squares, count);
+    }
+
+    // Every task claimed, handed out round-robin; fails when a player can't pay for theirs
+    static void claimAll(GameEngine engine) {
+        List<Player> players = engine.getGame().getPlayers();
+        int[] squares = taskSquares(engine);
+        for (int i = 0; i < squares.length; i++) {
+            Player player = players.get(i % players.size());
+            player.setPosition(squares[i]);
+            GameEngine.ClaimResult result = engine.claimTask(player);
+            if (result != GameEngine.ClaimResult.CLAIMED) {
+                throw new IllegalStateException("Task on square " + squares[i] + " not claimed: " + result);
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package main;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/*
+ * Read-only queries the Board makes on every refresh, run over the whole board or every player
+ * of a game in progress: all tasks claimed, every other one complete, and players paired up in
+ * alliances. Scores are per board / per player list, not per call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LookupBenchmark {
+
+    @Param({"2", "3", "4"})
+    public int playerCount;
+
+    @Param({"24", "240", "2400"})
+    public int boardSize;
+
+    private Board board;
+    private List<Task> boardTasks;
+    private List<Task> objectiveTasks;
+    private List<Player> players;
+    private AllianceRegistry alliances;
+
+    @Setup
+    public void setUp() {
+        GameEngine engine = BenchmarkGames.newEngine(playerCount, boardSize, BenchmarkGames.fullBoardResources(boardSize));
+        board = new Board(engine, new GameSession());
+        boardTasks = engine.getBoardTasks();
+        players = engine.getGame().getPlayers();
+        alliances = engine.getGame().getAlliances();
+
+        BenchmarkGames.claimAll(engine);
+        objectiveTasks = new ArrayList<>();
+        for (int square : BenchmarkGames.taskSquares(engine)) {
+            objectiveTasks.add(boardTasks.get(square));
+        }
+        for (int i = 0; i < objectiveTasks.size(); i += 2) {
+            objectiveTasks.get(i).markAsComplete();
+        }
+
+        // pair players up; each pair is formed on an incomplete task the first player owns
+        for (int i = 0; i + 1 < players.size(); i += 2) {
+            Player player = players.get(i);
+            for (Task task : player.getTasks()) {
+                if (!task.isComplete()) {
+                    player.setPosition(boardTasks.indexOf(task));
+                    engine.formAlliance(player, players.get(i + 1));
+                    break;
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void generateTaskDisplayText(Blackhole bh) {
+        for (Task task : objectiveTasks) {
+            bh.consume(board.generateTaskDisplayText(task));
+        }
+    }
+
+    @Benchmark
+    public void isPlayerInAnyAlliance(Blackhole bh) {
+        for (Player player : players) {
+            bh.consume(alliances.isPlayerInAnyAlliance(player));
+        }
+    }
+
+    @Benchmark
+    public void getAllianceByTask(Blackhole bh) {
+        for (Task task : boardTasks) {
+            bh.consume(alliances.getAllianceByTask(task));
+        }
+    }
+
+    @Benchmark
+    public void hasIncompleteTasks(Blackhole bh) {
+        for (Player player : players) {
+            bh.consume(player.hasIncompleteTasks());
+        }
+    }
+}
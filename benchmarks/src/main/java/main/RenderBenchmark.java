@@ -0,0 +1,146 @@
+package main;
+
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JComponent;
+import javax.swing.SwingUtilities;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * Full repaints of the game's panels into an offscreen image, with no display (headless JVM).
+ *
+ * Each call paints one whole frame of a panel, so the score in ops/s is frames per second. Run with
+ * -prof gc for the allocation per frame (gc.alloc.rate.norm, bytes per op):
+ *
+ *     java -jar benchmarks/target/benchmarks.jar -prof gc RenderBenchmark
+ *
+ * Scenarios: every player on the Start square (a fresh game), every task claimed with the players
+ * spread over the board, and a fresh game with the colourblind palette on. The panels are built once
+ * on the event dispatch thread and then painted from the benchmark thread; nothing changes them
+ * between frames.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class RenderBenchmark {
+
+    static final Dimension GAME_SIZE = new Dimension(1440, 900);
+    static final Dimension MENU_SIZE = new Dimension(1024, 768);
+
+    @Param({"2", "4"})
+    public int playerCount;
+
+    @Param({"24"})
+    public int boardSize;
+
+    @Param({"oneSquare", "allClaimed", "colourblind"})
+    public String scenario;
+
+    private JComponent gamePanel;
+    private JComponent boardCanvas;
+    private JComponent objectivePanel;
+    private JComponent mainMenu;
+
+    private BufferedImage gameImage;
+    private BufferedImage canvasImage;
+    private BufferedImage objectivesImage;
+    private BufferedImage menuImage;
+
+    @Setup
+    public void setUp() throws Exception {
+        Assets.getImage(Assets.LOGO, MainMenuPanel.LOGO_SIZE, MainMenuPanel.LOGO_SIZE).join();
+        SwingUtilities.invokeAndWait(this::build);
+        Thread.sleep(100); // lets the game log's batched flush and the logo callback run
+        SwingUtilities.invokeAndWait(() -> { });
+
+        gameImage = newImage(gamePanel);
+        canvasImage = newImage(boardCanvas);
+        objectivesImage = newImage(objectivePanel);
+        menuImage = newImage(mainMenu);
+    }
+
+    private void build() {
+        GameSession session = new GameSession();
+        session.setColourblindMode(scenario.equals("colourblind"));
+
+        Game game = BenchmarkGames.newEngine(playerCount, boardSize, BenchmarkGames.fullBoardResources(boardSize)).getGame();
+        Board board = new Board(game, session);
+        gamePanel = board.initializeGameBoard(); // puts every player on Start
+        if (scenario.equals("allClaimed")) {
+            BenchmarkGames.claimAll(board.getEngine()); // also moves each player to their last claim
+        }
+        layOut(gamePanel, GAME_SIZE);
+
+        boardCanvas = board.getBoardCanvas();
+        objectivePanel = board.getObjectivePanel();
+
+        mainMenu = new MainMenuPanel(new Game().getPlayers(), null, session);
+        layOut(mainMenu, MENU_SIZE);
+    }
+
+    // Sizes and lays out a panel tree that was never shown in a window
+    static void layOut(Component component, Dimension size) {
+        component.setSize(size);
+        layOutChildren(component);
+    }
+
+    private static void layOutChildren(Component component) {
+        if (component instanceof Container container) {
+            container.doLayout();
+            for (Component child : container.getComponents()) {
+                layOutChildren(child);
+            }
+        }
+    }
+
+    private static BufferedImage newImage(Component component) {
+        return new BufferedImage(Math.max(1, component.getWidth()), Math.max(1, component.getHeight()),
+                BufferedImage.TYPE_INT_RGB);
+    }
+
+    private static BufferedImage paint(JComponent component, BufferedImage image) {
+        Graphics2D g = image.createGraphics();
+        component.paint(g);
+        g.dispose();
+        return image;
+    }
+
+    // The whole game screen: objectives, players, board, log and buttons
+    @Benchmark
+    public BufferedImage paintGameBoard() {
+        return paint(gamePanel, gameImage);
+    }
+
+    @Benchmark
+    public BufferedImage paintBoardCanvas() {
+        return paint(boardCanvas, canvasImage);
+    }
+
+    @Benchmark
+    public BufferedImage paintObjectives() {
+        return paint(objectivePanel, objectivesImage);
+    }
+
+    @Benchmark
+    public BufferedImage paintMainMenu() {
+        return paint(mainMenu, menuImage);
+    }
+}
@@ -0,0 +1,65 @@
+package main;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * Replaying whole recorded games, as a regression run over a folder of journals does: the start
+ * snapshot decoded, then every action performed and every checksum compared. The recordings are
+ * GAMES bot games played to an ending (or maxTurns), taken in turn; the score is time per game.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ReplayBenchmark {
+
+    static final int GAMES = 64;
+
+    @Param({"2", "4"})
+    public int playerCount;
+
+    @Param({"24", "240", "2400"})
+    public int boardSize;
+
+    @Param({"100", "1000"})
+    public int maxTurns;
+
+    private TurnJournal.Contents[] recordings;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        recordings = new TurnJournal.Contents[GAMES];
+        for (int i = 0; i < GAMES; i++) {
+            GameEngine engine = BenchmarkGames.newEngine(playerCount, boardSize, Game.getStartingResources(playerCount));
+            for (int skip = 0; skip < i; skip++) {
+                engine.getGame().getRandom().nextLong(); // a different game each time
+            }
+            recordings[i] = ReplayEngine.recordBotGame(engine, maxTurns);
+        }
+    }
+
+    @Benchmark
+    public ReplayEngine.Result replayGame() {
+        ReplayEngine.Result result = ReplayEngine.replay("bench", recordings[next]);
+        next = (next + 1) % GAMES;
+        if (!result.passed()) {
+            throw new IllegalStateException(result.failure());
+        }
+        return result;
+    }
+}
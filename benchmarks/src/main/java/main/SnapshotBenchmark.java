@@ -0,0 +1,60 @@
+package main;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * Saving and loading a game in progress (every task claimed, players in alliances), as the Board
+ * does after every turn. encode is the part that runs on the event dispatch thread; decode is what
+ * Continue on the main menu costs before the board is built.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SnapshotBenchmark {
+
+    @Param({"2", "4"})
+    public int playerCount;
+
+    @Param({"24", "240", "2400"})
+    public int boardSize;
+
+    private GameEngine engine;
+    private byte[] saved;
+
+    @Setup
+    public void setUp() {
+        engine = BenchmarkGames.newEngine(playerCount, boardSize, BenchmarkGames.fullBoardResources(boardSize));
+        BenchmarkGames.claimAll(engine);
+        for (int p = 0; p + 1 < playerCount; p += 2) {
+            Player player = engine.getGame().getPlayers().get(p);
+            engine.formAlliance(player, engine.getGame().getPlayers().get(p + 1));
+        }
+        saved = GameSnapshot.encode(engine);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return GameSnapshot.encode(engine);
+    }
+
+    @Benchmark
+    public GameEngine decode() throws IOException {
+        return GameSnapshot.decode(saved, engine.getBoard());
+    }
+}
@@ -0,0 +1,124 @@
+package main;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/*
+ * Whole turns and the dice/event part of a turn, played by the BalanceSimulator bot.
+ * A game that ends is replaced by a fresh one, which happens roughly once every hundred turns.
+ * fullTurnJournalled is fullTurnEngine with every action written to a TurnJournal, as the Board does;
+ * the journal is started again whenever it passes JOURNAL_LIMIT, so the file stays small.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TurnBenchmark {
+
+    @Param({"2", "3", "4"})
+    public int playerCount;
+
+    @Param({"24", "240"})
+    public int boardSize;
+
+    static final long JOURNAL_LIMIT = 16 << 20;
+
+    private GameEngine engine;
+    private SimulationKernel kernel;
+
+    private GameEngine journalledEngine;
+    private Path journalDirectory;
+    private int journalCount;
+    private TurnJournal journal;
+
+    @Setup
+    public void setUp() throws IOException {
+        engine = newEngine();
+        kernel = SimulationKernel.fromEngine(engine);
+
+        journalDirectory = Files.createTempDirectory("ecojozi-bench");
+        journalledEngine = newEngine();
+        newJournal();
+    }
+
+    private void newJournal() throws IOException {
+        if (journal != null) {
+            journal.close();
+        }
+        // a new file each time: a closed journal stays mapped until it is collected
+        journal = TurnJournal.create(journalDirectory.resolve("turns-" + journalCount++ + ".journal"), journalledEngine);
+        journalledEngine.setRecorder(journal);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        journal.close();
+        journalDirectory.toFile().deleteOnExit(); // deleted after its files, when nothing maps them
+        try (var files = Files.list(journalDirectory)) {
+            for (Path file : files.toList()) {
+                file.toFile().deleteOnExit();
+            }
+        }
+    }
+
+    private GameEngine newEngine() {
+        return BenchmarkGames.newEngine(playerCount, boardSize, Game.getStartingResources(playerCount));
+    }
+
+    @Benchmark
+    public GameEngine.TurnResult fullTurnEngine() {
+        GameEngine.TurnResult result = BalanceSimulator.playTurn(engine);
+        if (result != GameEngine.TurnResult.NEXT_TURN) {
+            engine = newEngine();
+        }
+        return result;
+    }
+
+    @Benchmark
+    public GameEngine.TurnResult fullTurnJournalled() throws IOException {
+        GameEngine.TurnResult result = BalanceSimulator.playTurn(journalledEngine);
+        if (result != GameEngine.TurnResult.NEXT_TURN) {
+            journalledEngine = newEngine();
+            journalledEngine.setRecorder(journal);
+        }
+        if (journal.getSize() > JOURNAL_LIMIT) {
+            newJournal();
+        }
+        return result;
+    }
+
+    @Benchmark
+    public GameEngine.TurnResult fullTurnKernel() {
+        GameEngine.TurnResult result = BalanceSimulator.playTurn(kernel);
+        if (result != GameEngine.TurnResult.NEXT_TURN) {
+            kernel = SimulationKernel.fromEngine(newEngine());
+        }
+        return result;
+    }
+
+    // Roll, move and resolve the square, without claiming or ending the turn
+    @Benchmark
+    public void diceAndEvent(Blackhole bh) {
+        Player player = engine.getGame().getCurrentPlayer();
+        bh.consume(engine.movePlayer(player, engine.rollDice()));
+        bh.consume(engine.resolveLanding(player));
+    }
+}
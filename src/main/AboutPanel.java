@@ -5,10 +5,8 @@ import java.awt.*;
 
 public class AboutPanel extends JPanel {
     private JFrame mainFrame;
-    private MainMenuPanel previousPanel;
 
-    public AboutPanel(MainMenuPanel previousPanel, JFrame mainFrame) {
-        this.previousPanel = previousPanel;
+    public AboutPanel(JFrame mainFrame) {
         this.mainFrame = mainFrame;
 
         setLayout(new BorderLayout());
@@ -81,10 +79,7 @@ public class AboutPanel extends JPanel {
     }
 
     private void returnToMainMenu() {
-        mainFrame.getContentPane().removeAll();
-        mainFrame.add(previousPanel);
-        mainFrame.revalidate();
-        mainFrame.repaint();
+        ScreenNavigator.of(mainFrame).show(ScreenNavigator.Screen.MAIN_MENU);
     }
 
     private void applyButtonStyle(JButton button) {
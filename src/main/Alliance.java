@@ -5,51 +5,48 @@ import java.util.*;
 public class Alliance {
     private List<Player> members;
     private Task task; // This can be null when the alliance isn't tied to a task.
-    private static List<Alliance> alliances = new ArrayList<>();
+    private final AllianceRegistry registry; // the alliances of the game this one belongs to
 
 
-    //constructor
-    public Alliance(List<Player> members) {
-    	
+    //constructor - registry is usually game.getAlliances()
+    public Alliance(AllianceRegistry registry, List<Player> members) {
+        this.registry = registry;
+
     	// adding a check for max 2 players in an alliance
     	if (members.size() != 2) { 
-            System.out.println("An alliance must have exactly 2 players.");
+            DebugLog.warn(() -> "An alliance must have exactly 2 players.");
             return;
         }
     	
     	// checking  if current player is in a pre-existing alliance
-        if (isPlayerInAnyAlliance(members.get(0)) || isPlayerInAnyAlliance(members.get(1))) {
-            System.out.println("One of the players is already in an alliance.");
+        if (registry.isPlayerInAnyAlliance(members.get(0)) || registry.isPlayerInAnyAlliance(members.get(1))) {
+            DebugLog.warn(() -> "One of the players is already in an alliance.");
             return;
         }
         
         this.members = new ArrayList<>(members);
         this.task = null;
-        alliances.add(this);
-    }
-    
-    
-    // checking  if current player is in a pre-existing alliance
-    public static boolean isPlayerInAnyAlliance(Player player) {
-        for (Alliance alliance : alliances) {
-            if (alliance.isMember(player)) {
-                return true;
-            }
-        }
-        return false;
+        registry.register(this);
     }
 
     
     
     public void addMember(Player player) {
     	if (members.size() >= 2) { // another check
-            System.out.println("An alliance can only have 2 players.");
+            DebugLog.warn(() -> "An alliance can only have 2 players.");
             return;
         }
     	
+        Alliance current = registry.getAllianceOf(player);
+        if (current != null && current != this) {
+            DebugLog.warn(() -> player.getName() + " is already in another alliance.");
+            return;
+        }
+
         if (!members.contains(player)) {
             members.add(player);
-            System.out.println(player.getName() + " joined the alliance.");
+            registry.memberAdded(this, player);
+            DebugLog.debug(() -> player.getName() + " joined the alliance.");
             updateTaskForAlliance();
         }
     }
@@ -64,10 +61,10 @@ public class Alliance {
         if (task != null) {
             if (!members.isEmpty()) {
                 task.setAllianceStatus(true);
-                System.out.println("The task is now marked as an alliance task.");
+                DebugLog.debug(() -> "The task is now marked as an alliance task.");
             } else {
                 task.setAllianceStatus(false);
-                System.out.println("The task is no longer marked as an alliance task.");
+                DebugLog.debug(() -> "The task is no longer marked as an alliance task.");
             }
         }
     }
@@ -76,32 +73,37 @@ public class Alliance {
         return this.task;
     }
 
-    public List<Player> getAlliance() {
-        return this.members;
-    }
-
-    public static List<Alliance> getAllAlliances() {
-        return alliances;
+    // Ties the alliance to a task (or unties it with null)
+    public void setTask(Task task) {
+        Task oldTask = this.task;
+        if (oldTask == task) {
+            return;
+        }
+        if (task != null && registry.getAllianceByTask(task) != null) {
+            DebugLog.warn(() -> "The task already has an alliance: " + task.getDescription());
+            return;
+        }
+        if (oldTask != null) {
+            oldTask.setAllianceStatus(false);
+        }
+        this.task = task;
+        registry.taskChanged(this, oldTask, task);
+        updateTaskForAlliance();
     }
 
-    // Returns the alliance associated with the given task, or null if none exists.
-    public static Alliance getAllianceByTask(Task task) {
-        for (Alliance alliance : alliances) {
-            if (alliance.getTask() != null && alliance.getTask().equals(task)) {
-                return alliance;
-            }
+    // Breaks the alliance up; its members are free to join another one
+    public void dissolve() {
+        if (members == null || !registry.getAlliances().contains(this)) {
+            return;
         }
-        return null;
+        if (task != null) {
+            task.setAllianceStatus(false);
+        }
+        registry.unregister(this);
     }
 
-    // Returns an alliance between two players if it exists; otherwise, null.
-    public static Alliance getAllianceBetween(Player a, Player b) {
-        for (Alliance alliance : alliances) {
-            if (alliance.members.contains(a) && alliance.members.contains(b)) {
-                return alliance;
-            }
-        }
-        return null;
+    public List<Player> getAlliance() {
+        return this.members;
     }
 }
 
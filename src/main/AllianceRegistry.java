@@ -0,0 +1,101 @@
+package main;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * The alliances of one game (see Game.getAlliances), indexed by member and by task.
+ *
+ * Each game has its own registry, so games running side by side in one JVM (the parallel simulator,
+ * tests, a second window) never see each other's alliances and need no shared locks.
+ *
+ * The board asks "is this player allied?" and "which alliance is on this task?" on every refresh and
+ * in the allocation dialog, so both are map lookups instead of scans over every alliance. Alliance
+ * keeps the indexes up to date from its constructor, addMember, setTask and dissolve; nothing else
+ * should change them.
+ *
+ * Players and tasks don't override equals/hashCode, so the maps work on identity, the same as the
+ * List.contains checks they replace.
+ *
+ * A task's alliance is part of how the board shows it, so every change here also fires the task's
+ * change listeners.
+ */
+public class AllianceRegistry {
+
+    private final List<Alliance> alliances = new ArrayList<>(); // in the order they were formed
+    private final Map<Player, Alliance> byPlayer = new HashMap<>();
+    private final Map<Task, Alliance> byTask = new HashMap<>();
+
+    public boolean isPlayerInAnyAlliance(Player player) {
+        return byPlayer.containsKey(player);
+    }
+
+    // The alliance the player belongs to, or null
+    public Alliance getAllianceOf(Player player) {
+        return byPlayer.get(player);
+    }
+
+    // Returns the alliance associated with the given task, or null if none exists.
+    public Alliance getAllianceByTask(Task task) {
+        return byTask.get(task);
+    }
+
+    // Returns an alliance between two players if it exists; otherwise, null.
+    public Alliance getAllianceBetween(Player a, Player b) {
+        Alliance alliance = byPlayer.get(a);
+        return alliance != null && alliance == byPlayer.get(b) ? alliance : null;
+    }
+
+    public List<Alliance> getAlliances() {
+        return Collections.unmodifiableList(alliances);
+    }
+
+    public int size() {
+        return alliances.size();
+    }
+
+    // ---- Index upkeep, called by Alliance ----
+
+    void register(Alliance alliance) {
+        alliances.add(alliance);
+        for (Player member : alliance.getAlliance()) {
+            byPlayer.put(member, alliance);
+        }
+        if (alliance.getTask() != null) {
+            byTask.put(alliance.getTask(), alliance);
+            alliance.getTask().fireChanged();
+        }
+    }
+
+    void memberAdded(Alliance alliance, Player player) {
+        byPlayer.put(player, alliance);
+        if (alliance.getTask() != null) {
+            alliance.getTask().fireChanged();
+        }
+    }
+
+    void taskChanged(Alliance alliance, Task oldTask, Task newTask) {
+        if (oldTask != null) {
+            byTask.remove(oldTask, alliance);
+            oldTask.fireChanged();
+        }
+        if (newTask != null) {
+            byTask.put(newTask, alliance);
+            newTask.fireChanged();
+        }
+    }
+
+    void unregister(Alliance alliance) {
+        alliances.remove(alliance);
+        for (Player member : alliance.getAlliance()) {
+            byPlayer.remove(member, alliance);
+        }
+        if (alliance.getTask() != null) {
+            byTask.remove(alliance.getTask(), alliance);
+            alliance.getTask().fireChanged();
+        }
+    }
+}
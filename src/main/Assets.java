@@ -0,0 +1,124 @@
+package main;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsDevice;
+import java.awt.GraphicsEnvironment;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.image.BaseMultiResolutionImage;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.imageio.ImageIO;
+
+/*
+ * Images for the UI, decoded and scaled off the event dispatch thread.
+ *
+ * Images are read from the classpath (next to this class, e.g. images/EcoJozi_Full.png), falling back
+ * to src/main/ when running straight from a source checkout. Decoding and scaling run on one daemon
+ * thread; the UI asks for an image at a logical size and gets a future of a MultiResolutionImage
+ * holding a pre-scaled BufferedImage for every screen scale in use (1x, and e.g. 1.5x or 2x on HiDPI
+ * screens), so Swing picks the sharp variant and never scales at paint time.
+ *
+ * Decoded images and scaled variants are cached for the life of the JVM. They are read-only, so
+ * sharing them between windows is safe; preload at startup makes the first menu free as well.
+ */
+public final class Assets {
+
+    public static final String LOGO = "images/EcoJozi_Full.png";
+
+    private static final ExecutorService LOADER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ecojozi-assets");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private record Key(String name, int width, int height) {
+    }
+
+    private static final Map<String, CompletableFuture<BufferedImage>> decoded = new ConcurrentHashMap<>();
+    private static final Map<Key, CompletableFuture<Image>> scaled = new ConcurrentHashMap<>();
+
+    private Assets() {
+    }
+
+    // Starts decoding and scaling in the background; call once at startup for images shown early
+    public static void preload(String name, int width, int height) {
+        getImage(name, width, height);
+    }
+
+    /*
+     * The image scaled to width x height logical pixels. Completes on the loader thread; use
+     * getNow / thenAccept with SwingUtilities.invokeLater from the UI rather than join on the EDT.
+     */
+    public static CompletableFuture<Image> getImage(String name, int width, int height) {
+        return scaled.computeIfAbsent(new Key(name, width, height),
+                key -> decode(name).thenApplyAsync(source -> scaleForScreens(source, width, height), LOADER));
+    }
+
+    // The decoded image at its own size
+    public static CompletableFuture<BufferedImage> decode(String name) {
+        return decoded.computeIfAbsent(name, n -> CompletableFuture.supplyAsync(() -> read(n), LOADER));
+    }
+
+    private static BufferedImage read(String name) {
+        try (InputStream in = Assets.class.getResourceAsStream(name)) {
+            BufferedImage image = in != null ? ImageIO.read(in) : ImageIO.read(new File("src/main/" + name));
+            if (image == null) {
+                throw new IOException("Not an image: " + name);
+            }
+            return image;
+        } catch (IOException e) {
+            DebugLog.error(() -> "Could not load " + name, e);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Image scaleForScreens(BufferedImage source, int width, int height) {
+        TreeSet<Double> scales = new TreeSet<>();
+        scales.add(1.0);
+        if (!GraphicsEnvironment.isHeadless()) {
+            for (GraphicsDevice device : GraphicsEnvironment.getLocalGraphicsEnvironment().getScreenDevices()) {
+                scales.add(device.getDefaultConfiguration().getDefaultTransform().getScaleX());
+            }
+        }
+
+        Image[] variants = new Image[scales.size()];
+        int i = 0;
+        for (double scale : scales) {
+            variants[i++] = scale(source, (int) Math.round(width * scale), (int) Math.round(height * scale));
+        }
+        return new BaseMultiResolutionImage(variants);
+    }
+
+    /*
+     * High quality resize. Shrinking is done in halving steps with bilinear filtering, which looks as
+     * good as SCALE_SMOOTH for a fraction of the time; the last step goes to the exact size.
+     */
+    static BufferedImage scale(BufferedImage source, int width, int height) {
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            currentWidth = currentWidth / 2 >= width ? currentWidth / 2 : width;
+            currentHeight = currentHeight / 2 >= height ? currentHeight / 2 : height;
+
+            BufferedImage next = new BufferedImage(currentWidth, currentHeight, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2 = next.createGraphics();
+            g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g2.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            g2.dispose();
+            current = next;
+        } while (currentWidth != width || currentHeight != height);
+        return current;
+    }
+}
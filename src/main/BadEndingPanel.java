@@ -6,19 +6,10 @@ import java.awt.*;
 public class BadEndingPanel extends JPanel{
 
     private JFrame mainFrame;
-    private MainMenuPanel previousPanel;
 
-    public BadEndingPanel(MainMenuPanel previousPanel, JFrame mainFrame) {
-        //this.previousPanel = previousPanel;
+    public BadEndingPanel(JFrame mainFrame) {
         this.mainFrame = mainFrame;
 
-        // If previousPanel is null, create a new main menu panel
-        if (previousPanel == null) {
-            this.previousPanel = new MainMenuPanel(new Game().getPlayers(), mainFrame);
-        } else {
-            this.previousPanel = previousPanel;
-        }
-        
         setLayout(new BorderLayout());
         setBackground(new Color(245, 235, 210));
 
@@ -80,10 +71,7 @@ public class BadEndingPanel extends JPanel{
     }
 
     protected void returnToMainMenu() {
-        mainFrame.getContentPane().removeAll();
-        mainFrame.add(previousPanel);
-        mainFrame.revalidate();
-        mainFrame.repaint();
+        ScreenNavigator.of(mainFrame).show(ScreenNavigator.Screen.MAIN_MENU);
     }
 
 }
@@ -8,7 +8,7 @@ public enum Bad_Events {
         @Override
         public void applyEffect(Player player) {
             player.deductResources(125);
-            System.out.println("Project scope expanded! More work, fewer resources.");
+            DebugLog.debug(() -> "Project scope expanded! More work, fewer resources.");
         }
     },
     SYSTEM_CRASH(
@@ -16,7 +16,7 @@ public enum Bad_Events {
         @Override
         public void applyEffect(Player player) {
             player.updatePosition(player, -1);
-            System.out.println("Unexpected system failure! You lost some progress.");
+            DebugLog.debug(() -> "Unexpected system failure! You lost some progress.");
         }
     },
     SECURITY_BREACH(
@@ -25,7 +25,7 @@ public enum Bad_Events {
         public void applyEffect(Player player) {
             player.deductResources(125);
             //player.discardCurrentTask(); - ruined everything 
-            System.out.println("A security flaw has pushed your schedule back.");
+            DebugLog.debug(() -> "A security flaw has pushed your schedule back.");
         }
     },
     RELEASE_DELAY(
@@ -33,7 +33,7 @@ public enum Bad_Events {
         @Override
         public void applyEffect(Player player) {
             player.updatePosition(player, -1);
-            System.out.println("Your deployment was delayed due to last-minute fixes.");
+            DebugLog.debug(() -> "Your deployment was delayed due to last-minute fixes.");
         }
     };
 
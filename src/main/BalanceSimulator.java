@@ -0,0 +1,329 @@
+package main;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+
+/*
+ * Monte Carlo balance simulator.
+ *
+ * Plays complete games with a simple bot and reports how often each ending happens, how long games
+ * last and when players go bankrupt, for every player count (and so every starting-resource tier
+ * from Game.getStartingResources).
+ *
+ * Games run on the SimulationKernel, which plays by the GameEngine rules without allocating per
+ * turn; the engine version of the bot, playTurn(GameEngine), is kept as the reference it is checked
+ * against. Games are spread over the common ForkJoin pool with a parallel stream. Every worker fills
+ * its own Stats and they are merged at the end, so the only shared work is the final merge.
+ *
+ * Run with: java main.BalanceSimulator [gamesPerPlayerCount] [maxTurns] [seed]
+ */
+public class BalanceSimulator {
+
+    public static final int MIN_PLAYERS = 2;
+    public static final int MAX_PLAYERS = 4;
+    public static final int DEFAULT_MAX_TURNS = 1000;
+    private static final int TURN_BUCKET = 10; // width of one histogram bucket, in turns
+
+    public enum Ending {
+        GOOD,       // all objectives complete
+        BAD,        // all players ran out of resources
+        UNFINISHED  // hit the turn limit first
+    }
+
+    private final int playerCount;
+    private final int maxTurns;
+
+    public BalanceSimulator(int playerCount, int maxTurns) {
+        if (playerCount < MIN_PLAYERS || playerCount > MAX_PLAYERS) {
+            throw new IllegalArgumentException("Player count must be between " + MIN_PLAYERS + " and " + MAX_PLAYERS);
+        }
+        if (maxTurns <= 0) {
+            throw new IllegalArgumentException("Turn limit must be positive");
+        }
+        this.playerCount = playerCount;
+        this.maxTurns = maxTurns;
+    }
+
+    public Stats run(long games) {
+        return run(games, GameRandom.newSeed());
+    }
+
+    /*
+     * Plays the given number of games in parallel and merges the results. Game i always gets
+     * GameRandom.forGame(baseSeed, i), so a run (or any one game of it) can be repeated exactly.
+     */
+    public Stats run(long games, long baseSeed) {
+        return LongStream.range(0, games)
+                .parallel()
+                .collect(() -> new Stats(playerCount, maxTurns),
+                        (stats, gameIndex) -> playGame(stats, GameRandom.forGame(baseSeed, gameIndex)),
+                        Stats::merge);
+    }
+
+    // Plays one game to an ending (or the turn limit) and records it
+    public Ending playGame(Stats stats, GameRandom random) {
+        SimulationKernel kernel = new SimulationKernel(createPlayerNames(), Game.getStartingResources(playerCount), random);
+
+        int[] bankruptAt = new int[playerCount];
+        Arrays.fill(bankruptAt, -1);
+
+        Ending ending = Ending.UNFINISHED;
+        int turn = 0;
+        while (turn < maxTurns) {
+            GameEngine.TurnResult result = playTurn(kernel);
+            turn++;
+
+            // first turn each player hits zero (or below)
+            for (int i = 0; i < playerCount; i++) {
+                if (bankruptAt[i] < 0 && kernel.getResources(i) <= 0) {
+                    bankruptAt[i] = turn;
+                    stats.recordBankruptcy(turn);
+                }
+            }
+
+            if (result == GameEngine.TurnResult.ALL_TASKS_COMPLETE) {
+                ending = Ending.GOOD;
+                break;
+            }
+            if (result == GameEngine.TurnResult.OUT_OF_RESOURCES) {
+                ending = Ending.BAD;
+                break;
+            }
+        }
+
+        stats.recordGame(ending, turn);
+        return ending;
+    }
+
+    private String[] createPlayerNames() {
+        String[] names = new String[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            names[i] = "Bot " + (i + 1);
+        }
+        return names;
+    }
+
+    /*
+     * The bot: roll and move, claim the square if it can afford it, ally with the first free player
+     * while standing on its own task, then put up to half of its resources into each task it can fund
+     * (its partner's included).
+     */
+    static GameEngine.TurnResult playTurn(GameEngine engine) {
+        Player player = engine.getGame().getCurrentPlayer();
+        engine.movePlayer(player, engine.rollDice());
+        engine.resolveLanding(player);
+
+        if (engine.checkClaim(player) == GameEngine.ClaimResult.CLAIMED) {
+            engine.claimTask(player);
+        }
+
+        if (engine.checkAlliance(player) == GameEngine.AllianceResult.FORMED) {
+            List<Player> candidates = engine.getAllianceCandidates(player);
+            if (!candidates.isEmpty()) {
+                engine.formAlliance(player, candidates.get(0));
+            }
+        }
+
+        for (Task task : engine.getAllocatableTasks(player)) {
+            int remaining = task.getRequiredTotalResources() - task.checkResourceBalance();
+            int amount = Math.min(remaining, player.getResources() / 2);
+            if (amount > 0) {
+                engine.allocateResources(player, task, amount);
+            }
+        }
+
+        return engine.endTurn();
+    }
+
+    // The same bot on the kernel: same decisions in the same order, so the same game for the same seed
+    static GameEngine.TurnResult playTurn(SimulationKernel kernel) {
+        int player = kernel.getCurrentPlayer();
+        kernel.movePlayer(player, kernel.rollDice());
+        kernel.resolveLanding(player);
+
+        if (kernel.checkClaim(player) == GameEngine.ClaimResult.CLAIMED) {
+            kernel.claimTask(player);
+        }
+
+        if (kernel.checkAlliance(player) == GameEngine.AllianceResult.FORMED) {
+            for (int other = 0; other < kernel.getPlayerCount(); other++) {
+                if (other != player && kernel.getPartner(other) == SimulationKernel.NO_PLAYER) {
+                    kernel.formAlliance(player, other);
+                    break;
+                }
+            }
+        }
+
+        allocateToHeldTasks(kernel, player, player);
+        if (kernel.getPartner(player) != SimulationKernel.NO_PLAYER) {
+            allocateToHeldTasks(kernel, player, kernel.getPartner(player));
+        }
+
+        return kernel.endTurn();
+    }
+
+    private static void allocateToHeldTasks(SimulationKernel kernel, int player, int holder) {
+        for (int k = 0; k < kernel.getHeldTaskCount(holder); k++) {
+            int task = kernel.getHeldTask(holder, k);
+            int remaining = kernel.getRequiredResources(task) - kernel.getTaskBalance(task);
+            int amount = Math.min(remaining, kernel.getResources(player) / 2);
+            if (amount > 0) {
+                kernel.allocateResources(player, task, amount);
+            }
+        }
+    }
+
+    /*
+     * Results for one player count. Not thread-safe - each worker fills its own and they are merged.
+     */
+    public static class Stats {
+        private final int playerCount;
+        private final long[] turnHistogram;
+        private final long[] bankruptcyHistogram;
+
+        private long games;
+        private long goodEndings;
+        private long badEndings;
+        private long unfinished;
+        private long totalTurns;
+        private int shortestGame = Integer.MAX_VALUE;
+        private int longestGame;
+        private long bankruptcies;
+        private long bankruptcyTurnTotal;
+
+        public Stats(int playerCount, int maxTurns) {
+            this.playerCount = playerCount;
+            this.turnHistogram = new long[maxTurns / TURN_BUCKET + 1];
+            this.bankruptcyHistogram = new long[maxTurns / TURN_BUCKET + 1];
+        }
+
+        void recordGame(Ending ending, int turns) {
+            games++;
+            switch (ending) {
+                case GOOD -> goodEndings++;
+                case BAD -> badEndings++;
+                case UNFINISHED -> unfinished++;
+            }
+            totalTurns += turns;
+            shortestGame = Math.min(shortestGame, turns);
+            longestGame = Math.max(longestGame, turns);
+            turnHistogram[Math.min(turns / TURN_BUCKET, turnHistogram.length - 1)]++;
+        }
+
+        void recordBankruptcy(int turn) {
+            bankruptcies++;
+            bankruptcyTurnTotal += turn;
+            bankruptcyHistogram[Math.min(turn / TURN_BUCKET, bankruptcyHistogram.length - 1)]++;
+        }
+
+        void merge(Stats other) {
+            games += other.games;
+            goodEndings += other.goodEndings;
+            badEndings += other.badEndings;
+            unfinished += other.unfinished;
+            totalTurns += other.totalTurns;
+            shortestGame = Math.min(shortestGame, other.shortestGame);
+            longestGame = Math.max(longestGame, other.longestGame);
+            bankruptcies += other.bankruptcies;
+            bankruptcyTurnTotal += other.bankruptcyTurnTotal;
+            for (int i = 0; i < turnHistogram.length; i++) {
+                turnHistogram[i] += other.turnHistogram[i];
+                bankruptcyHistogram[i] += other.bankruptcyHistogram[i];
+            }
+        }
+
+        public long getGames() {
+            return games;
+        }
+
+        public long getGoodEndings() {
+            return goodEndings;
+        }
+
+        public long getBadEndings() {
+            return badEndings;
+        }
+
+        public long getUnfinished() {
+            return unfinished;
+        }
+
+        public double getGoodEndingRate() {
+            return games == 0 ? 0 : (double) goodEndings / games;
+        }
+
+        public double getBadEndingRate() {
+            return games == 0 ? 0 : (double) badEndings / games;
+        }
+
+        public double getAverageTurns() {
+            return games == 0 ? 0 : (double) totalTurns / games;
+        }
+
+        public long getBankruptcies() {
+            return bankruptcies;
+        }
+
+        public double getAverageBankruptcyTurn() {
+            return bankruptcies == 0 ? 0 : (double) bankruptcyTurnTotal / bankruptcies;
+        }
+
+        // Upper edge of the histogram bucket holding the given percentile (0-100) of game lengths
+        public int getTurnPercentile(double percentile) {
+            return percentileOf(turnHistogram, games, percentile);
+        }
+
+        public int getBankruptcyPercentile(double percentile) {
+            return percentileOf(bankruptcyHistogram, bankruptcies, percentile);
+        }
+
+        private static int percentileOf(long[] histogram, long count, double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long target = (long) Math.ceil(count * percentile / 100.0);
+            long seen = 0;
+            for (int i = 0; i < histogram.length; i++) {
+                seen += histogram[i];
+                if (seen >= target) {
+                    return (i + 1) * TURN_BUCKET;
+                }
+            }
+            return histogram.length * TURN_BUCKET;
+        }
+
+        public String report() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format("%d players (R %d each) - %d games%n",
+                    playerCount, Game.getStartingResources(playerCount), games));
+            sb.append(String.format("  good ending: %6.2f%%   bad ending: %6.2f%%   unfinished: %6.2f%%%n",
+                    100 * getGoodEndingRate(), 100 * getBadEndingRate(), 100.0 * unfinished / Math.max(1, games)));
+            sb.append(String.format("  turns: avg %.1f, min %d, max %d, p50 <= %d, p90 <= %d, p99 <= %d%n",
+                    getAverageTurns(), games == 0 ? 0 : shortestGame, longestGame,
+                    getTurnPercentile(50), getTurnPercentile(90), getTurnPercentile(99)));
+            sb.append(String.format("  bankruptcies: %d (%.2f per game), avg turn %.1f, p50 <= %d, p90 <= %d%n",
+                    bankruptcies, (double) bankruptcies / Math.max(1, games), getAverageBankruptcyTurn(),
+                    getBankruptcyPercentile(50), getBankruptcyPercentile(90)));
+            return sb.toString();
+        }
+    }
+
+    public static void main(String[] args) {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 100_000;
+        int maxTurns = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MAX_TURNS;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : GameRandom.newSeed();
+
+        System.out.println("Simulating " + games + " games per player count on "
+                + Runtime.getRuntime().availableProcessors() + " cores (seed " + seed + ")");
+
+        for (int playerCount = MIN_PLAYERS; playerCount <= MAX_PLAYERS; playerCount++) {
+            long start = System.nanoTime();
+            Stats stats = new BalanceSimulator(playerCount, maxTurns).run(games, seed);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            System.out.print(stats.report());
+            System.out.printf("  %.2fs, %.0f games/s%n%n", seconds, games / seconds);
+        }
+    }
+}
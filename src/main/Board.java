@@ -14,9 +14,13 @@ import javax.swing.*;
 import java.awt.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.io.IOException;
+import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseMotionAdapter;
-import java.util.Random;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
 import javax.swing.JOptionPane;
 import java.util.stream.Collectors;
 
@@ -24,181 +28,146 @@ public class Board {
 
     // Core game and GUI components
     private final Game game;
-    private JTextArea gameLog;
+    private final GameEngine engine;
+    private GameLog gameLog; // newest log entries, also the model of the log list
     private JPanel playersPanel;
     private JButton rollDiceButton;
     private JButton endTurnButton;
 
 
-    // Board square labels
-    private final String[] squareLabels = {
-            "Start", "Define Goals", "Designing MVC Architecture", "Random Event", "Develop Core Functionalities",
-            "Conduct Unit and Integration Testing", "Random Event", "Research Community Needs",
-            "Visual Design and Branding", "Random Event", "Integrate APIs and External Data",
-            "Beta Testing with Local Users", "Hire Developers", "Random Event", "Prototype Core Features",
-            "Set Up Databases", "Random Event", "Performance and Stress Testing",
-            "Budget and Resource Planning", "Random Event", "Accessibility and Inclusivity",
-            "Developing User Interface", "Feedback and Issue Resolution", "Random Event", "Start"
-    };
-
     // Board and task tracking
-    private ArrayList<Task> boardTasks;
-    private final List<JLabel> boardSquares; // Linear representation of board squares
+    private final ArrayList<Task> boardTasks;
+    private final TaskRegistry taskRegistry; // id, square and phase lookups for every objective task
+    private BoardCanvas boardCanvas; // draws every square and player token
+    private TokenAnimator tokenAnimator; // moves tokens square by square after a roll
     private boolean hasRolledDice; // to track
+    private final boolean resumed; // players stay where the saved game left them
+    private TurnJournal journal; // every action since the game was started or resumed; null if not saving
+
+    // Replay mode (see initializeReplayView); null when this board is a game being played
+    static final int REPLAY_STEP_MILLIS = 400; // one turn per step while playing
+    private ReplayTimeline replay;
+    private JSlider replaySlider;
+    private JLabel replayTurnLabel;
+    private Timer replayTimer;
 
-    // Objective categories
-    private final List<Task> planningTasks;
-    private final List<Task> designTasks;
-    private final List<Task> developmentTasks;
-    private final List<Task> testingTasks;
+    // Objective lists, indexed by phase (see TaskRegistry.PHASES)
+    private final List<JList<String>> phaseLists = new ArrayList<>();
 
     // Panels for the board and tasks
     private JPanel boardPanel; // Main board panel
     private JPanel objectivePanel;
 
-    // Board instance
-    private static Board instance;
-    
-    
+    // Settings and window state shared with the menus
+    private final GameSession session;
+
+    // Rendered square backgrounds, shared by all squares of this board
+    private final SquareBackgroundCache squareBackgrounds = new SquareBackgroundCache();
+
+    // Player tokens as sprites, for the board, the players panel and the objective lists
+    static final int PANEL_TOKEN_SIZE = 24;
+    static final int LIST_TOKEN_SIZE = 14;
+    private final TokenAtlas tokenAtlas;
+
+    // What the players and objectives panels show, built off the EDT (see ViewModelPublisher)
+    private final ViewModelPublisher viewModels;
+    private GameViewModel shownViewModel; // the snapshot on screen now
+    private final List<Icon[]> phaseTokenIcons = new ArrayList<>(); // owners' tokens of each objectives row
 
     // Constructor
     public Board(Game game) {
-        this.game = game;
-        this.boardSquares = new ArrayList<>();
-
-        // these arraylists are for the objectives panel & linking to the boardTasks list
-        planningTasks = new ArrayList<>();
-        designTasks = new ArrayList<>();
-        developmentTasks = new ArrayList<>();
-        testingTasks = new ArrayList<>();
-
-        // Planning
-        planningTasks.add(new Task("Planning", 1000, null, 250,  "Define Goals"));
-        planningTasks.add(new Task("Planning", 1000, null, 250,  "Research Community Needs"));
-        planningTasks.add(new Task("Planning", 1500, null, 500,  "Budget and Resource Planning"));
-        planningTasks.add(new Task("Planning", 1500, null, 500,  "Hire Developers"));
-
-        // Design
-        designTasks.add(new Task("Design", 1000, null, 250,  "Designing MVC Architecture"));
-        designTasks.add(new Task("Design", 1500, null, 500, "Visual Design and Branding"));
-        designTasks.add(new Task("Design", 1500, null, 500, "Prototype Core Features"));
-        designTasks.add(new Task("Design", 1000, null, 250,  "Accessibility and Inclusivity"));
-
-        // Development
-        developmentTasks.add(new Task("Development", 1500, null, 500, "Develop Core Functionalities"));
-        developmentTasks.add(new Task("Development", 1000, null, 250,  "Integrate API's and External Data"));
-        developmentTasks.add(new Task("Development", 1000, null, 250,  "Set up Databases"));
-        developmentTasks.add(new Task("Development", 1500, null, 500, "Developing User Interface"));
-
-        // Testing
-        testingTasks.add(new Task("Testing", 1000, null,  250,  "Conduct Unit and Integration Testing"));
-        testingTasks.add(new Task("Testing", 1500, null,  500,  "Beta Testing with Local Users"));
-        testingTasks.add(new Task("Testing", 1500, null,  500,  "Performance and Stress Testing"));
-        testingTasks.add(new Task("Testing", 1000, null, 250,  "Feedback and Issue Resolution"));
-
-        initialiseBoardTasks();
-
-        instance = this; // Storing for global access within code
+        this(game, new GameSession());
     }
 
+    public Board(Game game, GameSession session) {
+        this(new GameEngine(game), session, false);
+    }
 
-    
-    private void initialiseBoardTasks() {
-        int boardSize = 24;
-        boardTasks = new ArrayList<>(boardSize);
-        // Filling boardTasks with null placeholders
-        for (int i = 0; i < boardSize; i++) {
-            boardTasks.add(null);
-        }
+    // A game already under way, e.g. read back by GameSnapshot; it carries on at its saved turn
+    public Board(GameEngine engine, GameSession session) {
+        this(engine, session, true);
+    }
 
-        // Setting start square
-        boardTasks.set(0, new Task("Start", 0,  null, 0, "Start"));
-        // Setting random event squares
-        int[] eventPositions = {3, 6, 9, 13, 16, 19, 23};
-        for (int pos : eventPositions) {
-            boardTasks.set(pos, getRandomEvent());
-        }
+    private Board(GameEngine engine, GameSession session, boolean resumed) {
+        this.game = engine.getGame();
+        this.session = session;
+        this.engine = engine;
+        this.resumed = resumed;
 
-        // 3. Setting task squares
-        int[] objectivePositions = {1, 2, 4, 5, 7, 8, 10, 11, 12, 14, 15, 17, 18, 20, 21, 22};
+        boardTasks = engine.getBoardTasks();
+        taskRegistry = engine.getTaskRegistry();
 
-        int planningIndex = 0;
-        int designIndex = 0;
-        int developmentIndex = 0;
-        int testingIndex = 0;
-        
-        for (int i = 0; i < objectivePositions.length; i++) {
-            int pos = objectivePositions[i];
-            int cycle = i % 4;
-            Task task = null;
-            switch (cycle) {
-                case 0: // Planning
-                	if (pos == 12) {  // Forcing "Hire Developers" to position 12
-                        task = planningTasks.get(3);
-                    } else if (pos == 18) {  // Forcing "Budget and Resource Planning" to position 18
-                        task = planningTasks.get(2);
-                    } else if (planningIndex < planningTasks.size()) {
-                        task = planningTasks.get(planningIndex++);
-                    }
-                    break;
-                case 1: // Design
-                    if (designIndex < designTasks.size()) {
-                        task = designTasks.get(designIndex++);
-                    }
-                    break;
-                case 2: // Development
-                    if (developmentIndex < developmentTasks.size()) {
-                        task = developmentTasks.get(developmentIndex++);
-                    }
-                    break;
-                case 3: // Testing
-                    if (testingIndex < testingTasks.size()) {
-                        task = testingTasks.get(testingIndex++);
-                    }
-                    break;
-            }
-            
-            
-            boardTasks.set(pos, task);
+        // the players are known now, so their tokens are drawn once here (board sizes follow the window)
+        tokenAtlas = TokenAtlas.forPlayers(game.getPlayers());
+        tokenAtlas.prepare(PANEL_TOKEN_SIZE, LIST_TOKEN_SIZE);
+
+        // any task change gets the panels a new snapshot; only the rows that differ are redrawn
+        viewModels = new ViewModelPublisher(game, taskRegistry);
+        viewModels.addListener(this::applyViewModel);
+        for (Task task : taskRegistry.getTasks()) {
+            task.addChangeListener(changed -> viewModels.requestUpdate());
         }
-        
+
+        session.setBoard(this); // so settings changes reach this board
+    }
+
+    public GameEngine getEngine() {
+        return engine;
+    }
+
+    // The parts of the built game board, for the render benchmark (null until initializeGameBoard)
+    BoardCanvas getBoardCanvas() {
+        return boardCanvas;
+    }
+
+    JPanel getObjectivePanel() {
+        return objectivePanel;
     }
-    
 
     /*
-     * Creates an event square by randomly choosing between a Good_Event and a Bad_Event.
-     * We use the enums from package main to pick an event, then create a Task that represents
-     * an event square. In this Task, the 'claimable' flag is set to false and the event enum
-     * is passed as a reference (assuming Task is designed to hold such data).
+     * Saves this game while it is played (see GameSnapshot.AUTOSAVE): a snapshot now, written before
+     * anything else happens, then a new turn journal that records every action after it, and another
+     * snapshot after every turn.
      */
-    private Task getRandomEvent() {
-        Random random = new Random();
-        boolean chooseGood = random.nextBoolean(); // 50/50 chance
-
-        if (chooseGood) {
-            List<Good_Events> goodEvents = Good_Events.getGoodEvent();
-            Good_Events selectedEvent = goodEvents.get(random.nextInt(goodEvents.size()));
-            return new Task("Random Event", 0,  null, 0, selectedEvent.getDescription()) {
-                @Override
-                public void applyEffect(Player player) {
-                    selectedEvent.applyEffect(player);
-                }
-            };
-        } else {
-            List<Bad_Events> badEvents = Bad_Events.getBadEvent(); // method returns list of Bad_Events
-            Bad_Events selectedEvent = badEvents.get(random.nextInt(badEvents.size()));
-            return new Task("Random Event", 0,  null, 0, selectedEvent.getDescription()) {
-                @Override
-                public void applyEffect(Player player) {
-                    selectedEvent.applyEffect(player);
-                    updatePlayerPosition(player);
-                }
-            };
+    void startRecording() {
+        if (GameSnapshot.AUTOSAVE == null || journal != null) {
+            return;
+        }
+        try {
+            GameSnapshot.write(engine, GameSnapshot.AUTOSAVE);
+            journal = TurnJournal.start(GameSnapshot.AUTOSAVE, engine);
+            engine.setRecorder(journal);
+        } catch (IOException e) {
+            DebugLog.warn(() -> "This game will not be saved: " + e.getMessage());
+        }
+    }
+
+    // Stops journalling, e.g. when another game replaces this one; the last save stays
+    void stopRecording() {
+        if (journal == null) {
+            return;
         }
+        engine.setRecorder(null);
+        try {
+            journal.close();
+        } catch (IOException e) {
+            DebugLog.warn(() -> "Could not close the turn journal: " + e.getMessage());
+        }
+        journal = null;
+    }
+
+    // The latest snapshot of the players and tasks; safe to read from any thread
+    public GameViewModel getViewModel() {
+        return viewModels.getSnapshot();
+    }
+
+    // The event itself is drawn by the engine
+    private Task getRandomEvent() {
+        return engine.drawRandomEvent();
     }
 
     public void applyBoardColours() {
-        boolean colourblindMode = SettingsPanel.checkColourblindMode();
+        boolean colourblindMode = session.isColourblindMode();
 
         Color[] normalColors = {
                 new Color(167, 199, 231), // Pastel Blue
@@ -219,43 +188,26 @@ public class Board {
         Color forcedRedNormal = new Color(244, 166, 166); // Pastel Red (normal mode)
         Color forcedRedColourblind = new Color(204, 85, 0);  // Darker Red (colourblind mode)
 
-        if (boardSquares == null || boardSquares.isEmpty()) {
-            System.out.println("Board squares list is empty! Colours not applied.");
+        if (boardCanvas == null) {
+            DebugLog.warn(() -> "Board has not been drawn yet! Colours not applied.");
             return;
         }
 
-        // Counter to track non-forced squares only (so the cyclic order is maintained)
-        int normalColourCounter = 0;
-
-        // updating board squares
-        for (int i = 0; i < boardSquares.size(); i++) {
-            JLabel square = boardSquares.get(i);
-            if (square == null) continue;
-
-            square.setOpaque(true);
-
-            if (i == 0) {
+        // updating board squares - the canvas only repaints squares whose colour changed
+        BoardDefinition board = engine.getBoard();
+        for (int i = 0; i < boardCanvas.getSquareCount(); i++) {
+            switch (board.getSquareType(i)) {
                 // Always set the first square to Pastel Yellow: (250, 243, 168)
-                square.setBackground(new Color(250, 243, 168));
-            }
-            // Override specific indices with forced red:
-            else if (i == 3 || i == 6 || i == 9 || i == 13 || i == 16 || i == 19 || i == 23) {
-                if (colourblindMode) {
-                    square.setBackground(forcedRedColourblind);
-                } else {
-                    square.setBackground(forcedRedNormal);
+                case BoardDefinition.START_SQUARE -> boardCanvas.setSquareColour(i, new Color(250, 243, 168));
+                // Event squares are always red
+                case BoardDefinition.EVENT_SQUARE ->
+                        boardCanvas.setSquareColour(i, colourblindMode ? forcedRedColourblind : forcedRedNormal);
+                // Task squares take the colour of their phase
+                default -> {
+                    int phase = board.getTaskPhase(board.getTaskAt(i));
+                    boardCanvas.setSquareColour(i, colourblindMode ? colourblindColours[phase] : normalColors[phase]);
                 }
             }
-            // For all other squares, apply the cyclic pattern (starting from blue at i == 1)
-            else {
-                if (colourblindMode) {
-                    square.setBackground(colourblindColours[normalColourCounter % colourblindColours.length]);
-                } else {
-                    square.setBackground(normalColors[normalColourCounter % normalColors.length]);
-                }
-                normalColourCounter++; // Increment only when a cyclic colour is applied
-            }
-            square.repaint();
         }
 
         // Updating objective task List Boxes
@@ -275,25 +227,23 @@ public class Board {
         }
 
         // Refreshing UI
-        boardPanel.revalidate();
-        boardPanel.repaint();
         objectivePanel.revalidate();
         objectivePanel.repaint();
-        System.out.println("Colorblind mode applied successfully!");
+        DebugLog.debug(() -> "Colorblind mode applied successfully!");
     }
 
-    public static void updateBoardColours() {
-        if (instance != null) {
-            instance.applyBoardColours();
-        }
-    }
-    
     private void openSettingsPanel() {
-        JFrame mainFrame = (JFrame) SwingUtilities.getWindowAncestor(boardPanel);
-        mainFrame.getContentPane().removeAll();
-        mainFrame.add(new SettingsPanel(new MainMenuPanel(game.getPlayers(), mainFrame), mainFrame));
-        mainFrame.revalidate();
-        mainFrame.repaint();
+        ScreenNavigator.of(boardPanel).show(ScreenNavigator.Screen.SETTINGS);
+    }
+
+    /*
+     * Registers the screens opened from this board: the in-game tutorial and the two endings. They
+     * are built the first time they are shown and replace those of an earlier game in the window.
+     */
+    public void registerScreens(ScreenNavigator navigator, JFrame mainFrame) {
+        navigator.register(ScreenNavigator.Screen.GAME_TUTORIAL, () -> createGameTutorial(mainFrame));
+        navigator.register(ScreenNavigator.Screen.GOOD_ENDING, () -> createEndingPanel(true, mainFrame));
+        navigator.register(ScreenNavigator.Screen.BAD_ENDING, () -> createEndingPanel(false, mainFrame));
     }
 
     public JPanel initializeGameBoard() {
@@ -334,7 +284,6 @@ public class Board {
         // player display panel - left Side
         JPanel playersDisplayPanel = new JPanel();
         playersPanel = playersDisplayPanel;
-        updatePlayersPanel(playersDisplayPanel, game.getPlayers());
         playersDisplayPanel.setPreferredSize(new Dimension(220, 0)); // fixed width
         playersDisplayPanel.setOpaque(false);
 
@@ -344,12 +293,25 @@ public class Board {
 
         applyBoardColours(); // if on - colourblind colors are displayed
 
-        // displaying all players on the Start square initially
-        initializePlayerPositions();
+        // displaying all players on the Start square initially (a resumed game keeps its squares)
+        if (!resumed) {
+            initializePlayerPositions();
+        }
+        applyViewModel(viewModels.updateNow()); // fills the players panel and objectives rows
 
         // game log + player Menu - right Side
         JPanel gameLogPanel = createGameLogPanel();
+        logEvent(GameLog.Kind.GAME, "Game seed: " + game.getSeed()); // lets a reported game be replayed exactly
         JPanel moveMenuPanel = createMoveMenuPanel(playersDisplayPanel);
+        if (resumed) {
+            logEvent(GameLog.Kind.GAME, "Resumed at turn " + (game.getTurn() + 1) + ", "
+                    + game.getCurrentPlayer().getName() + "'s turn");
+            if (engine.hasRolled()) { // saved after the roll: only End Turn is left
+                rollDiceButton.setEnabled(false);
+                endTurnButton.setEnabled(true);
+                hasRolledDice = true;
+            }
+        }
 
         gameLogPanel.setOpaque(false);
         moveMenuPanel.setOpaque(false);
@@ -374,22 +336,186 @@ public class Board {
         return mainPanel;
     }
 
-    private void initializePlayerPositions() {
-        List<Player> players = game.getPlayers();
-        JLabel startingSquare = boardSquares.get(0); // starting on start square
+    // ---- Replay ----
 
-        StringBuilder playersText = new StringBuilder("<html><center>Start<br>");
+    /*
+     * The screen of a recorded game: the same objectives, players panel and board as a game, with turn
+     * controls in place of the player menu. The board must have been made on timeline.getEngine().
+     * Seeking (slider, buttons or Play) jumps straight to the turn: no token animation and no dialogs;
+     * the log lists what was done in the turn before.
+     */
+    public JPanel initializeReplayView(ReplayTimeline timeline) {
+        if (timeline.getEngine() != engine) {
+            throw new IllegalArgumentException("The replay is not of this board's game");
+        }
+        replay = timeline;
 
-        for (Player player : players) {
-            player.setPosition(0); // setting all player positions to 0 (start square)
-            playersText.append(" ").append(player.getCharacter());
+        JPanel mainPanel = new JPanel(new BorderLayout());
+        mainPanel.setBackground(new Color(240, 240, 235));
+
+        objectivePanel = createTaskPhasesPanel();
+        objectivePanel.setOpaque(false);
+        mainPanel.add(objectivePanel, BorderLayout.NORTH);
+
+        playersPanel = new JPanel();
+        playersPanel.setPreferredSize(new Dimension(220, 0)); // fixed width
+        playersPanel.setOpaque(false);
+
+        boardPanel = createBoardPanel();
+        boardPanel.setOpaque(true);
+        applyBoardColours();
+
+        JPanel gameLogPanel = createGameLogPanel();
+        gameLogPanel.setOpaque(false);
+        JPanel controlsPanel = createReplayControls();
+        controlsPanel.setOpaque(false);
+
+        JPanel rightPanel = new JPanel();
+        rightPanel.setLayout(new BoxLayout(rightPanel, BoxLayout.Y_AXIS));
+        rightPanel.setPreferredSize(new Dimension(260, boardPanel.getPreferredSize().height));
+        rightPanel.setOpaque(false);
+        int panelHeight = boardPanel.getPreferredSize().height;
+        gameLogPanel.setPreferredSize(new Dimension(260, (int) (panelHeight * 0.55)));
+        controlsPanel.setPreferredSize(new Dimension(260, (int) (panelHeight * 0.35)));
+        rightPanel.add(gameLogPanel);
+        rightPanel.add(controlsPanel);
+
+        mainPanel.add(playersPanel, BorderLayout.WEST);
+        mainPanel.add(boardPanel, BorderLayout.CENTER);
+        mainPanel.add(rightPanel, BorderLayout.EAST);
+
+        showReplayTurn();
+        return mainPanel;
+    }
+
+    private JPanel createReplayControls() {
+        JPanel controlsPanel = new JPanel(new GridLayout(5, 1, 10, 10));
+        controlsPanel.setBorder(BorderFactory.createTitledBorder(
+                BorderFactory.createLineBorder(Color.BLACK, 1),
+                "Replay", 0, 0, new Font("Arial", Font.BOLD, 14), Color.DARK_GRAY));
+
+        replayTurnLabel = new JLabel("", SwingConstants.CENTER);
+        replayTurnLabel.setFont(new Font("Arial", Font.PLAIN, 14));
+
+        // dragging the slider seeks at every value it passes, so scrubbing shows each turn
+        replaySlider = new JSlider(replay.getFirstTurn(), replay.getLastTurn(), replay.getTurn());
+        replaySlider.setOpaque(false);
+        replaySlider.addChangeListener(e -> seekReplay(replaySlider.getValue()));
+
+        JPanel stepPanel = new JPanel(new GridLayout(1, 4, 5, 0));
+        stepPanel.setOpaque(false);
+        JButton firstButton = new JButton("|<");
+        JButton backButton = new JButton("<");
+        JButton forwardButton = new JButton(">");
+        JButton lastButton = new JButton(">|");
+        firstButton.addActionListener(e -> replaySlider.setValue(replay.getFirstTurn()));
+        backButton.addActionListener(e -> replaySlider.setValue(replaySlider.getValue() - 1));
+        forwardButton.addActionListener(e -> replaySlider.setValue(replaySlider.getValue() + 1));
+        lastButton.addActionListener(e -> replaySlider.setValue(replay.getLastTurn()));
+        for (JButton button : List.of(firstButton, backButton, forwardButton, lastButton)) {
+            applyButtonStyle(button);
+            stepPanel.add(button);
         }
 
-        playersText.append("</center></html>");
+        JButton playButton = new JButton("Play");
+        applyButtonStyle(playButton);
+        replayTimer = new Timer(REPLAY_STEP_MILLIS, e -> {
+            if (replaySlider.getValue() >= replay.getLastTurn()) {
+                replayTimer.stop();
+                playButton.setText("Play");
+            } else {
+                replaySlider.setValue(replaySlider.getValue() + 1);
+            }
+        });
+        playButton.addActionListener(e -> {
+            if (replayTimer.isRunning()) {
+                replayTimer.stop();
+                playButton.setText("Play");
+            } else {
+                replayTimer.start();
+                playButton.setText("Pause");
+            }
+        });
+
+        JButton menuButton = new JButton("Main Menu");
+        applyButtonStyle(menuButton);
+        menuButton.addActionListener(e -> {
+            replayTimer.stop();
+            playButton.setText("Play");
+            ScreenNavigator.of(boardPanel).show(ScreenNavigator.Screen.MAIN_MENU);
+        });
+
+        controlsPanel.add(replayTurnLabel);
+        controlsPanel.add(replaySlider);
+        controlsPanel.add(stepPanel);
+        controlsPanel.add(playButton);
+        controlsPanel.add(menuButton);
+        return controlsPanel;
+    }
+
+    // Shows the replay at the given turn (see ReplayTimeline.seek); package-private for the tests
+    void seekReplay(int turn) {
+        if (turn == replay.getTurn()) {
+            return;
+        }
+        try {
+            replay.seek(turn);
+        } catch (IOException e) {
+            DebugLog.error(() -> "Replay could not go to turn " + (turn + 1), e);
+            return;
+        }
+        showReplayTurn();
+    }
+
+    private void showReplayTurn() {
+        int turn = replay.getTurn();
+        applyViewModel(viewModels.updateNow());
+        boardCanvas.repaint(); // any token can have moved
+        if (replaySlider.getValue() != turn) {
+            replaySlider.setValue(turn);
+        }
+        replayTurnLabel.setText("Turn " + (turn + 1) + " of " + (replay.getLastTurn() + 1)
+                + " - " + game.getCurrentPlayer().getName());
+
+        gameLog.clear();
+        if (turn > replay.getFirstTurn()) {
+            logReplayedTurn(turn - 1);
+        }
+        if (turn == replay.getLastTurn()) {
+            logReplayedTurn(turn); // the actions of the turn the recording stops in
+            if (replay.getFailure() != null) {
+                logEvent(GameLog.Kind.GAME, "The replay stops here: " + replay.getFailure());
+            }
+        }
+    }
+
+    private void logReplayedTurn(int turn) {
+        List<Player> players = game.getPlayers();
+        for (TurnJournal.Entry entry : replay.getEntries(turn)) {
+            String name = players.get(entry.player()).getName();
+            switch (entry.kind()) {
+                case ROLL -> logEvent(GameLog.Kind.MOVE, name + " rolled a " + entry.a());
+                case EVENT -> logEvent(GameLog.Kind.EVENT, "Random Event: " + GameEngine.getEvent(entry.a()).getDescription());
+                case CLAIM -> logEvent(GameLog.Kind.TASK, name + " claimed " + taskRegistry.getTask(entry.a()).getDescription());
+                case ALLOCATE -> logEvent(GameLog.Kind.TASK, name + " allocated R" + entry.b() + " to "
+                        + taskRegistry.getTask(entry.a()).getDescription());
+                case ALLIANCE -> logEvent(GameLog.Kind.ALLIANCE, name + " formed an alliance with "
+                        + players.get(entry.a()).getName());
+                case TRANSFER -> logEvent(GameLog.Kind.TASK, name + " transferred "
+                        + taskRegistry.getTask(entry.a()).getDescription() + " to " + players.get(entry.b()).getName());
+                case END_TURN -> logEvent(GameLog.Kind.TURN, name + "'s turn is over");
+                case MOVE, CHECKSUM -> { } // the roll says how far; checksums were verified on loading
+            }
+        }
+    }
+
+    private void initializePlayerPositions() {
+        for (Player player : game.getPlayers()) {
+            player.setPosition(0); // setting all player positions to 0 (start square)
+        }
 
-        startingSquare.setText(playersText.toString());
-        startingSquare.revalidate();
-        startingSquare.repaint();
+        // the canvas draws the tokens from the players' positions
+        boardCanvas.repaintSquares(0);
     }
 
     private JPanel createTaskPhasesPanel() {
@@ -398,7 +524,7 @@ public class Board {
                 "Objectives", 0, 0, new Font("Arial", Font.BOLD, 14)));
 
         // checking if colourblind mode is enabled
-        boolean isColorblindMode = SettingsPanel.checkColourblindMode();
+        boolean isColorblindMode = session.isColourblindMode();
 
         // defining normal and colourblind colors for objective categories
         Color[] normalPhaseColors = {
@@ -415,15 +541,12 @@ public class Board {
                 new Color(147, 112, 219) // Adjusted Purple (Testing)
         };
 
-        // adding panels for each task category explicitly, just so colours match the current mode
-        taskPhasesPanel.add(createObjectivesPanel("Planning", planningTasks,
-                isColorblindMode ? colourblindPhaseColors[0] : normalPhaseColors[0]));
-        taskPhasesPanel.add(createObjectivesPanel("Design", designTasks,
-                isColorblindMode ? colourblindPhaseColors[1] : normalPhaseColors[1]));
-        taskPhasesPanel.add(createObjectivesPanel("Development", developmentTasks,
-                isColorblindMode ? colourblindPhaseColors[2] : normalPhaseColors[2]));
-        taskPhasesPanel.add(createObjectivesPanel("Testing", testingTasks,
-                isColorblindMode ? colourblindPhaseColors[3] : normalPhaseColors[3]));
+        // adding a panel for each task category, so colours match the current mode
+        phaseLists.clear();
+        for (int phase = 0; phase < TaskRegistry.PHASES.length; phase++) {
+            taskPhasesPanel.add(createObjectivesPanel(TaskRegistry.PHASES[phase], taskRegistry.getPhaseTasks(phase),
+                    isColorblindMode ? colourblindPhaseColors[phase] : normalPhaseColors[phase]));
+        }
 
         return taskPhasesPanel;
     }
@@ -442,6 +565,7 @@ public class Board {
 
         // converting tasks to a list format
         JList<String> taskList = getStringJList(tasks, color);
+        phaseLists.add(taskList);
 
         // Adding hover effect (tooltip) with brief details
         taskList.addMouseMotionListener(new MouseMotionAdapter() {
@@ -449,12 +573,8 @@ public class Board {
             public void mouseMoved(MouseEvent e) {
                 JList<String> list = (JList<String>) e.getSource();
                 int index = list.locationToIndex(e.getPoint());
-                if (index != -1) {
-                    String taskDetails = "<html><b>" + tasks.get(index).getDescription() + "</b><br>"
-                            + "Deposit: " + tasks.get(index).getDeposit()  + "</b><br>"
-                            + "Total Required: " + tasks.get(index).getRequiredTotalResources()  + "</b><br>"
-                            + "Currently Allocated: " + tasks.get(index).checkResourceBalance()  + "</b><br>";
-                    list.setToolTipText(taskDetails);
+                if (index != -1 && shownViewModel != null) {
+                    list.setToolTipText(shownViewModel.getTask(tasks.get(index).getId()).toolTip());
                 }
             }
         });
@@ -468,21 +588,13 @@ public class Board {
         return phasePanel;
     }
 
-    private static JList<String> getStringJList(List<Task> tasks, Color color) {
+    private JList<String> getStringJList(List<Task> tasks, Color color) {
         DefaultListModel<String> taskModel = new DefaultListModel<>();
         for (Task task : tasks) {
-            String text = null;
-            if(task.getOwner()!=null) {
-                Player owner =task.getOwner();
-                text = owner.getCharacter();
-            }
-
-            text = " - " + task.getDescription();
-            if (task.isComplete()) {
-                text += " [DONE]";
-            }
-            taskModel.addElement(text);
+            taskModel.addElement(" - " + task.getDescription()); // replaced by the first snapshot
         }
+        Icon[] tokenIcons = new Icon[tasks.size()];
+        phaseTokenIcons.add(tokenIcons);
 
         // using JList to display tasks
         JList<String> taskList = new JList<>(taskModel);
@@ -491,6 +603,17 @@ public class Board {
         taskList.setOpaque(true);
 
         taskList.setBorder(BorderFactory.createEmptyBorder(5, 5, 5, 5));
+        // owners' tokens follow the row text as sprites
+        taskList.setCellRenderer(new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(JList<?> list, Object value, int index,
+                                                          boolean isSelected, boolean cellHasFocus) {
+                super.getListCellRendererComponent(list, value, index, isSelected, cellHasFocus);
+                setIcon(tokenIcons[index]);
+                setHorizontalTextPosition(SwingConstants.LEADING);
+                return this;
+            }
+        });
         taskList.setSelectionModel(new DefaultListSelectionModel() { // disabling click selection
             @Override
             public void setSelectionInterval(int index0, int index1) {
@@ -500,180 +623,121 @@ public class Board {
         return taskList;
     }
 
-    // on the left - the players area
-    private void updatePlayersPanel(JPanel playersPanel, List<Player> players) {
-        playersPanel.removeAll();
-        playersPanel.setLayout(new GridLayout(players.size(), 1, 10, 10));
-        Player currentPlayer = game.getCurrentPlayer();
-        for (Player player : players) {
-            String playerName = String.format("%s %s", player.getName(), player.getCharacter());
-            String playerResources = String.format("Resources: R %d", player.getResources());
-
-            // Determine alliance status for the player.
-            String allianceInfo = "";
-            for (Alliance a : Alliance.getAllAlliances()) {
-                if (a.isMember(player)) {
-                    if (a.getAlliance().size() == 1) {
-                        allianceInfo = "Alliance needed (1/2)";
-                    } else if (a.getAlliance().size() >= 2) {
-                        allianceInfo = "Alliance formed";
-                    }
-                    break;
-                }
+    // on the left - the players area, one label per player kept from snapshot to snapshot
+    private void updatePlayersPanel(List<GameViewModel.PlayerSummary> players, List<GameViewModel.PlayerSummary> shown) {
+        if (shown == null || shown.size() != players.size()) {
+            playersPanel.removeAll();
+            playersPanel.setLayout(new GridLayout(players.size(), 1, 10, 10));
+            for (int i = 0; i < players.size(); i++) {
+                JLabel playerLabel = new JLabel();
+                playerLabel.setBorder(BorderFactory.createLineBorder(Color.LIGHT_GRAY, 2));
+                playerLabel.setFont(new Font("Arial", Font.PLAIN, 16));
+                playerLabel.setIconTextGap(10);
+                playerLabel.setOpaque(true);
+                playersPanel.add(playerLabel);
             }
+            playersPanel.revalidate();
+            playersPanel.repaint();
+            shown = null;
+        }
 
-            JLabel playerLabel = new JLabel(String.format("<html><b>%s</b><br>%s<br>%s</html>",
-                    playerName, playerResources, allianceInfo));
-            playerLabel.setBorder(BorderFactory.createLineBorder(Color.LIGHT_GRAY, 2));
-            playerLabel.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 16));
-            playerLabel.setOpaque(true);
-            if (player == currentPlayer) {
-                playerLabel.setBackground(new Color(220, 240, 255));
-            } else {
-                playerLabel.setBackground(Color.WHITE);
+        for (int i = 0; i < players.size(); i++) {
+            GameViewModel.PlayerSummary player = players.get(i);
+            if (shown != null && player.equals(shown.get(i))) {
+                continue;
+            }
+            JLabel playerLabel = (JLabel) playersPanel.getComponent(i);
+            playerLabel.setText(player.displayText());
+            if (shown == null || !Objects.equals(player.character(), shown.get(i).character())) {
+                playerLabel.setIcon(getTokenIcon(List.of(Objects.toString(player.character(), "")), PANEL_TOKEN_SIZE));
             }
-            playersPanel.add(playerLabel);
+            playerLabel.setBackground(player.current() ? new Color(220, 240, 255) : Color.WHITE);
         }
-        playersPanel.revalidate();
-        playersPanel.repaint();
     }
 
-    private JPanel createBoardPanel() {
-        int boardSize = 680; // Fixed board size
-        int rowHeight = boardSize / 6; // Uniform height for rows
-        int columnWidth = boardSize / 6; // Uniform width for columns
-
-        JPanel boardPanel = new JPanel(new BorderLayout());
-        boardPanel.setBackground(new Color(245, 235, 210));
-
-        JPanel topRow = new JPanel(new GridLayout(1, 7, 2, 2));
-        JPanel rightColumn = new JPanel(new GridLayout(5, 1, 2, 2));
-        JPanel bottomRow = new JPanel(new GridLayout(1, 7, 2, 2));
-        JPanel leftColumn = new JPanel(new GridLayout(5, 1, 2, 2));
-
-        int index = 0;
-
-        // top row
-        for (int i = 0; i < 7; i++, index++) {
-            JLabel square = createSquareLabel(index, columnWidth, rowHeight);
-            boardSquares.add(square);
-            topRow.add(square);
-        }
-
-        // right column
-        for (int i = 0; i < 5; i++, index++) {
-            JLabel square = createSquareLabel(index, columnWidth, rowHeight);
-            boardSquares.add(square);
-            rightColumn.add(square);
-        }
-
-        // bottom row (reverse order - for movement)
-        for (int i = 6; i >= 0; i--, index++) {
-            JLabel square = createSquareLabel(index, columnWidth, rowHeight);
-            boardSquares.add(square);
-            bottomRow.add(square, 0);
-        }
+    private Icon getTokenIcon(List<String> tokens, int size) {
+        List<String> shown = tokens.stream().filter(token -> !token.isEmpty()).toList();
+        return shown.isEmpty() ? null : tokenAtlas.getIcon(shown.toArray(new String[0]), size);
+    }
 
-        // left column (reverse order - for movement)
-        for (int i = 4; i >= 0; i--, index++) {
-            JLabel square = createSquareLabel(index, columnWidth, rowHeight);
-            boardSquares.add(square);
-            leftColumn.add(square, 0);
+    private JPanel createBoardPanel() {
+        BoardDefinition board = engine.getBoard();
+        String[] labels = new String[board.getSize()];
+        Color[] colours = new Color[board.getSize()];
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = board.getSquareLabel(i);
+            colours[i] = getSquareColor(board, i);
         }
+        boardCanvas = new BoardCanvas(game, labels, colours, squareBackgrounds, tokenAtlas);
+        tokenAnimator = new TokenAnimator(boardCanvas);
 
-        boardPanel.add(topRow, BorderLayout.NORTH);
-        boardPanel.add(rightColumn, BorderLayout.EAST);
-        boardPanel.add(bottomRow, BorderLayout.SOUTH);
-        boardPanel.add(leftColumn, BorderLayout.WEST);
+        // clicking the board finishes a move straight away
+        boardCanvas.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                tokenAnimator.skip();
+            }
+        });
 
-        // fix board panel inside a wrapper
-        JPanel boardWrapper = new JPanel(new GridBagLayout()); // center board
+        // the canvas scales its squares to fill the wrapper
+        JPanel boardWrapper = new JPanel(new BorderLayout());
         boardWrapper.setPreferredSize(new Dimension(700, 700));
-        boardWrapper.add(boardPanel);
+        boardWrapper.add(boardCanvas, BorderLayout.CENTER);
 
         return boardWrapper;
     }
 
-    private JLabel createSquareLabel(int index, int width, int height) {
-        String text = squareLabels[index];
-
-        JLabel square = new RoundedLabel("<html><div style='text-align:center; width:90px;'>"
-                + text.replace("\n", "<br>")
-                + "</div></html>", getSquareColor(text));
-
-        square.setFont(new Font("Arial", Font.BOLD, 12));
-        square.setForeground(Color.DARK_GRAY);
-
-        // set fixed size
-        square.setPreferredSize(new Dimension(width, height));
-        square.setMinimumSize(new Dimension(width, height));
-        square.setMaximumSize(new Dimension(width, height));
+    private Color getSquareColor(BoardDefinition board, int squareIndex) {
+        Color[] phaseColors = {
+                new Color(173, 216, 230), // light blue - Planning
+                new Color(255, 204, 153), // light orange - Design
+                new Color(144, 238, 144), // light green - Development
+                new Color(221, 160, 221)  // light purple - Testing
+        };
 
-        return square;
+        return switch (board.getSquareType(squareIndex)) {
+            case BoardDefinition.EVENT_SQUARE -> new Color(240, 128, 128);
+            case BoardDefinition.TASK_SQUARE -> phaseColors[board.getTaskPhase(board.getTaskAt(squareIndex))];
+            default -> Color.LIGHT_GRAY; // Start
+        };
     }
 
-    static class RoundedLabel extends JLabel {
-        private final Color bgColor;
-
-        public RoundedLabel(String text, Color bgColor) {
-            super(text, SwingConstants.CENTER);
-            this.bgColor = bgColor;
-            setOpaque(false);
-        }
-
-        @Override
-        protected void paintComponent(Graphics g) {
-            Graphics2D g2 = (Graphics2D) g.create();
-            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-            // fill the background color (Rounded Rectangle)
-            g2.setColor(bgColor);
-            g2.fillRoundRect(0, 0, getWidth(), getHeight(), 20, 20);
-
-            // add White Curved Border
-            g2.setColor(Color.WHITE); // Border Color
-            g2.setStroke(new BasicStroke(3)); // Border Thickness
-            g2.drawRoundRect(1, 1, getWidth() - 2, getHeight() - 2, 20, 20);
+    private JPanel createGameLogPanel() {
+        gameLog = new GameLog();
+
+        // a JList only renders the rows in view, and fixed row heights mean it never measures the rest
+        JList<GameLog.Entry> logList = new JList<>(gameLog);
+        Font logFont = new Font("Arial", Font.PLAIN, 14);
+        logList.setFont(logFont);
+        logList.setFixedCellHeight(logList.getFontMetrics(logFont).getHeight() + 6);
+        logList.setFixedCellWidth(1); // stretched to the viewport; long lines end in "..." and show in full as a tooltip
+        logList.setCellRenderer(new LogEntryRenderer());
+        logList.setSelectionModel(new DefaultListSelectionModel() { // disabling click selection
+            @Override
+            public void setSelectionInterval(int index0, int index1) {
+                super.setSelectionInterval(-1, -1);
+            }
+        });
 
-            super.paintComponent(g);
-            g2.dispose();
-        }
-    }
+        // keep the newest entry in view; called once per batch of appends
+        gameLog.addListDataListener(new ListDataListener() {
+            @Override
+            public void intervalAdded(ListDataEvent e) {
+                logList.ensureIndexIsVisible(e.getIndex1());
+            }
 
-    private Color getSquareColor(String squareText) {
-        Color color;
-
-        if (squareText.contains("Define Goals") || squareText.contains("Budget and Resource Planning")
-                || squareText.contains("Research Community Needs") || squareText.contains("Hire Developers")) {
-            color = new Color(173, 216, 230); // light blue - Planning
-        } else if (squareText.contains("Designing MVC") || squareText.contains("Visual Design and Branding")
-                || squareText.contains("Prototype Core Features") || squareText.contains("Accessibility and Inclusivity")) {
-            color = new Color(255, 204, 153); // light orange - Design
-        } else if (squareText.contains("Develop Core Functionalities") || squareText.contains("Developing User Interface")
-                || squareText.contains("Set Up Databases") || squareText.contains("Integrate APIs and External Data")) {
-            color = new Color(144, 238, 144); // light green - Development
-        } else if (squareText.contains("Conduct Unit and Integration Testing") || squareText.contains("Performance and Stress Testing")
-                || squareText.contains("Beta Testing") || squareText.contains("Feedback and Issue Resolution")) {
-            color = new Color(221, 160, 221); // light purple - Testing
-        } else if (squareText.contains("Random Event")) {
-            color = new Color(240, 128, 128);
-        } else {
-            color = Color.LIGHT_GRAY; // default for anything unspecified
-        }
+            @Override
+            public void intervalRemoved(ListDataEvent e) {
+            }
 
-        return color;
-    }
+            @Override
+            public void contentsChanged(ListDataEvent e) {
+            }
+        });
 
-    private JPanel createGameLogPanel() {
-        gameLog = new JTextArea(15, 30);
-        gameLog.setEditable(false);
-        gameLog.setLineWrap(true);
-        gameLog.setWrapStyleWord(true);
-        gameLog.setFont(new Font("Arial", Font.PLAIN, 14));
-        gameLog.setMargin(new Insets(8, 8, 8, 8));
-
-        JScrollPane scrollPane = new JScrollPane(gameLog);
+        JScrollPane scrollPane = new JScrollPane(logList);
         scrollPane.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_ALWAYS);
+        scrollPane.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);
 
         JPanel gameLogPanel = new JPanel(new BorderLayout());
         gameLogPanel.setBorder(BorderFactory.createTitledBorder(BorderFactory.createLineBorder(Color.BLACK, 1), "Game Log", 0, 0, new Font("Arial", Font.BOLD, 14), Color.DARK_GRAY));
@@ -683,9 +747,28 @@ public class Board {
         return gameLogPanel;
     }
 
+    // One line per log entry, coloured by kind
+    private static class LogEntryRenderer extends DefaultListCellRenderer {
+        @Override
+        public Component getListCellRendererComponent(JList<?> list, Object value, int index,
+                                                      boolean isSelected, boolean cellHasFocus) {
+            super.getListCellRendererComponent(list, value, index, false, false);
+            GameLog.Entry entry = (GameLog.Entry) value;
+            setText(entry.text());
+            setToolTipText(entry.text());
+            setBorder(BorderFactory.createEmptyBorder(0, 8, 0, 8));
+            setForeground(switch (entry.kind()) {
+                case GAME -> new Color(0, 100, 0);
+                case EVENT -> new Color(170, 60, 0);
+                case ALLIANCE -> new Color(90, 60, 150);
+                default -> Color.DARK_GRAY;
+            });
+            return this;
+        }
+    }
+
     private boolean checkIsRandomEvent(int position) {
-        Task task = boardTasks.get(position);
-        return "Random Event".equals(task.getObjective());
+        return engine.isRandomEventSquare(position);
     }
 
     /*
@@ -701,34 +784,30 @@ public class Board {
         getRollDiceButton(playersPanel, moveMenuPanel);
 
         // End Turn button action listener
-        endTurnButton.addActionListener(e -> {
-
-            // Check if all tasks are complete, if true, runs endgame sequence
-            if (boardTasks.stream().allMatch(Task::isComplete)) {
-                logEvent("All tasks complete!");
-                JOptionPane.showMessageDialog(boardPanel,"All tasks complete! Congratulations!","Victory!",JOptionPane.INFORMATION_MESSAGE);
-                runEndGameSequence(true);            }
-
-            if (!hasRolledDice) {
-                JOptionPane.showMessageDialog(boardPanel, "Play your turn!", "Action Blocked", JOptionPane.WARNING_MESSAGE);
-                return;
-            }
-
-            rollDiceButton.setEnabled(true);
-            endTurnButton.setEnabled(false);
-            hasRolledDice = false;
-            if(!areAllPlayersOutOfResources()) {
-                game.nextTurn();
-                updatePlayersPanel(playersPanel, game.getPlayers());
-                refreshObjectivePanel();
-                logEvent(game.getCurrentPlayer().getName() + "'s turn");
-            } else {
-                logEvent("All the players have run out of resources.");
-                JOptionPane.showMessageDialog(boardPanel,"All the players have run out of resources.","Game Over!",JOptionPane.WARNING_MESSAGE );
-                runEndGameSequence(false);
+        endTurnButton.addActionListener(EdtMonitor.timed(EdtMonitor.Action.END_TURN, e -> {
+            switch (engine.endTurn()) {
+                // all tasks complete, runs endgame sequence
+                case ALL_TASKS_COMPLETE -> {
+                    logEvent(GameLog.Kind.GAME, "All tasks complete!");
+                    JOptionPane.showMessageDialog(boardPanel,"All tasks complete! Congratulations!","Victory!",JOptionPane.INFORMATION_MESSAGE);
+                    runEndGameSequence(true);
+                }
+                case NOT_ROLLED ->
+                    JOptionPane.showMessageDialog(boardPanel, "Play your turn!", "Action Blocked", JOptionPane.WARNING_MESSAGE);
+                case OUT_OF_RESOURCES -> {
+                    resetTurnButtons();
+                    logEvent(GameLog.Kind.GAME, "All the players have run out of resources.");
+                    JOptionPane.showMessageDialog(boardPanel,"All the players have run out of resources.","Game Over!",JOptionPane.WARNING_MESSAGE );
+                    runEndGameSequence(false);
+                }
+                case NEXT_TURN -> {
+                    resetTurnButtons();
+                    viewModels.requestUpdate();
+                    GameSnapshot.checkpoint(engine, GameSnapshot.AUTOSAVE); // written in the background
+                    logEvent(GameLog.Kind.TURN, game.getCurrentPlayer().getName() + "'s turn");
+                }
             }
-
-        });
+        }));
 
         // Claim Task button
         JButton claimTaskButton = getClaimTaskButton();
@@ -763,8 +842,14 @@ public class Board {
         return moveMenuPanel;
     }
 
+    private void resetTurnButtons() {
+        rollDiceButton.setEnabled(true);
+        endTurnButton.setEnabled(false);
+        hasRolledDice = false;
+    }
+
     private boolean areAllPlayersOutOfResources() {
-        return game.getPlayers().stream().allMatch(player -> player.getResources() == 0);
+        return engine.areAllPlayersOutOfResources();
     }
 
     private void simulateMaxResourceAllocation() {
@@ -791,59 +876,48 @@ public class Board {
         endTurnButton.setEnabled(false);
 
         // Roll Dice button action listener
-        rollDiceButton.addActionListener(e -> {
+        rollDiceButton.addActionListener(EdtMonitor.timed(EdtMonitor.Action.ROLL, e -> {
             rollDiceButton.setEnabled(false);
             hasRolledDice = false;
             Player currentPlayer = game.getCurrentPlayer();
-            int diceRoll = currentPlayer.rollDice();
-            logEvent(currentPlayer.getName() + " rolled a " + diceRoll);
-
-            new Thread(() -> {
-                try {
-                    for (int i = 1; i <= diceRoll; i++) {
-                        SwingUtilities.invokeAndWait(() -> {
-                            int nextPosition = getNextPosition(currentPlayer.getPosition());
-                            currentPlayer.setPosition(nextPosition);
-                            updatePlayerPosition(currentPlayer);
-
-                            if (nextPosition == 0) {
-                                currentPlayer.addResources(1000);
-                                logEvent("Next Round!!!");
-                                logEvent(currentPlayer.getName() + " has completed a lap of the board and received 1000 rands");
+            int diceRoll = engine.rollDice();
+            logEvent(GameLog.Kind.MOVE, currentPlayer.getName() + " rolled a " + diceRoll);
+
+            tokenAnimator.setStepMillis(session.getAnimationStepMillis());
+            tokenAnimator.setSkipAnimation(session.isSkipAnimation());
+            tokenAnimator.animateMove(currentPlayer, diceRoll,
+                    () -> {
+                        boolean completedLap = engine.stepPlayer(currentPlayer);
+                        if (completedLap) {
+                            logEvent(GameLog.Kind.MOVE, "Next Round!!!");
+                            logEvent(GameLog.Kind.MOVE, currentPlayer.getName() + " has completed a lap of the board and received " + GameEngine.LAP_BONUS + " rands");
+                        }
+                    },
+                    () -> {
+                        try {
+                            // After moving the full dice roll, trigger a random event if the final position qualifies.
+                            if (checkIsRandomEvent(currentPlayer.getPosition())) {
+                                Task randomEventTask = getRandomEvent();
+                                String eventMessage = "Random Event: " + randomEventTask.getDescription();
+                                JOptionPane.showMessageDialog(boardPanel, eventMessage, "Random Event", JOptionPane.INFORMATION_MESSAGE);
+                                logEvent(GameLog.Kind.EVENT, eventMessage);
+                                randomEventTask.applyEffect(currentPlayer);
+                                updatePlayerPosition(currentPlayer); // bad events can move the player back
                             }
-                        });
-                        Thread.sleep(500);
-                    }
-
-                    // After moving the full dice roll, trigger a random event if the final position qualifies.
-                    int finalPosition = currentPlayer.getPosition();
-                    if (checkIsRandomEvent(finalPosition)) {
-                        SwingUtilities.invokeAndWait(() -> {
-                            Task randomEventTask = getRandomEvent();
-                            String eventMessage = "Random Event: " + randomEventTask.getDescription();
-                            JOptionPane.showMessageDialog(boardPanel, eventMessage, "Random Event", JOptionPane.INFORMATION_MESSAGE);
-                            logEvent(eventMessage);
-                            randomEventTask.applyEffect(currentPlayer);
-                        });
-                    }
-
-                } catch (Exception ex) {
-                    ex.printStackTrace();
-                } finally {
-                    SwingUtilities.invokeLater(() -> {
-                        updatePlayersPanel(playersPanel, game.getPlayers());
-                        hasRolledDice = true;
-                        endTurnButton.setEnabled(true);
+                        } catch (RuntimeException ex) {
+                            DebugLog.error(() -> "Dice roll failed for " + currentPlayer.getName(), ex);
+                        } finally {
+                            viewModels.requestUpdate();
+                            hasRolledDice = true;
+                            endTurnButton.setEnabled(true);
 
+                            logEvent(GameLog.Kind.TURN, currentPlayer.getName() + "'s turn is over. Click 'End Turn' to proceed.");
 
-                        logEvent(currentPlayer.getName() + "'s turn is over. Click 'End Turn' to proceed.");
-                        
-                        moveMenuPanel.revalidate();
-                        moveMenuPanel.repaint();
+                            moveMenuPanel.revalidate();
+                            moveMenuPanel.repaint();
+                        }
                     });
-                }
-            }).start();
-        });
+        }));
     }
 
     private JButton getClaimTaskButton() {
@@ -851,23 +925,18 @@ public class Board {
         applyButtonStyle(claimTaskButton);
 
         claimTaskButton.addActionListener(e ->
-                SwingUtilities.invokeLater(() -> {
+                SwingUtilities.invokeLater(EdtMonitor.timed(EdtMonitor.Action.CLAIM, () -> {
                     Player currentPlayer = game.getCurrentPlayer();
-                    int pos = currentPlayer.getPosition();
-                    Task task = boardTasks.get(pos);
-                    // Check for Random Event first.
-                    if (task != null && "Random Event".equals(task.getObjective())) {
-                        JOptionPane.showMessageDialog(boardPanel, "You can't claim a random square.");
-                        return;
+                    Task task = taskRegistry.getTaskAtSquare(currentPlayer.getPosition());
+                    switch (engine.checkClaim(currentPlayer)) {
+                        case RANDOM_SQUARE ->
+                            JOptionPane.showMessageDialog(boardPanel, "You can't claim a random square.");
+                        case START_SQUARE ->
+                            JOptionPane.showMessageDialog(boardPanel,
+                                    "You cannot claim the Start square.", "Error", JOptionPane.ERROR_MESSAGE);
+                        default -> claimTask(task);
                     }
-
-                    if (pos == 0) {
-                        JOptionPane.showMessageDialog(boardPanel,
-                                "You cannot claim the Start square.", "Error", JOptionPane.ERROR_MESSAGE);
-                        return;
-                    }
-                    claimTask(task);
-                })
+                }))
         );
         return claimTaskButton;
     }
@@ -877,42 +946,11 @@ public class Board {
         applyButtonStyle(allocateResourcesButton);
 
         allocateResourcesButton.addActionListener(e ->
-                SwingUtilities.invokeLater(() -> {
+                SwingUtilities.invokeLater(EdtMonitor.timed(EdtMonitor.Action.ALLOCATE, () -> {
                     Player currentPlayer = game.getCurrentPlayer();
-                    
-                    
-                    // Debugging: Check what tasks the player owns
-                    System.out.println("🔍 Checking player's claimed tasks: " + currentPlayer.getTasks());
-                    for (Task t : currentPlayer.getTasks()) {
-                        System.out.println("  - Task: " + t.getDescription() + ", Owner: " + (t.getOwner() != null ? t.getOwner().getName() : "None"));
-                    }
-                    
-                    List<Task> availableTasks = new ArrayList<>();
 
-                    // Get all tasks owned by the current player
-                    availableTasks.addAll(currentPlayer.getTasks().stream()
-                            .filter(task -> !task.isComplete())
-                            .collect(Collectors.toList()));
-                    
-                    // debugging
-                    System.out.println("🔍 Checking all claimed tasks for allocation:");
-                    for (Task task : currentPlayer.getTasks()) {
-                        System.out.println("  - Task: " + task.getDescription() + ", Completed: " + task.isComplete() + ", Balance: " + task.checkResourceBalance());
-                    }
-
-                    
-                    // Add tasks from alliance partners
-                    for (Alliance alliance : Alliance.getAllAlliances()) {
-                        if (alliance.isMember(currentPlayer)) {
-                            for (Player partner : alliance.getAlliance()) {
-                                if (partner != currentPlayer) {
-                                    availableTasks.addAll(partner.getTasks().stream()
-                                            .filter(task -> !task.isComplete())
-                                            .collect(Collectors.toList()));
-                                }
-                            }
-                        }
-                    }
+                    // Tasks owned by the current player and their alliance partners
+                    List<Task> availableTasks = engine.getAllocatableTasks(currentPlayer);
 
                     // Check if player has any tasks available
                     if (availableTasks.isEmpty()) {
@@ -981,55 +1019,36 @@ public class Board {
 
                     try {
                         int amount = Integer.parseInt(input);
-                        if (amount <= 0) {
-                            JOptionPane.showMessageDialog(boardPanel, "Please enter a positive amount.");
-                            return;
-                        }
-                        if (amount > currentPlayer.getResources()) {
-                            JOptionPane.showMessageDialog(boardPanel, "Insufficient funds.");
-                            return;
-                        }
-
-                        // Ensure the allocation does not exceed the required total
-                        int currentAllocated = selectedTask.checkResourceBalance();
-                        if (currentAllocated + amount > selectedTask.getRequiredTotalResources()) {
-                            JOptionPane.showMessageDialog(boardPanel, "You cannot allocate more than the required resources for this task. " +
-                                    "Currently allocated: R " + currentAllocated + ", Required total: R " + selectedTask.getRequiredTotalResources());
-                            return;
-                        }
-
-                        // Deduct resources from the current player
-                        currentPlayer.deductResources(amount);
 
-                        // Update task's resource balance
-                        selectedTask.updateResourceBalance(amount);
-
-                        // Check if task is now complete
-                        boolean taskCompleted = selectedTask.isComplete();
-
-                        if (taskCompleted) {
-                            // If task completed, the task owner gets the 500 resources back
-                            taskOwner.addResources(500);
-                            selectedTask.markAsComplete();
+                        switch (engine.allocateResources(currentPlayer, selectedTask, amount)) {
+                            case INVALID_AMOUNT ->
+                                JOptionPane.showMessageDialog(boardPanel, "Please enter a positive amount.");
+                            case INSUFFICIENT_FUNDS ->
+                                JOptionPane.showMessageDialog(boardPanel, "Insufficient funds.");
+                            case EXCEEDS_REQUIRED ->
+                                JOptionPane.showMessageDialog(boardPanel, "You cannot allocate more than the required resources for this task. " +
+                                        "Currently allocated: R " + selectedTask.checkResourceBalance() + ", Required total: R " + selectedTask.getRequiredTotalResources());
+                            case ALREADY_COMPLETE ->
+                                JOptionPane.showMessageDialog(boardPanel,
+                                        "This task is already completed. You cannot allocate further resources.");
+                            case COMPLETED -> {
+                                // the task owner gets the 500 resources back
+                                String completionMessage = "Task complete!";
+                                if (taskOwner == currentPlayer) {
+                                    completionMessage += " You have been awarded " + GameEngine.COMPLETION_REFUND + " resources back!";
+                                } else {
+                                    completionMessage += " " + taskOwner.getName() + " has received " + GameEngine.COMPLETION_REFUND + " resources back!";
+                                }
 
-                            String completionMessage = "Task complete!";
-                            if (taskOwner == currentPlayer) {
-                                completionMessage += " You have been awarded 500 resources back!";
-                            } else {
-                                completionMessage += " " + taskOwner.getName() + " has received 500 resources back!";
+                                JOptionPane.showMessageDialog(boardPanel, completionMessage);
                             }
-
-                            JOptionPane.showMessageDialog(boardPanel, completionMessage);
-                        } else {
-                            JOptionPane.showMessageDialog(boardPanel, "Allocated R " + amount + " to task: " + selectedTask.getDescription());
+                            case ALLOCATED ->
+                                JOptionPane.showMessageDialog(boardPanel, "Allocated R " + amount + " to task: " + selectedTask.getDescription());
                         }
-
-                        // Refresh the objectives panel so that the task displays correctly
-                        refreshObjectivePanel();
                     } catch (NumberFormatException ex) {
                         JOptionPane.showMessageDialog(boardPanel, "Invalid number entered.");
                     }
-                })
+                }))
         );
         return allocateResourcesButton;
     }
@@ -1038,16 +1057,22 @@ public class Board {
         Runs the endgame sequence if the players have won or lost the game
      */
     private void runEndGameSequence(boolean b) {
-        JFrame mainFrame = (JFrame) SwingUtilities.getWindowAncestor(boardPanel);
-        Container originalContentPane = mainFrame.getContentPane();
-
-        JPanel endGame = null;
+        stopRecording();
+        if (GameSnapshot.AUTOSAVE != null) { // nothing left to continue; the journal stays, to be watched
+            GameSnapshot.discard(GameSnapshot.AUTOSAVE);
+            GameSnapshot.discard(TurnJournal.linkFor(GameSnapshot.AUTOSAVE));
+        }
+        ScreenNavigator navigator = ScreenNavigator.of(boardPanel);
         if (b == true) {    // Calls good ending if all objectives are complete
-            endGame = new GoodEndingPanel(null, mainFrame);
+            navigator.show(ScreenNavigator.Screen.GOOD_ENDING);
         }
         else {               // Calls bad ending if all players went bankrupt
-            endGame = new BadEndingPanel(null, mainFrame);
+            navigator.show(ScreenNavigator.Screen.BAD_ENDING);
         }
+    }
+
+    private JPanel createEndingPanel(boolean won, JFrame mainFrame) {
+        JPanel endGame = won ? new GoodEndingPanel(mainFrame) : new BadEndingPanel(mainFrame);
 
         JPanel topPanel = new JPanel(new BorderLayout());
         topPanel.setBackground(new Color(240, 240, 235));
@@ -1060,11 +1085,7 @@ public class Board {
         JButton backButton = new JButton("Back to Game");
         applyButtonStyle(backButton);
         backButton.setPreferredSize(new Dimension(130, 30));
-        backButton.addActionListener(event -> {
-            mainFrame.setContentPane(originalContentPane);
-            mainFrame.revalidate();
-            mainFrame.repaint();
-        });
+        backButton.addActionListener(event -> ScreenNavigator.of(mainFrame).show(ScreenNavigator.Screen.GAME));
 
         // Main Menu button (returns to the start screen)
         JButton mainMenuButton = new JButton("Return to Main Menu");
@@ -1074,28 +1095,8 @@ public class Board {
             // Reset the frame to its default state
             mainFrame.dispose(); // Close the current frame
 
-            // Create a new frame with proper settings
-            JFrame newFrame = new JFrame("EcoJozi Board Game");
-            newFrame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-            newFrame.setLayout(new BorderLayout());
-            newFrame.setExtendedState(JFrame.MAXIMIZED_BOTH);
-            newFrame.setUndecorated(false);
-            newFrame.setLocationRelativeTo(null);
-
-            // Reset the game
-            Game newGame = new Game();
-
-            // Create a fresh main menu panel
-            MainMenuPanel mainMenuPanel = new MainMenuPanel(newGame.getPlayers(), newFrame);
-
-            // Add the panel to the new frame
-            newFrame.add(mainMenuPanel, BorderLayout.CENTER);
-
-            // Make the new frame visible
-            newFrame.setVisible(true);
-
-            // Update color settings
-            Board.updateBoardColours();
+            // Create a new frame with a fresh game
+            MainMenuPanel.showInNewFrame(new Game(), session);
         });
 
         // Add buttons to the button panel
@@ -1105,10 +1106,7 @@ public class Board {
         // Add the button panel to the top panel
         topPanel.add(buttonPanel, BorderLayout.WEST);
         endGame.add(topPanel, BorderLayout.NORTH);
-
-        mainFrame.setContentPane(endGame);
-        mainFrame.revalidate();
-        mainFrame.repaint();
+        return endGame;
     }
 
     private JButton getAllianceButton(JPanel playersPanel) {
@@ -1116,48 +1114,37 @@ public class Board {
         applyButtonStyle(formAllianceButton);
 
         formAllianceButton.addActionListener(e ->
-                SwingUtilities.invokeLater(() -> {
+                SwingUtilities.invokeLater(EdtMonitor.timed(EdtMonitor.Action.ALLIANCE, () -> {
                     Player currentPlayer = game.getCurrentPlayer();
-                    Task task = boardTasks.get(currentPlayer.getPosition());
-                    
-                    // checking if player exists in a pre-existing alliance
-                    if (Alliance.isPlayerInAnyAlliance(currentPlayer)) {
-                        JOptionPane.showMessageDialog(boardPanel, "You are already in an alliance and cannot form another one.", "Error", JOptionPane.ERROR_MESSAGE);
-                        return;
-                    }
-                    
-                    // If on a Random Event square, prevent alliance formation.
-                    if (task != null && "Random Event".equals(task.getObjective())) {
-                        JOptionPane.showMessageDialog(boardPanel, "You cannot form an alliance on a random square.");
-                        return;
-                    }
-
-                    if (currentPlayer.getPosition() == 0) {
-                        JOptionPane.showMessageDialog(boardPanel,
-                                "You cannot form an alliance on the Start square.", "Error", JOptionPane.ERROR_MESSAGE);
-                        return;
-                    } else
 
-                        // Prevent alliance formation if the task is already complete.
-                        if (task != null && task.isComplete()) {
+                    switch (engine.checkAlliance(currentPlayer)) {
+                        case ALREADY_IN_ALLIANCE -> {
+                            JOptionPane.showMessageDialog(boardPanel, "You are already in an alliance and cannot form another one.", "Error", JOptionPane.ERROR_MESSAGE);
+                            return;
+                        }
+                        case RANDOM_SQUARE -> {
+                            JOptionPane.showMessageDialog(boardPanel, "You cannot form an alliance on a random square.");
+                            return;
+                        }
+                        case START_SQUARE -> {
+                            JOptionPane.showMessageDialog(boardPanel,
+                                    "You cannot form an alliance on the Start square.", "Error", JOptionPane.ERROR_MESSAGE);
+                            return;
+                        }
+                        case TASK_COMPLETE -> {
                             JOptionPane.showMessageDialog(boardPanel, "This task is already completed. You cannot form an alliance on a completed task.");
                             return;
                         }
-
-                    // Only allow alliance formation if the current player owns the task.
-                    if (task == null || task.getOwner() == null || !task.getOwner().equals(currentPlayer)) {
-                        JOptionPane.showMessageDialog(boardPanel, "You can only enter an alliance on a task you own.");
-                        return;
-                    }
-                    
-                    
-                    // filtering the players and forming alliances
-                    List<Player> otherPlayers = new ArrayList<>();
-                    for (Player p : game.getPlayers()) {
-                        if (!p.equals(currentPlayer) && !Alliance.isPlayerInAnyAlliance(p)) {
-                            otherPlayers.add(p);
+                        case NOT_OWNER -> {
+                            JOptionPane.showMessageDialog(boardPanel, "You can only enter an alliance on a task you own.");
+                            return;
+                        }
+                        default -> {
                         }
                     }
+
+                    // filtering the players and forming alliances
+                    List<Player> otherPlayers = engine.getAllianceCandidates(currentPlayer);
                     if (otherPlayers.isEmpty()) {
                         JOptionPane.showMessageDialog(boardPanel, "No other players available for alliance.", "Info", JOptionPane.INFORMATION_MESSAGE);
                         return;
@@ -1171,58 +1158,46 @@ public class Board {
                     JComboBox<String> comboBox = new JComboBox<>(playerNames);
                     int option = JOptionPane.showConfirmDialog(null, comboBox, "Select a player to form alliance with", JOptionPane.OK_CANCEL_OPTION);
                     if (option == JOptionPane.OK_OPTION) {
-                        String selectedName = (String) comboBox.getSelectedItem();
-                        Player selectedPlayer = null;
-                        for (Player p : otherPlayers) {
-                            if (p.getName().equals(selectedName)) {
-                                selectedPlayer = p;
-                                break;
-                            }
-                        }
+                        // the combo box rows are in the same order as otherPlayers
+                        int selectedIndex = comboBox.getSelectedIndex();
+                        Player selectedPlayer = selectedIndex >= 0 ? otherPlayers.get(selectedIndex) : null;
                         if (selectedPlayer != null) {
                             int confirm = JOptionPane.showConfirmDialog(null,
                                     selectedPlayer.getName() + ", do you accept an alliance with " + currentPlayer.getName() + "?",
                                     "Alliance Request", JOptionPane.YES_NO_OPTION);
 
                             if (confirm == JOptionPane.YES_OPTION) {
-                                Alliance alliance = Alliance.getAllianceBetween(currentPlayer, selectedPlayer);
-
-                                if (alliance == null) {
-                                    List<Player> allianceMembers = new ArrayList<>();
-                                    allianceMembers.add(currentPlayer);
-                                    allianceMembers.add(selectedPlayer);
-                                    new Alliance(allianceMembers);
-
+                                if (engine.formAlliance(currentPlayer, selectedPlayer) == GameEngine.AllianceResult.FORMED) {
                                     JOptionPane.showMessageDialog(null,
                                             "Alliance formed between " + currentPlayer.getName() + " and " + selectedPlayer.getName(),
                                             "Alliance Formed", JOptionPane.INFORMATION_MESSAGE);
 
-                                    gameLog.append("Alliance formed between " + currentPlayer.getName() + " and " + selectedPlayer.getName() + "\n");
+                                    logEvent(GameLog.Kind.ALLIANCE, "Alliance formed between " + currentPlayer.getName() + " and " + selectedPlayer.getName());
                                 } else {
                                     JOptionPane.showMessageDialog(null,
                                             "Alliance already exists between " + currentPlayer.getName() + " and " + selectedPlayer.getName() + " for this task.",
                                             "Alliance Exists", JOptionPane.WARNING_MESSAGE);
 
-                                    gameLog.append("Alliance already exists between " + currentPlayer.getName() + " and " + selectedPlayer.getName() + " for this task." + "\n");
+                                    logEvent(GameLog.Kind.ALLIANCE, "Alliance already exists between " + currentPlayer.getName() + " and " + selectedPlayer.getName() + " for this task.");
                                 }
 
-                                updatePlayersPanel(playersPanel, game.getPlayers());
+                                viewModels.requestUpdate();
                             } else {
                                 JOptionPane.showMessageDialog(null,
                                         selectedPlayer.getName() + " declined alliance with " + currentPlayer.getName(),
                                         "Alliance Declined", JOptionPane.INFORMATION_MESSAGE);
 
-                                gameLog.append(selectedPlayer.getName() + " declined alliance with " + currentPlayer.getName() + "\n");
+                                logEvent(GameLog.Kind.ALLIANCE, selectedPlayer.getName() + " declined alliance with " + currentPlayer.getName());
                             }
                         } else {
                             JOptionPane.showMessageDialog(null,
                                     "Alliance formation cancelled by " + currentPlayer.getName(),
                                     "Alliance Cancelled", JOptionPane.ERROR_MESSAGE);
 
-                            gameLog.append("Alliance formation cancelled by " + currentPlayer.getName() + "\n");
+                            logEvent(GameLog.Kind.ALLIANCE, "Alliance formation cancelled by " + currentPlayer.getName());
                         }
                     }
-                })
+                }))
         );
         return formAllianceButton;
     }
@@ -1232,7 +1207,7 @@ public class Board {
         applyButtonStyle(transferTaskButton);
 
         transferTaskButton.addActionListener(e ->
-                SwingUtilities.invokeLater(() -> {
+                SwingUtilities.invokeLater(EdtMonitor.timed(EdtMonitor.Action.TRANSFER, () -> {
                     Player currentPlayer = game.getCurrentPlayer();
 
                     // Get all tasks owned by the current player
@@ -1247,9 +1222,7 @@ public class Board {
                     }
 
                     // Filter out completed tasks and random event tasks
-                    List<Task> transferableTasks = ownedTasks.stream()
-                            .filter(task -> !task.isComplete() && !"Random Event".equals(task.getObjective()))
-                            .collect(Collectors.toList());
+                    List<Task> transferableTasks = engine.getTransferableTasks(currentPlayer);
 
                     if (transferableTasks.isEmpty()) {
                         JOptionPane.showMessageDialog(boardPanel,
@@ -1294,12 +1267,7 @@ public class Board {
                     Task selectedTask = (Task) taskComboBox.getSelectedItem();
 
                     // Get the list of other players to transfer to
-                    List<Player> otherPlayers = new ArrayList<>();
-                    for (Player p : game.getPlayers()) {
-                        if (!p.equals(currentPlayer)) {
-                            otherPlayers.add(p);
-                        }
-                    }
+                    List<Player> otherPlayers = engine.getOtherPlayers(currentPlayer);
 
                     String[] playerNames = new String[otherPlayers.size()];
                     for (int i = 0; i < otherPlayers.size(); i++) {
@@ -1318,14 +1286,9 @@ public class Board {
                             JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
 
                     if (playerOption == JOptionPane.OK_OPTION) {
-                        String selectedName = (String) playerComboBox.getSelectedItem();
-                        Player selectedPlayer = null;
-                        for (Player p : otherPlayers) {
-                            if (p.getName().equals(selectedName)) {
-                                selectedPlayer = p;
-                                break;
-                            }
-                        }
+                        // the combo box rows are in the same order as otherPlayers
+                        int selectedIndex = playerComboBox.getSelectedIndex();
+                        Player selectedPlayer = selectedIndex >= 0 ? otherPlayers.get(selectedIndex) : null;
 
                         if (selectedPlayer != null) {
                             String transferPrompt = selectedPlayer.getName() + ", do you accept the transfer of the task: '" +
@@ -1335,18 +1298,15 @@ public class Board {
                                     JOptionPane.YES_NO_OPTION, JOptionPane.QUESTION_MESSAGE);
 
                             if (acceptTransfer == JOptionPane.YES_OPTION) {
-                                boolean status = currentPlayer.removeTask(selectedTask);
-                                if (status) {
-                                    Player.addTask(selectedPlayer, selectedTask);
-                                    logEvent(currentPlayer.getName() + " transferred task '" +
+                                if (engine.transferTask(currentPlayer, selectedTask, selectedPlayer)) {
+                                    logEvent(GameLog.Kind.TASK, currentPlayer.getName() + " transferred task '" +
                                             selectedTask.getDescription() + "' to " + selectedPlayer.getName());
                                     JOptionPane.showMessageDialog(
                                             boardPanel,
                                             "Task successfully transferred to " + selectedPlayer.getName(),
                                             "Transfer Complete",
                                             JOptionPane.INFORMATION_MESSAGE);
-                                    updatePlayersPanel(playersPanel, game.getPlayers());
-                                    refreshObjectivePanel();
+                                    viewModels.requestUpdate();
                                 }
                             } else {
                                 JOptionPane.showMessageDialog(
@@ -1354,12 +1314,12 @@ public class Board {
                                         selectedPlayer.getName() + " declined the task transfer.",
                                         "Transfer Declined",
                                         JOptionPane.INFORMATION_MESSAGE);
-                                logEvent(selectedPlayer.getName() + " declined task transfer from " +
+                                logEvent(GameLog.Kind.TASK, selectedPlayer.getName() + " declined task transfer from " +
                                         currentPlayer.getName());
                             }
                         }
                     }
-                })
+                }))
         );
         return transferTaskButton;
     }
@@ -1368,35 +1328,29 @@ public class Board {
         JButton tutorialButton = new JButton("Tutorial");
         applyButtonStyle(tutorialButton);
 
-        tutorialButton.addActionListener(e -> {
-            JFrame mainFrame = (JFrame) SwingUtilities.getWindowAncestor(boardPanel);
-            Container originalContentPane = mainFrame.getContentPane();
-
-            TutorialPanel tutorialPanel = new TutorialPanel(null, mainFrame);
+        tutorialButton.addActionListener(e ->
+                ScreenNavigator.of(boardPanel).show(ScreenNavigator.Screen.GAME_TUTORIAL));
 
-            JPanel topPanel = new JPanel(new BorderLayout());
-            topPanel.setBackground(new Color(240, 240, 235));
-            topPanel.setBorder(BorderFactory.createEmptyBorder(20, 20, 0, 0));
+        return tutorialButton;
+    }
 
-            JButton backButton = new JButton("Back");
-            applyButtonStyle(backButton);
-            backButton.setPreferredSize(new Dimension(100, 30));
+    // The tutorial with a back button that returns to this game
+    private JPanel createGameTutorial(JFrame mainFrame) {
+        TutorialPanel tutorialPanel = new TutorialPanel(mainFrame);
 
-            backButton.addActionListener(event -> {
-                mainFrame.setContentPane(originalContentPane);
-                mainFrame.revalidate();
-                mainFrame.repaint();
-            });
+        JPanel topPanel = new JPanel(new BorderLayout());
+        topPanel.setBackground(new Color(240, 240, 235));
+        topPanel.setBorder(BorderFactory.createEmptyBorder(20, 20, 0, 0));
 
-            topPanel.add(backButton, BorderLayout.WEST);
-            tutorialPanel.add(topPanel, BorderLayout.NORTH);
+        JButton backButton = new JButton("Back");
+        applyButtonStyle(backButton);
+        backButton.setPreferredSize(new Dimension(100, 30));
 
-            mainFrame.setContentPane(tutorialPanel);
-            mainFrame.revalidate();
-            mainFrame.repaint();
-        });
+        backButton.addActionListener(event -> ScreenNavigator.of(mainFrame).show(ScreenNavigator.Screen.GAME));
 
-        return tutorialButton;
+        topPanel.add(backButton, BorderLayout.WEST);
+        tutorialPanel.add(topPanel, BorderLayout.NORTH);
+        return tutorialPanel;
     }
 
     private void applyButtonStyle(JButton button) {
@@ -1423,197 +1377,100 @@ public class Board {
         });
     }
 
-    private Task getTaskFromObjective(int taskIndex, JPanel objectivePanel) {
-        if (objectivePanel.getComponent(0) instanceof JLabel label) {
-            String objective = label.getText().replaceAll("<[^>]+>", "");
-
-            List<Task> taskList = switch (objective) {
-                case "Planning" -> planningTasks;
-                case "Design" -> designTasks;
-                case "Development" -> developmentTasks;
-                case "Testing" -> testingTasks;
-                default -> null;
-            };
-
-            if (taskList != null && taskIndex < taskList.size()) {
-                return taskList.get(taskIndex);
-            }
-        }
-        return null;
-    }
-
     private int getNextPosition(int currentPosition) {
-        currentPosition += 1;
-        if (currentPosition >= boardSquares.size()) {
-            currentPosition %= boardSquares.size();
-        }
-        return currentPosition;
+        return engine.getNextPosition(currentPosition);
     }
 
     private void updatePlayerPosition(Player player) {
-        // removing player from the previous square
-        JLabel previousSquare = boardSquares.get(player.getPreviousPosition());
-        updateSquareText(previousSquare, player.getPreviousPosition());
-
-        // adding player to the current square
-        JLabel currentSquare = boardSquares.get(player.getPosition());
-        updateSquareText(currentSquare, player.getPosition());
-
-        boardPanel.revalidate();
-        boardPanel.repaint();
+        // only the square the player left and the one they entered are redrawn
+        boardCanvas.repaintSquares(player.getPreviousPosition(), player.getPosition());
     }
 
-    // helper to update the text of a square
-    private void updateSquareText(JLabel square, int squareIndex) {
-        String baseText = squareLabels[squareIndex];
-
-        StringBuilder squareText = new StringBuilder("<html><center>" + baseText.replace("\n", "<br>") + "<br>");
-
-        // Append player icons dynamically
-        String playersOnSquare = getPlayersOnSquare(squareIndex);
-        if (!playersOnSquare.isEmpty()) {
-            squareText.append(playersOnSquare);
-        }
-
-        squareText.append("</center></html>");
-        square.setText(squareText.toString());
+    // Shown on the next frame; appends in between are drawn together
+    private void logEvent(GameLog.Kind kind, String event) {
+        gameLog.append(kind, event.replace('\n', ' '));
     }
 
-    // helper method to get all players' characters on a specific square
-    private String getPlayersOnSquare(int squareIndex) {
-        StringBuilder playersOnSquare = new StringBuilder();
-        for (Player p : game.getPlayers()) {
-            if (p.getPosition() == squareIndex) {
-                playersOnSquare.append(p.getCharacter()).append(" ");
-            }
+    // Puts a new snapshot on screen; only the objectives rows and player labels that changed are touched
+    private void applyViewModel(GameViewModel snapshot) {
+        if (playersPanel == null) {
+            return; // panels not built yet
         }
-        return playersOnSquare.toString().trim();
-    }
-
-    private void logEvent(String event) {
-        gameLog.append(event + "\n");
-        gameLog.setCaretPosition(gameLog.getDocument().getLength());
-    }
-
-    private void refreshObjectivePanel() {
-        // Iterate over each phase panel in taskPhasesPanel
-        for (Component comp : objectivePanel.getComponents()) {
-            if (comp instanceof JPanel phasePanel) {
-                JList<String> taskList = getTaskListFromObjectivePanel(phasePanel);
-                if (taskList != null) {
-                    updateTaskList(taskList, phasePanel);
-                }
-            }
+        if (shownViewModel != null && snapshot.getVersion() <= shownViewModel.getVersion()) {
+            return;
         }
-        objectivePanel.revalidate();
-        objectivePanel.repaint();
-    }
-
-    // Helper method to extract the JList from a objective panel.
-    private JList<String> getTaskListFromObjectivePanel(JPanel objectivePanel) {
-        for (Component innerComp : objectivePanel.getComponents()) {
-            if (innerComp instanceof JScrollPane scrollPane) {
-                Component view = scrollPane.getViewport().getView();
-                if (view instanceof JList<?>) {
-                    @SuppressWarnings("unchecked")
-                    JList<String> taskList = (JList<String>) view;
-                    return taskList;
+        GameViewModel shown = shownViewModel;
+        shownViewModel = snapshot;
+
+        for (int phase = 0; phase < phaseLists.size(); phase++) {
+            DefaultListModel<String> model = (DefaultListModel<String>) phaseLists.get(phase).getModel();
+            Icon[] tokenIcons = phaseTokenIcons.get(phase);
+            List<GameViewModel.TaskStatus> rows = snapshot.getPhaseTasks(phase);
+            for (int row = 0; row < rows.size(); row++) {
+                GameViewModel.TaskStatus task = rows.get(row);
+                GameViewModel.TaskStatus before = shown == null ? null : shown.getPhaseTasks(phase).get(row);
+                if (before == null || !task.tokens().equals(before.tokens())) {
+                    tokenIcons[row] = getTokenIcon(task.tokens(), LIST_TOKEN_SIZE);
+                }
+                if (before == null || !task.equals(before)) {
+                    model.set(row, task.displayText()); // repaints just that cell
                 }
             }
         }
-        return null;
-    }
 
-    // Helper method to update the task list model based on the tasks in the given objective.
-    private void updateTaskList(JList<String> taskList, JPanel objectivePanel) {
-        DefaultListModel<String> model = (DefaultListModel<String>) taskList.getModel();
-        for (int i = 0; i < model.getSize(); i++) {
-            Task task = getTaskFromObjective(i, objectivePanel);
-            if (task != null) {
-                model.set(i, generateTaskDisplayText(task));
-            }
-        }
+        updatePlayersPanel(snapshot.getPlayers(), shown == null ? null : shown.getPlayers());
     }
 
-    // Helper method to generate the display text for a task.
-    private String generateTaskDisplayText(Task task) {
-        String description = task.getDescription();
-        Player owner = task.getOwner();
-
-        if (task.isComplete()) {
-            return String.format("<html>- %s [COMPLETED] <span>%s</span></html>", description, owner.getCharacter());
-        }
-
-        if (owner != null) {
-            return String.format("<html>- %s [CLAIMED] <span>%s</span></html>", description, owner.getCharacter());
-        }
-
-        Alliance alliance = Alliance.getAllianceByTask(task);
-        if (alliance != null) {
-            int allianceSize = alliance.getAlliance().size();
-            if (allianceSize == 1) {
-                return String.format("<html>- %s (Alliance 1/2)</html>", description);
-            } else if (allianceSize >= 2) {
-                StringBuilder allianceIcons = new StringBuilder();
-                allianceIcons.append("<span style='white-space: nowrap;'>");
-                for (Player member : alliance.getAlliance()) {
-                    // Appends each icon inline
-                    allianceIcons.append(member.getCharacter()).append(" ");
-                }
-                allianceIcons.append("</span>");
-                // Display alliance member icons after "[CLAIMED]" inline
-                return String.format("<html>- %s [CLAIMED] %s</html>",
-                        description, allianceIcons.toString().trim());
-            }
-        }
-
-        return String.format("<html>- %s</html>", description);
+    // The objectives row text for a task as it is now (package-private so the benchmarks can call it);
+    // the panels show the same text from the view-model snapshot
+    String generateTaskDisplayText(Task task) {
+        return GameViewModel.taskText(task.getDescription(), GameViewModel.stateOf(task, game.getAlliances()));
     }
 
     public void claimTask(Task task) {
     	// Debugging Task Object and Position
         Player currentPlayer = game.getCurrentPlayer();
         int pos = currentPlayer.getPosition();
-        Task expectedTask = boardTasks.get(pos);
+        Task expectedTask = taskRegistry.getTaskAtSquare(pos);
         
         // debugging
-        System.out.println("\n[Debugging] Player: " + currentPlayer.getName() + " at Position: " + pos);
+        DebugLog.debug(() -> "Player: " + currentPlayer.getName() + " at Position: " + pos);
         
         if (expectedTask == null) {
-            System.out.println("ERROR: No task found at position " + pos);
+            DebugLog.warn(() -> "No task found at position " + pos);
             return;
         }
         
         // debugging
-        System.out.println("Expected Task at Position " + pos + ": " + expectedTask.getDescription());
-        System.out.println("Passed Task: " + task.getDescription());
+        DebugLog.debug(() -> "Expected Task at Position " + pos + ": " + expectedTask.getId()
+                + ", Passed Task: " + (task == null ? "none" : task.getId()));
 
 
-        if (!task.getDescription().equals(expectedTask.getDescription())) {
-            System.out.println("ERROR: Task Mismatch! Expected: " + expectedTask.getDescription() + ", but Found: " + task.getDescription());
+        if (task == null || task.getId() != expectedTask.getId()) {
+            DebugLog.warn(() -> "Task Mismatch! Expected task " + expectedTask.getId() + ", but Found: "
+                    + (task == null ? "none" : task.getId()));
             return;
         }
     	
     	
         if (task.getOwner() != null) {
         	// debugging:
-        	System.out.println("Task '" + task.getDescription() + "' is already owned by " + task.getOwner().getName());
+        	DebugLog.debug(() -> "Task '" + task.getDescription() + "' is already owned by " + task.getOwner().getName());
         	
             String alreadyClaimedMsg = "This task has already been claimed.";
             JOptionPane.showMessageDialog(null, alreadyClaimedMsg, "Error", JOptionPane.ERROR_MESSAGE);
-            logEvent(alreadyClaimedMsg);
+            logEvent(GameLog.Kind.TASK, alreadyClaimedMsg);
             
             return;
             
           // debugging:
         } else {
-            System.out.println("Task '" + task.getDescription() + "' is currently unclaimed.");
+            DebugLog.debug(() -> "Task '" + task.getDescription() + "' is currently unclaimed.");
         }
         
-        System.out.println("Can this task be claimed? " + task.getIsAvailableToClaim());
-
         // Logging Before Prompting Claim Dialog
-        System.out.println("Prompting claim: " + task.getDescription() + " for " + currentPlayer.getName());
+        DebugLog.debug(() -> "Prompting claim: " + task.getDescription() + " for " + currentPlayer.getName()
+                + " (available: " + task.getIsAvailableToClaim() + ")");
         
         
         //Player currentPlayer = game.getCurrentPlayer();
@@ -1621,33 +1478,26 @@ public class Board {
         String promptMsg = "Your current balance is R" + currentPlayer.getResources() + "\n"
                 + "Do you want to claim the task '" + task.getDescription() + "'\n"
                 + "for a cost of R" + cost + "?";
-        logEvent("Prompting claim: " + promptMsg);
+        logEvent(GameLog.Kind.TASK, "Prompting claim: " + promptMsg);
         int response = JOptionPane.showConfirmDialog(null, promptMsg, "Claim Task",
                 JOptionPane.YES_NO_OPTION, JOptionPane.QUESTION_MESSAGE);
         
         if (response == JOptionPane.YES_OPTION) {
-            if (currentPlayer.getResources() >= cost) {
-                // Deduct resources and assign the task.
-                currentPlayer.deductResources(cost);
-                Player.addTask(currentPlayer, task);
-                task.assignOwner(currentPlayer);
-                task.updateResourceBalance(cost);
-                
-                
+            // Deducts the deposit and assigns the task.
+            if (engine.claimTask(currentPlayer) == GameEngine.ClaimResult.CLAIMED) {
                 String successMsg = "Task claimed successfully! " + currentPlayer.getName() + " claimed: " + task.getDescription();
                 JOptionPane.showMessageDialog(null, successMsg);
-                logEvent(successMsg);
-                updatePlayersPanel(playersPanel, game.getPlayers());
-                refreshObjectivePanel();  // Update the objectives panel to show claimed status.
+                logEvent(GameLog.Kind.TASK, successMsg);
+                viewModels.requestUpdate();
             } else {
                 String insufficientMsg = "Insufficient funds to claim this task.";
                 JOptionPane.showMessageDialog(null, insufficientMsg);
-                logEvent(insufficientMsg);
+                logEvent(GameLog.Kind.TASK, insufficientMsg);
             }
         } else {
             String notClaimedMsg = "Task not claimed.";
             JOptionPane.showMessageDialog(null, notClaimedMsg);
-            logEvent(notClaimedMsg);
+            logEvent(GameLog.Kind.TASK, notClaimedMsg);
         }
         
     }
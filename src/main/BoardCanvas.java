@@ -0,0 +1,319 @@
+package main;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.JComponent;
+
+/*
+ * The game board drawn by a single component: squares, their labels and the player tokens.
+ *
+ * Squares are laid out clockwise around a ring, starting top left: the top row, the right column,
+ * the bottom row and the left column, the same order players move in. The ring is sized from the
+ * number of squares (24 squares make a 7 x 7 ring) and scales with the component, so larger boards
+ * need no extra code.
+ *
+ * Nothing is laid out per square and no HTML is parsed. When a token moves only the squares it left
+ * and entered are repainted (see repaintSquares), and paintComponent only draws squares inside the
+ * clip. Square backgrounds come from the board's SquareBackgroundCache and label lines are wrapped
+ * once per square size.
+ *
+ * Player tokens are sprites from the board's TokenAtlas, so no emoji text is drawn while painting.
+ * While TokenAnimator moves a player, that player's token is drawn gliding between two squares
+ * (setMovingToken) instead of inside its square.
+ */
+public class BoardCanvas extends JComponent {
+
+    static final int GAP = 2;              // space between squares
+    static final int TEXT_PADDING = 8;     // space between the text and the square's edge
+
+    private static final Color BOARD_COLOUR = new Color(245, 235, 210);
+    private static final Font LABEL_FONT = new Font("Arial", Font.BOLD, 12);
+
+    private final Game game;
+    private final String[] labels;
+    private final Color[] colours;
+    private final SquareBackgroundCache backgrounds;
+    private final TokenAtlas tokens;
+    private final int side; // squares along each edge of the ring
+
+    // token being animated between two squares, or null
+    private Player movingPlayer;
+    private int movingFrom;
+    private int movingTo;
+    private double movingProgress;
+
+    // label lines wrapped for the current square size
+    private String[][] wrappedLabels;
+    private int wrappedForSize = -1;
+
+    BoardCanvas(Game game, String[] labels, Color[] colours, SquareBackgroundCache backgrounds, TokenAtlas tokens) {
+        this.game = game;
+        this.labels = labels.clone();
+        this.colours = colours.clone();
+        this.backgrounds = backgrounds;
+        this.tokens = tokens;
+        this.side = sideFor(labels.length);
+
+        setOpaque(true);
+        setBackground(BOARD_COLOUR);
+        setForeground(Color.DARK_GRAY);
+        setFont(LABEL_FONT);
+        setPreferredSize(new Dimension(700, 700));
+    }
+
+    // Smallest square ring with room for this many squares
+    static int sideFor(int squareCount) {
+        return Math.max(2, (squareCount + 3) / 4 + 1);
+    }
+
+    public int getSquareCount() {
+        return labels.length;
+    }
+
+    public int getSide() {
+        return side;
+    }
+
+    public void setSquareColour(int square, Color colour) {
+        if (!colour.equals(colours[square])) {
+            colours[square] = colour;
+            repaint(getSquareBounds(square));
+        }
+    }
+
+    public Color getSquareColour(int square) {
+        return colours[square];
+    }
+
+    // Repaints just these squares, e.g. the one a token left and the one it entered
+    public void repaintSquares(int... squares) {
+        for (int square : squares) {
+            if (square >= 0 && square < labels.length) {
+                repaint(getSquareBounds(square));
+            }
+        }
+    }
+
+    // Draws the player's token part of the way (0 to 1) from one square to the next
+    public void setMovingToken(Player player, int fromSquare, int toSquare, double progress) {
+        if (movingPlayer != null && (movingFrom != fromSquare || movingTo != toSquare)) {
+            repaintBetween(movingFrom, movingTo);
+        }
+        movingPlayer = player;
+        movingFrom = fromSquare;
+        movingTo = toSquare;
+        movingProgress = Math.max(0, Math.min(1, progress));
+        repaintBetween(fromSquare, toSquare);
+    }
+
+    public void clearMovingToken() {
+        if (movingPlayer != null) {
+            repaintBetween(movingFrom, movingTo);
+            movingPlayer = null;
+        }
+    }
+
+    // Repaints the area a gliding token crosses: both squares and the gap between them
+    private void repaintBetween(int fromSquare, int toSquare) {
+        repaint(getSquareBounds(fromSquare).union(getSquareBounds(toSquare)));
+    }
+
+    Player getMovingPlayer() {
+        return movingPlayer;
+    }
+
+    // ---- Geometry ----
+
+    // Column and row of a square on the ring
+    int getColumn(int square) {
+        int edge = side - 1;
+        if (square < edge) {
+            return square;                           // top row, left to right
+        } else if (square < 2 * edge) {
+            return edge;                             // right column
+        } else if (square < 3 * edge) {
+            return edge - (square - 2 * edge);       // bottom row, right to left
+        }
+        return 0;                                    // left column
+    }
+
+    int getRow(int square) {
+        int edge = side - 1;
+        if (square < edge) {
+            return 0;
+        } else if (square < 2 * edge) {
+            return square - edge;                    // right column, top to bottom
+        } else if (square < 3 * edge) {
+            return edge;
+        }
+        return edge - (square - 3 * edge);           // left column, bottom to top
+    }
+
+    int getSquareSize() {
+        int size = Math.min(getWidth(), getHeight());
+        return Math.max(0, (size - GAP * (side - 1)) / side);
+    }
+
+    // Edge length of a token sprite on squares of this size
+    static int getTokenSize(int squareSize) {
+        return Math.max(8, squareSize / 5);
+    }
+
+    public Rectangle getSquareBounds(int square) {
+        int size = getSquareSize();
+        int boardExtent = size * side + GAP * (side - 1);
+        int originX = (getWidth() - boardExtent) / 2;
+        int originY = (getHeight() - boardExtent) / 2;
+        return new Rectangle(originX + getColumn(square) * (size + GAP),
+                originY + getRow(square) * (size + GAP), size, size);
+    }
+
+    // The square under a point, or -1
+    public int getSquareAt(int x, int y) {
+        for (int square = 0; square < labels.length; square++) {
+            if (getSquareBounds(square).contains(x, y)) {
+                return square;
+            }
+        }
+        return -1;
+    }
+
+    // ---- Painting ----
+
+    // Players whose tokens are drawn on a square (not one that is gliding)
+    List<Player> getPlayersOn(int square) {
+        List<Player> players = new ArrayList<>();
+        for (Player p : game.getPlayers()) {
+            if (p.getPosition() == square && p != movingPlayer) {
+                players.add(p);
+            }
+        }
+        return players;
+    }
+
+    // Characters of every player on a square, separated by spaces
+    String getTokens(int square) {
+        StringBuilder tokens = new StringBuilder();
+        for (Player p : getPlayersOn(square)) {
+            if (tokens.length() > 0) {
+                tokens.append(' ');
+            }
+            tokens.append(p.getCharacter());
+        }
+        return tokens.toString();
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+
+        g.setColor(getBackground());
+        g.fillRect(clip.x, clip.y, clip.width, clip.height);
+
+        int size = getSquareSize();
+        if (size <= 0) {
+            return;
+        }
+
+        Graphics2D g2 = (Graphics2D) g.create();
+        g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g2.setFont(getFont());
+        FontMetrics metrics = g2.getFontMetrics();
+        if (wrappedForSize != size) {
+            wrapLabels(metrics, size - 2 * TEXT_PADDING);
+            wrappedForSize = size;
+        }
+
+        for (int square = 0; square < labels.length; square++) {
+            Rectangle bounds = getSquareBounds(square);
+            if (bounds.intersects(clip)) {
+                paintSquare(g2, metrics, square, bounds);
+            }
+        }
+        if (movingPlayer != null) {
+            paintMovingToken(g2);
+        }
+        g2.dispose();
+    }
+
+    private void paintSquare(Graphics2D g2, FontMetrics metrics, int square, Rectangle bounds) {
+        g2.drawImage(backgrounds.get(bounds.width, bounds.height, colours[square], getGraphicsConfiguration()),
+                bounds.x, bounds.y, null);
+
+        String[] lines = wrappedLabels[square];
+        List<Player> players = getPlayersOn(square);
+        int lineHeight = metrics.getHeight();
+        int tokenSize = getTokenSize(bounds.width);
+        int tokensHeight = players.isEmpty() ? 0 : tokenSize;
+
+        // the label and the row of tokens are centred together
+        int top = bounds.y + (bounds.height - lines.length * lineHeight - tokensHeight) / 2;
+        int y = top + metrics.getAscent();
+        g2.setColor(getForeground());
+        for (String line : lines) {
+            drawCentred(g2, metrics, line, bounds, y);
+            y += lineHeight;
+        }
+
+        int gap = Math.max(1, tokenSize / 8);
+        int x = bounds.x + (bounds.width - players.size() * (tokenSize + gap) + gap) / 2;
+        int tokensTop = top + lines.length * lineHeight;
+        for (Player p : players) {
+            tokens.draw(g2, p.getCharacter(), x, tokensTop, tokenSize);
+            x += tokenSize + gap;
+        }
+    }
+
+    private void paintMovingToken(Graphics2D g2) {
+        Rectangle from = getSquareBounds(movingFrom);
+        Rectangle to = getSquareBounds(movingTo);
+        double centreX = from.getCenterX() + (to.getCenterX() - from.getCenterX()) * movingProgress;
+        double centreY = from.getCenterY() + (to.getCenterY() - from.getCenterY()) * movingProgress;
+
+        int tokenSize = getTokenSize(from.width);
+        tokens.draw(g2, movingPlayer.getCharacter(), (int) Math.round(centreX - tokenSize / 2.0),
+                (int) Math.round(centreY - tokenSize / 2.0), tokenSize);
+    }
+
+    private static void drawCentred(Graphics2D g2, FontMetrics metrics, String text, Rectangle bounds, int y) {
+        g2.drawString(text, bounds.x + (bounds.width - metrics.stringWidth(text)) / 2, y);
+    }
+
+    private void wrapLabels(FontMetrics metrics, int maxWidth) {
+        wrappedLabels = new String[labels.length][];
+        for (int square = 0; square < labels.length; square++) {
+            wrappedLabels[square] = wrap(labels[square], metrics, maxWidth);
+        }
+    }
+
+    // Splits text into lines no wider than maxWidth, breaking between words
+    static String[] wrap(String text, FontMetrics metrics, int maxWidth) {
+        List<String> lines = new ArrayList<>();
+        StringBuilder line = new StringBuilder();
+        for (String word : text.split(" ")) {
+            if (line.length() > 0 && metrics.stringWidth(line + " " + word) > maxWidth) {
+                lines.add(line.toString());
+                line.setLength(0);
+            }
+            if (line.length() > 0) {
+                line.append(' ');
+            }
+            line.append(word);
+        }
+        if (line.length() > 0) {
+            lines.add(line.toString());
+        }
+        return lines.toArray(new String[0]);
+    }
+}
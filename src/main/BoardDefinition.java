@@ -0,0 +1,323 @@
+package main;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/*
+ * A board read from a board file (boards/default.board is the one the game ships with) and compiled
+ * once into flat arrays indexed by square and by task id.
+ *
+ * A definition never changes after it is read, so every game on that board shares it: each
+ * GameEngine's TaskRegistry makes its Task objects from it and answers square and phase lookups from
+ * its arrays, SimulationKernel plays on the arrays directly, and the Board labels and colours its
+ * squares from it. A lookup is one array read however large the board, and BoardCanvas sizes its
+ * ring from the square count, so a custom board of any size needs only a new file.
+ *
+ * One directive per line, '#' starts a comment:
+ *
+ *     squares <count>                               square 0 is always Start
+ *     event <square>...                             random event squares
+ *     task <square> <phase> <required> <deposit> <description>
+ *
+ * Task ids follow the order of the task lines. Every square but Start has to be an event or hold
+ * exactly one task; a file that breaks a rule is an IOException naming the line.
+ *
+ * New games are played on DEFAULT: the file named by -Decojozi.board when that is set, otherwise the
+ * built-in board, which is read from the classpath (src/ has to be on it, or boards/ copied next to the
+ * classes). A -Decojozi.board file that can't be loaded is logged and the built-in board played instead.
+ */
+public final class BoardDefinition {
+
+    // What is on each square
+    public static final byte START_SQUARE = 0;
+    public static final byte EVENT_SQUARE = 1;
+    public static final byte TASK_SQUARE = 2;
+
+    public static final int NO_TASK = -1;
+    public static final String BUILT_IN = "boards/default.board";
+    public static final int MAX_SQUARES = Short.MAX_VALUE; // saves hold squares and task ids as shorts
+
+    public static final BoardDefinition DEFAULT = loadDefault(System.getProperty("ecojozi.board"));
+
+    private final String name;
+
+    // ---- By square ----
+    final byte[] squareType;
+    final int[] squareTask;          // task id on each square, NO_TASK for Start and events
+    private final String[] squareLabel;
+
+    // ---- By task id ----
+    final int[] taskSquare;
+    final int[] taskPhase;
+    final int[] phaseRow;            // index of the task among the tasks of its phase
+    final int[] taskRequired;
+    final int[] taskDeposit;
+    private final String[] taskDescription;
+
+    private int fingerprint;
+
+    private BoardDefinition(String name, int size, int taskCount) {
+        this.name = name;
+        this.squareType = new byte[size];
+        this.squareTask = new int[size];
+        this.squareLabel = new String[size];
+        this.taskSquare = new int[taskCount];
+        this.taskPhase = new int[taskCount];
+        this.phaseRow = new int[taskCount];
+        this.taskRequired = new int[taskCount];
+        this.taskDeposit = new int[taskCount];
+        this.taskDescription = new String[taskCount];
+    }
+
+    // ---- Reading ----
+
+    // A board file on the classpath, next to the classes of package main (e.g. BUILT_IN)
+    public static BoardDefinition load(String resource) throws IOException {
+        try (InputStream in = BoardDefinition.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new NoSuchFileException("main/" + resource, null,
+                        "not on the classpath; put src/ on it, or copy src/main/boards next to the classes");
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            return parse(resource, reader.lines().toList());
+        }
+    }
+
+    public static BoardDefinition read(Path file) throws IOException {
+        return parse(file.toString(), Files.readAllLines(file, StandardCharsets.UTF_8));
+    }
+
+    // The board named by -Decojozi.board (or null for the built-in one); fails only without the built-in board
+    static BoardDefinition loadDefault(String file) {
+        BoardDefinition board = null;
+        if (file != null) {
+            try {
+                board = read(Path.of(file));
+            } catch (IOException | InvalidPathException e) {
+                DebugLog.error(() -> "Could not load the board " + file + ", playing the built-in one", e);
+            }
+        }
+        if (board == null) {
+            try {
+                board = load(BUILT_IN);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not load the built-in board: " + e.getMessage(), e);
+            }
+        }
+        BoardDefinition loaded = board;
+        DebugLog.info(() -> "Board " + loaded.getName() + ": " + loaded.getSize() + " squares, "
+                + loaded.getTaskCount() + " tasks");
+        return loaded;
+    }
+
+    // One task line, before the board is compiled
+    private record TaskLine(int square, int phase, int required, int deposit, String description) {
+    }
+
+    /*
+     * Compiles the lines of a board file; name is only used in error messages. Boards can also be
+     * written out in code this way, e.g. the generated boards of the benchmarks.
+     */
+    public static BoardDefinition parse(String name, List<String> lines) throws IOException {
+        int size = 0;
+        byte[] types = null;
+        boolean[] used = null;
+        List<TaskLine> tasks = new ArrayList<>();
+
+        for (int n = 0; n < lines.size(); n++) {
+            String line = lines.get(n);
+            int comment = line.indexOf('#');
+            String text = (comment < 0 ? line : line.substring(0, comment)).strip();
+            if (text.isEmpty()) {
+                continue;
+            }
+            String[] words = text.split("\\s+");
+            String where = name + ":" + (n + 1) + ": ";
+
+            if (words[0].equals("squares")) {
+                if (types != null) {
+                    throw new IOException(where + "the square count is given twice");
+                }
+                size = number(where, words, 1, 2, MAX_SQUARES);
+                types = new byte[size];
+                used = new boolean[size];
+                used[0] = true; // Start
+                continue;
+            }
+            if (types == null) {
+                throw new IOException(where + "the square count has to come first");
+            }
+
+            switch (words[0]) {
+                case "event" -> {
+                    if (words.length < 2) {
+                        throw new IOException(where + "no squares given");
+                    }
+                    for (int i = 1; i < words.length; i++) {
+                        int pos = number(where, words, i, 1, size - 1);
+                        take(where, used, pos);
+                        types[pos] = EVENT_SQUARE;
+                    }
+                }
+                case "task" -> {
+                    words = text.split("\\s+", 6); // the description is the rest of the line
+                    if (words.length < 6) {
+                        throw new IOException(where + "expected task <square> <phase> <required> <deposit> <description>");
+                    }
+                    int pos = number(where, words, 1, 1, size - 1);
+                    int phase = Arrays.asList(TaskRegistry.PHASES).indexOf(words[2]);
+                    if (phase < 0) {
+                        throw new IOException(where + "unknown phase " + words[2] + ", expected one of "
+                                + String.join(", ", TaskRegistry.PHASES));
+                    }
+                    int required = number(where, words, 3, 1, Integer.MAX_VALUE);
+                    int deposit = number(where, words, 4, 0, required);
+                    take(where, used, pos);
+                    types[pos] = TASK_SQUARE;
+                    tasks.add(new TaskLine(pos, phase, required, deposit, words[5]));
+                }
+                default -> throw new IOException(where + "unknown directive " + words[0]);
+            }
+        }
+
+        if (types == null) {
+            throw new IOException(name + ": no squares");
+        }
+        for (int pos = 1; pos < size; pos++) {
+            if (!used[pos]) {
+                throw new IOException(name + ": square " + pos + " is neither an event nor a task");
+            }
+        }
+        return compile(name, types, tasks);
+    }
+
+    private static BoardDefinition compile(String name, byte[] types, List<TaskLine> tasks) {
+        BoardDefinition board = new BoardDefinition(name, types.length, tasks.size());
+        System.arraycopy(types, 0, board.squareType, 0, types.length);
+        Arrays.fill(board.squareTask, NO_TASK);
+        for (int pos = 0; pos < types.length; pos++) {
+            board.squareLabel[pos] = types[pos] == EVENT_SQUARE ? GameEngine.RANDOM_EVENT : GameEngine.START;
+        }
+
+        int[] phaseSize = new int[TaskRegistry.PHASES.length];
+        for (int id = 0; id < tasks.size(); id++) {
+            TaskLine task = tasks.get(id);
+            board.squareTask[task.square()] = id;
+            board.squareLabel[task.square()] = task.description();
+            board.taskSquare[id] = task.square();
+            board.taskPhase[id] = task.phase();
+            board.phaseRow[id] = phaseSize[task.phase()]++;
+            board.taskRequired[id] = task.required();
+            board.taskDeposit[id] = task.deposit();
+            board.taskDescription[id] = task.description();
+        }
+        board.fingerprint = fingerprint(board);
+        return board;
+    }
+
+    // CRC32 of everything the rules read from the board; descriptions are left out, so renaming a task keeps saves valid
+    private static int fingerprint(BoardDefinition board) {
+        int tasks = board.getTaskCount();
+        ByteBuffer bytes = ByteBuffer.allocate(8 + board.getSize() + 16 * tasks);
+        bytes.putInt(board.getSize()).putInt(tasks).put(board.squareType);
+        for (int id = 0; id < tasks; id++) {
+            bytes.putInt(board.taskSquare[id]).putInt(board.taskPhase[id])
+                    .putInt(board.taskRequired[id]).putInt(board.taskDeposit[id]);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(bytes.array());
+        return (int) crc.getValue();
+    }
+
+    private static int number(String where, String[] words, int index, int min, int max) throws IOException {
+        if (index >= words.length) {
+            throw new IOException(where + "expected a number from " + min + " to " + max);
+        }
+        try {
+            int value = Integer.parseInt(words[index]);
+            if (value >= min && value <= max) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new IOException(where + "expected a number from " + min + " to " + max + ", got " + words[index]);
+    }
+
+    private static void take(String where, boolean[] used, int square) throws IOException {
+        if (used[square]) {
+            throw new IOException(where + "square " + square + " is already taken");
+        }
+        used[square] = true;
+    }
+
+    // ---- Lookups ----
+
+    public String getName() {
+        return name;
+    }
+
+    // Same for two boards the same game can be played on (see GameSnapshot), whatever their names
+    public int getFingerprint() {
+        return fingerprint;
+    }
+
+    public int getSize() {
+        return squareType.length;
+    }
+
+    public int getTaskCount() {
+        return taskSquare.length;
+    }
+
+    public byte getSquareType(int square) {
+        return squareType[square];
+    }
+
+    // Id of the task on a square, or NO_TASK for Start and event squares
+    public int getTaskAt(int square) {
+        return squareTask[square];
+    }
+
+    // Text of a square: its task's description, or Start / Random Event
+    public String getSquareLabel(int square) {
+        return squareLabel[square];
+    }
+
+    public int getTaskSquare(int task) {
+        return taskSquare[task];
+    }
+
+    public int getTaskPhase(int task) {
+        return taskPhase[task];
+    }
+
+    public int getPhaseRow(int task) {
+        return phaseRow[task];
+    }
+
+    public int getRequiredResources(int task) {
+        return taskRequired[task];
+    }
+
+    public int getDeposit(int task) {
+        return taskDeposit[task];
+    }
+
+    public String getDescription(int task) {
+        return taskDescription[task];
+    }
+}
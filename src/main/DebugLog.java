@@ -0,0 +1,176 @@
+package main;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/*
+ * Leveled debug logging for the model classes.
+ *
+ * The level is read once at startup from -Decojozi.log=off|error|warn|info|debug|trace (default warn)
+ * and kept in static final flags, so the JIT folds a disabled check away. Messages are passed as
+ * Suppliers and only built when their level is on; hot paths (e.g. Task.isComplete) also test the
+ * *_ENABLED flag first so not even the lambda is created.
+ *
+ * Enabled messages go onto a bounded queue drained by a daemon thread, so logging never blocks the
+ * game thread. If the queue is full the message is dropped and counted instead of waiting.
+ * Output goes to stdout, or to the file named by -Decojozi.log.file.
+ */
+public final class DebugLog {
+
+    public enum Level {
+        OFF, ERROR, WARN, INFO, DEBUG, TRACE
+    }
+
+    public static final Level LEVEL = parseLevel(System.getProperty("ecojozi.log"));
+
+    public static final boolean ERROR_ENABLED = isEnabled(Level.ERROR);
+    public static final boolean WARN_ENABLED = isEnabled(Level.WARN);
+    public static final boolean INFO_ENABLED = isEnabled(Level.INFO);
+    public static final boolean DEBUG_ENABLED = isEnabled(Level.DEBUG);
+    public static final boolean TRACE_ENABLED = isEnabled(Level.TRACE);
+
+    private static final int QUEUE_CAPACITY = 8192;
+
+    private DebugLog() {
+    }
+
+    public static boolean isEnabled(Level level) {
+        return level != Level.OFF && LEVEL.compareTo(level) >= 0;
+    }
+
+    public static void error(Supplier<String> message) {
+        if (ERROR_ENABLED) {
+            Appender.INSTANCE.append(Level.ERROR, message.get());
+        }
+    }
+
+    public static void error(Supplier<String> message, Throwable cause) {
+        if (ERROR_ENABLED) {
+            StringWriter trace = new StringWriter();
+            cause.printStackTrace(new PrintWriter(trace));
+            Appender.INSTANCE.append(Level.ERROR, message.get() + System.lineSeparator() + trace);
+        }
+    }
+
+    public static void warn(Supplier<String> message) {
+        if (WARN_ENABLED) {
+            Appender.INSTANCE.append(Level.WARN, message.get());
+        }
+    }
+
+    public static void info(Supplier<String> message) {
+        if (INFO_ENABLED) {
+            Appender.INSTANCE.append(Level.INFO, message.get());
+        }
+    }
+
+    public static void debug(Supplier<String> message) {
+        if (DEBUG_ENABLED) {
+            Appender.INSTANCE.append(Level.DEBUG, message.get());
+        }
+    }
+
+    public static void trace(Supplier<String> message) {
+        if (TRACE_ENABLED) {
+            Appender.INSTANCE.append(Level.TRACE, message.get());
+        }
+    }
+
+    // Number of messages thrown away because the queue was full
+    public static long getDroppedCount() {
+        return LEVEL == Level.OFF ? 0 : Appender.INSTANCE.dropped.get();
+    }
+
+    private static Level parseLevel(String value) {
+        if (value == null || value.isBlank()) {
+            return Level.WARN;
+        }
+        try {
+            return Level.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return Level.WARN;
+        }
+    }
+
+    /*
+     * Asynchronous appender. Only loaded the first time something is actually logged, so with
+     * logging off no thread is ever started.
+     */
+    private static final class Appender implements Runnable {
+        static final Appender INSTANCE = new Appender();
+
+        private final BlockingQueue<String> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private final AtomicLong dropped = new AtomicLong();
+        private final PrintStream out;
+
+        private Appender() {
+            out = openOutput(System.getProperty("ecojozi.log.file"));
+
+            Thread writer = new Thread(this, "ecojozi-log");
+            writer.setDaemon(true);
+            writer.start();
+
+            // write whatever is still queued when the JVM exits
+            Runtime.getRuntime().addShutdownHook(new Thread(this::drain, "ecojozi-log-flush"));
+        }
+
+        void append(Level level, String message) {
+            if (!queue.offer("[" + level + "] " + message)) {
+                dropped.incrementAndGet();
+            }
+        }
+
+        @Override
+        public void run() {
+            long reportedDrops = 0;
+            try {
+                while (true) {
+                    String line = queue.poll(1, TimeUnit.SECONDS);
+                    if (line != null) {
+                        write(line);
+                    }
+                    long drops = dropped.get();
+                    if (drops != reportedDrops) {
+                        out.println("[WARN] " + (drops - reportedDrops) + " log messages dropped");
+                        reportedDrops = drops;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private synchronized void write(String first) {
+            out.println(first);
+            drain();
+        }
+
+        private synchronized void drain() {
+            String line;
+            while ((line = queue.poll()) != null) {
+                out.println(line);
+            }
+            out.flush();
+        }
+
+        private static PrintStream openOutput(String file) {
+            if (file != null && !file.isBlank()) {
+                try {
+                    return new PrintStream(new FileOutputStream(file, true), false);
+                } catch (IOException e) {
+                    System.err.println("Could not open log file " + file + ": " + e.getMessage());
+                }
+            }
+            return System.out;
+        }
+    }
+}
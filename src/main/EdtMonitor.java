@@ -0,0 +1,398 @@
+package main;
+
+import java.awt.AWTEvent;
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.awt.event.ActionListener;
+import java.awt.event.InvocationEvent;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/*
+ * Opt-in timing of the event dispatch thread, to see which actions keep the UI busy.
+ *
+ * Turned on with -Decojozi.edt.monitor=true (off by default, and then install and timed cost
+ * nothing). While on, every AWT event is timed through a pushed EventQueue and recorded in a latency
+ * histogram; the board's actions (roll, claim, allocate, alliance, transfer, end turn) are also
+ * recorded in their own histograms through timed(...). Times are EDT busy time only: time spent
+ * inside a nested event loop (a modal dialog waiting for the player) counts for the events it
+ * dispatches, not for the action that opened it.
+ *
+ * A watchdog thread checks the EDT every few milliseconds. When the EDT has been busy with one
+ * event for longer than -Decojozi.edt.stallMillis (default 100), the EDT's stack is captured while it
+ * is still stuck, and the stall is logged and kept for the report with that stack.
+ *
+ * The report (text, one line per histogram then the stalls) is written to the file named by
+ * -Decojozi.edt.report when the JVM exits, or on demand with writeReport, so runs of two builds can
+ * be compared side by side.
+ */
+public final class EdtMonitor {
+
+    public enum Action {
+        ROLL, CLAIM, ALLOCATE, ALLIANCE, TRANSFER, END_TURN
+    }
+
+    public static final boolean ENABLED = Boolean.getBoolean("ecojozi.edt.monitor");
+    public static final long STALL_MILLIS = Long.getLong("ecojozi.edt.stallMillis", 100);
+    private static final String REPORT_FILE = System.getProperty("ecojozi.edt.report");
+
+    static final int MAX_STALLS = 100;
+    private static final int STACK_DEPTH = 40;
+
+    private static volatile EdtMonitor installed;
+
+    public record Stall(String description, long durationMillis, String stack) {
+    }
+
+    // One event or action being timed on the EDT
+    private static final class Frame {
+        final String description;
+        final Action action;
+        final long start;
+        long excluded;          // nanos spent in nested events or waiting for one
+        boolean innerStall;     // a frame inside this one was already reported as a stall
+        volatile String stack;  // set by the watchdog if the frame stalls
+
+        Frame(String description, Action action, long start) {
+            this.description = description;
+            this.action = action;
+            this.start = start;
+        }
+    }
+
+    private final long stallNanos;
+    private final Histogram allEvents = new Histogram("all events");
+    private final Map<Action, Histogram> actions = new EnumMap<>(Action.class);
+    private final List<Stall> stalls = new ArrayList<>();
+    private long stallCount;
+
+    // EDT only
+    private final ArrayDeque<Frame> frames = new ArrayDeque<>();
+
+    // read by the watchdog
+    private volatile Thread edt;
+    private volatile Frame running;      // innermost frame while the EDT is working, null while it waits
+    private volatile long progressNanos; // last time the EDT entered or left a frame
+
+    EdtMonitor(long stallMillis) {
+        this.stallNanos = stallMillis * 1_000_000L;
+        for (Action action : Action.values()) {
+            actions.put(action, new Histogram(action.name()));
+        }
+    }
+
+    // Starts timing the EDT if the monitor is enabled; called once from Game.main
+    public static void install() {
+        if (!ENABLED || installed != null) {
+            return;
+        }
+        EdtMonitor monitor = new EdtMonitor(STALL_MILLIS);
+        installed = monitor;
+        Toolkit.getDefaultToolkit().getSystemEventQueue().push(monitor.new TimingEventQueue());
+        monitor.startWatchdog();
+        if (REPORT_FILE != null) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> monitor.writeReport(Path.of(REPORT_FILE)),
+                    "ecojozi-edt-report"));
+        }
+        DebugLog.info(() -> "EDT monitor on, stalls over " + STALL_MILLIS + " ms are reported");
+    }
+
+    // The installed monitor, or null when monitoring is off
+    public static EdtMonitor get() {
+        return installed;
+    }
+
+    // An action listener that records its EDT time under the action; the listener itself when off
+    public static ActionListener timed(Action action, ActionListener listener) {
+        if (!ENABLED) {
+            return listener;
+        }
+        return e -> {
+            EdtMonitor monitor = installed;
+            if (monitor == null) {
+                listener.actionPerformed(e);
+            } else {
+                monitor.run(action.name(), action, () -> listener.actionPerformed(e));
+            }
+        };
+    }
+
+    // Same, for work an action hands to SwingUtilities.invokeLater
+    public static Runnable timed(Action action, Runnable work) {
+        if (!ENABLED) {
+            return work;
+        }
+        return () -> {
+            EdtMonitor monitor = installed;
+            if (monitor == null) {
+                work.run();
+            } else {
+                monitor.run(action.name(), action, work);
+            }
+        };
+    }
+
+    /*
+     * Runs work on the calling (event dispatch) thread as one timed frame. Frames may nest: an event
+     * dispatched inside another, e.g. by a modal dialog, is taken out of the outer frame's time.
+     */
+    void run(String description, Action action, Runnable work) {
+        long start = System.nanoTime();
+        Frame frame = new Frame(description, action, start);
+        if (frames.isEmpty()) {
+            edt = Thread.currentThread();
+        }
+        frames.push(frame);
+        running = frame;
+        progressNanos = start;
+        try {
+            work.run();
+        } finally {
+            long end = System.nanoTime();
+            frames.pop();
+            long busy = end - start - frame.excluded;
+            boolean stalled = record(frame, busy);
+            Frame parent = frames.peek();
+            if (parent != null) {
+                // an action is part of the event that ran it; a nested event isn't
+                parent.excluded += frame.action != null ? frame.excluded : end - start;
+                parent.innerStall |= stalled;
+            }
+            running = parent;
+            progressNanos = end;
+        }
+    }
+
+    // The EDT is about to wait for an event; waiting isn't busy time
+    private long pause() {
+        running = null;
+        return System.nanoTime();
+    }
+
+    private void resume(long waitStart) {
+        long now = System.nanoTime();
+        Frame top = frames.peek();
+        if (top != null) {
+            top.excluded += now - waitStart;
+        }
+        running = top;
+        progressNanos = now;
+    }
+
+    // Returns whether the frame was reported as a stall
+    private synchronized boolean record(Frame frame, long busyNanos) {
+        if (frame.action != null) {
+            actions.get(frame.action).record(busyNanos);
+        } else {
+            allEvents.record(busyNanos);
+        }
+        if (busyNanos < stallNanos) {
+            return false;
+        }
+        if (!frame.innerStall) { // otherwise the inner frame already has the stack
+            stallCount++;
+            String stack = frame.stack != null ? frame.stack : "    (not sampled)\n";
+            Stall stall = new Stall(frame.description, busyNanos / 1_000_000, stack);
+            if (stalls.size() == MAX_STALLS) {
+                stalls.remove(0); // keep the latest
+            }
+            stalls.add(stall);
+            DebugLog.warn(() -> "EDT stall: " + stall.description() + " took " + stall.durationMillis() + " ms\n"
+                    + stall.stack());
+        }
+        return true;
+    }
+
+    void startWatchdog() {
+        long period = Math.max(5, stallNanos / 4_000_000L);
+        Thread watchdog = new Thread(() -> {
+            while (true) {
+                try {
+                    Thread.sleep(period);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                check();
+            }
+        }, "ecojozi-edt-watchdog");
+        watchdog.setDaemon(true);
+        watchdog.start();
+    }
+
+    // Captures the EDT's stack if it has been stuck in the same frame for too long
+    private void check() {
+        Frame frame = running;
+        Thread thread = edt;
+        if (frame == null || thread == null || frame.stack != null
+                || System.nanoTime() - progressNanos < stallNanos) {
+            return;
+        }
+        StringBuilder stack = new StringBuilder();
+        StackTraceElement[] trace = thread.getStackTrace();
+        for (int i = 0; i < Math.min(trace.length, STACK_DEPTH); i++) {
+            stack.append("    at ").append(trace[i]).append('\n');
+        }
+        if (trace.length > STACK_DEPTH) {
+            stack.append("    ...\n");
+        }
+        if (running == frame) { // still the same frame, so the stack is the stalled one
+            frame.stack = stack.toString();
+        }
+    }
+
+    public synchronized Histogram getEventHistogram() {
+        return allEvents.copy();
+    }
+
+    public synchronized Histogram getActionHistogram(Action action) {
+        return actions.get(action).copy();
+    }
+
+    public synchronized List<Stall> getStalls() {
+        return new ArrayList<>(stalls);
+    }
+
+    public synchronized String getReport() {
+        StringBuilder report = new StringBuilder();
+        report.append("# EcoJozi EDT report, java ").append(System.getProperty("java.version"))
+                .append(", stall threshold ").append(stallNanos / 1_000_000).append(" ms\n");
+        report.append(Histogram.HEADER).append('\n');
+        report.append(allEvents.toReportLine()).append('\n');
+        for (Histogram histogram : actions.values()) {
+            report.append(histogram.toReportLine()).append('\n');
+        }
+        report.append("# stalls: ").append(stallCount);
+        if (stallCount > stalls.size()) {
+            report.append(" (latest ").append(stalls.size()).append(" shown)");
+        }
+        report.append('\n');
+        for (Stall stall : stalls) {
+            report.append(stall.durationMillis()).append(" ms\t").append(stall.description()).append('\n')
+                    .append(stall.stack());
+        }
+        return report.toString();
+    }
+
+    public void writeReport(Path file) {
+        try {
+            Files.writeString(file, getReport(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            DebugLog.error(() -> "Could not write EDT report to " + file, e);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String describe(AWTEvent event) {
+        if (event instanceof InvocationEvent) {
+            // paramString is "INVOCATION_DEFAULT,runnable=...,notifier=...", only the runnable helps
+            String params = event.paramString();
+            int start = params.indexOf("runnable=");
+            int end = params.indexOf(',', start + 1);
+            return start < 0 ? "invocation" : "invocation of " + params.substring(start + 9, end < 0 ? params.length() : end);
+        }
+        return event.getClass().getSimpleName() + " on " + event.getSource().getClass().getSimpleName();
+    }
+
+    private final class TimingEventQueue extends EventQueue {
+        @Override
+        protected void dispatchEvent(AWTEvent event) {
+            run(describe(event), null, () -> super.dispatchEvent(event));
+        }
+
+        // Only the EDT (and the nested loops it runs) takes events from the queue
+        @Override
+        public AWTEvent getNextEvent() throws InterruptedException {
+            long waitStart = pause();
+            try {
+                return super.getNextEvent();
+            } finally {
+                resume(waitStart);
+            }
+        }
+    }
+
+    /*
+     * Latency histogram with power-of-two microsecond buckets: bucket i holds times below 2^i us.
+     * Percentiles are the upper edge of the bucket they fall in, so they are within a factor of two,
+     * which is enough to spot a slow action; count, mean and max are exact.
+     */
+    public static final class Histogram {
+
+        static final String HEADER = "name\tcount\tmean_us\tp50_us\tp90_us\tp99_us\tmax_us";
+        private static final int BUCKETS = 40;
+
+        private final String name;
+        private final long[] buckets = new long[BUCKETS];
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+
+        Histogram(String name) {
+            this.name = name;
+        }
+
+        void record(long nanos) {
+            long micros = Math.max(0, nanos / 1000);
+            int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+            buckets[bucket]++;
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        Histogram copy() {
+            Histogram copy = new Histogram(name);
+            System.arraycopy(buckets, 0, copy.buckets, 0, BUCKETS);
+            copy.count = count;
+            copy.totalNanos = totalNanos;
+            copy.maxNanos = maxNanos;
+            return copy;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getMeanMicros() {
+            return count == 0 ? 0 : totalNanos / count / 1000;
+        }
+
+        public long getMaxMicros() {
+            return maxNanos / 1000;
+        }
+
+        // Upper bound of the given percentile (0 to 100), in microseconds
+        public long getPercentileMicros(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(count * percentile / 100.0);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets[i];
+                if (seen >= Math.max(1, rank)) {
+                    return Math.min(1L << i, getMaxMicros());
+                }
+            }
+            return getMaxMicros();
+        }
+
+        String toReportLine() {
+            return String.format(Locale.ROOT, "%s\t%d\t%d\t%d\t%d\t%d\t%d", name, count, getMeanMicros(),
+                    getPercentileMicros(50), getPercentileMicros(90), getPercentileMicros(99), getMaxMicros());
+        }
+    }
+}
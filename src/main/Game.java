@@ -1,78 +1,119 @@
 package main;
 
-import javax.swing.*;
-import java.awt.*;
 import java.util.ArrayList;
 
 public class Game {
     private ArrayList<Player> players;
     private int currentPlayerIndex;
+    private int turn; // turns ended so far
+    private final GameRandom random; // dice and events for this game only
+    private final AllianceRegistry alliances = new AllianceRegistry();
 
     public Game() {
-        this.players = new ArrayList<>();
-        this.currentPlayerIndex = 0;
+        this(new ArrayList<>());
     }
 
     public Game(ArrayList<Player> players) { //--- constructor to accept existing players and board
-        this.players = players; 
+        this(players, GameRandom.newSeed());
+    }
+
+    // Same seed and same actions give the same game
+    public Game(ArrayList<Player> players, long seed) {
+        this(players, new GameRandom(seed));
+    }
+
+    public Game(ArrayList<Player> players, GameRandom random) {
+        this.players = players;
         this.currentPlayerIndex = 0;
+        this.random = random;
+    }
+
+    /**
+     * Starting resources for each player. More players means fewer resources per player
+     * to maintain game balance.
+     * @param playerCount The number of players in the game
+     * @return the starting rands per player, or 0 for an unsupported player count
+     */
+    public static int getStartingResources(int playerCount) {
+        return switch (playerCount) {
+            case 2 -> 3000;
+            case 3 -> 2000;
+            case 4 -> 1500;
+            default -> 0;
+        };
     }
 
     public Player getCurrentPlayer() {
         return players.get(currentPlayerIndex);
     }
 
+    public int getCurrentPlayerIndex() {
+        return currentPlayerIndex;
+    }
+
+    // For rebuilding a game part-way through; unlike nextTurn this awards nothing
+    void setCurrentPlayerIndex(int index) {
+        if (index < 0 || index >= players.size()) {
+            throw new IllegalArgumentException("No player at index " + index);
+        }
+        this.currentPlayerIndex = index;
+    }
+
+    public int getTurn() {
+        return turn;
+    }
+
+    // For rebuilding a saved game, like setCurrentPlayerIndex
+    void setTurn(int turn) {
+        this.turn = turn;
+    }
+
     public ArrayList<Player> getPlayers() {
         return players;
     }
+
+    public AllianceRegistry getAlliances() {
+        return alliances;
+    }
+
+    public GameRandom getRandom() {
+        return random;
+    }
+
+    public long getSeed() {
+        return random.getInitialSeed();
+    }
     
     public void nextTurn() {
+        turn++;
         currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
         Player currentPlayer = players.get(currentPlayerIndex);
 
-        System.out.println("Switching to next player: " + currentPlayer.getName());
+        DebugLog.debug(() -> "Switching to next player: " + currentPlayer.getName());
 
         // Check if the player completed a lap
         if (currentPlayer.getPosition() == 0) {
-            System.out.println(currentPlayer.getName() + " completed a lap! Awarding 1000 rands.");
+            DebugLog.debug(() -> currentPlayer.getName() + " completed a lap! Awarding 1000 rands.");
             currentPlayer.addResources(1000);
-
-            //Debug: Check if tasks are incorrectly marked complete
-            for (Task task : currentPlayer.getTasks()) {
-                System.out.println("Before lap completion - Task: " + task.getDescription() + ", Completed: " + task.isComplete());
-            }
         }
-        
+
         // Check if the player still has incomplete tasks
-        if (currentPlayer.hasIncompleteTasks()) {
-            System.out.println(currentPlayer.getName() + " still has incomplete tasks.");
-        } else {
-            System.out.println("No pending tasks left for " + currentPlayer.getName());
+        if (DebugLog.DEBUG_ENABLED) {
+            boolean pending = currentPlayer.hasIncompleteTasks();
+            DebugLog.debug(() -> pending
+                    ? currentPlayer.getName() + " still has incomplete tasks."
+                    : "No pending tasks left for " + currentPlayer.getName());
         }
-        
-        
     }
 
     public static void main(String[] args) {
         // Initialize the Game instance
         System.setProperty("sun.java2d.uiScale", "1.0");
+        Assets.preload(Assets.LOGO, MainMenuPanel.LOGO_SIZE, MainMenuPanel.LOGO_SIZE); // decodes while the window opens
+        EdtMonitor.install(); // only with -Decojozi.edt.monitor=true
         Game game = new Game();
 
-        // Create the main frame for the game
-        JFrame mainFrame = new JFrame("EcoJozi Board Game");
-        mainFrame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        mainFrame.setLayout(new BorderLayout());
-        mainFrame.setExtendedState(JFrame.MAXIMIZED_BOTH);
-        mainFrame.setUndecorated(false);
-        mainFrame.setLocationRelativeTo(null); // Centre the frame on the screen
-
-        // Initialize the Player Setup Panel
-        MainMenuPanel mainMenuPanel = new MainMenuPanel(game.getPlayers(), mainFrame);
-        mainFrame.add(mainMenuPanel, BorderLayout.CENTER);
-        
-        Board.updateBoardColours(); // Apply colourblind settings if enabled
-
-        // Show the setup panel initially
-        mainFrame.setVisible(true);
+        // The Swing side is kept out of this class so the rules can run headless
+        MainMenuPanel.showInNewFrame(game);
     }
-}
\ No newline at end of file
+}
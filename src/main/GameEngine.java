@@ -0,0 +1,495 @@
+package main;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/*
+ * Headless rules for EcoJozi.
+ *
+ * Everything a turn can do (roll, move, claim, allocate, form alliance, transfer, end turn) lives here
+ * and only works on Game, Player, Task and Alliance, so no AWT/Swing classes are needed to play.
+ * Board is the Swing view on top of this: it asks the engine for a result and turns it into dialogs
+ * and log lines.
+ */
+public class GameEngine {
+
+    public static final int BOARD_SIZE = BoardDefinition.DEFAULT.getSize(); // squares on the default board
+    public static final int LAP_BONUS = 1000;
+    public static final int COMPLETION_REFUND = 500;
+    public static final int CHECKSUM_INTERVAL = 10; // turns between recorded state checksums
+
+    public static final String RANDOM_EVENT = "Random Event";
+    public static final String START = "Start";
+
+    // Outcomes of each action, so the view can pick the right message
+    public enum ClaimResult {
+        CLAIMED, NO_TASK, START_SQUARE, RANDOM_SQUARE, ALREADY_CLAIMED, INSUFFICIENT_FUNDS
+    }
+
+    public enum AllocationResult {
+        ALLOCATED, COMPLETED, ALREADY_COMPLETE, INVALID_AMOUNT, INSUFFICIENT_FUNDS, EXCEEDS_REQUIRED
+    }
+
+    public enum AllianceResult {
+        FORMED, ALREADY_IN_ALLIANCE, RANDOM_SQUARE, START_SQUARE, TASK_COMPLETE, NOT_OWNER,
+        PARTNER_UNAVAILABLE, ALREADY_EXISTS
+    }
+
+    public enum TurnResult {
+        NEXT_TURN, NOT_ROLLED, ALL_TASKS_COMPLETE, OUT_OF_RESOURCES
+    }
+
+    /*
+     * Told about every action that changed the game, in the order they happened (see TurnJournal).
+     * Players are indexes into Game.getPlayers(), tasks are TaskRegistry ids; a and b depend on the kind.
+     */
+    public interface ActionRecorder {
+        void record(TurnJournal.Kind kind, int turn, int player, int a, int b);
+    }
+
+    private final Game game;
+    private final BoardDefinition board;
+    private final ArrayList<Task> boardTasks;
+    private final TaskRegistry taskRegistry;
+    private boolean hasRolled;
+    private ActionRecorder recorder; // null when nothing is recording
+
+    // Objective categories (views of the registry's phase lists)
+    private final List<Task> planningTasks;
+    private final List<Task> designTasks;
+    private final List<Task> developmentTasks;
+    private final List<Task> testingTasks;
+
+    // A new game on the default board (BoardDefinition.DEFAULT)
+    public GameEngine(Game game) {
+        this(game, BoardDefinition.DEFAULT);
+    }
+
+    public GameEngine(Game game, BoardDefinition board) {
+        this.game = game;
+        this.board = board;
+        taskRegistry = new TaskRegistry(board);
+
+        planningTasks = taskRegistry.getPhaseTasks(0);
+        designTasks = taskRegistry.getPhaseTasks(1);
+        developmentTasks = taskRegistry.getPhaseTasks(2);
+        testingTasks = taskRegistry.getPhaseTasks(3);
+
+        boardTasks = new ArrayList<>(board.getSize());
+        initialiseBoardTasks();
+    }
+
+    private void initialiseBoardTasks() {
+        for (int pos = 0; pos < board.getSize(); pos++) {
+            switch (board.getSquareType(pos)) {
+                case BoardDefinition.START_SQUARE -> boardTasks.add(new Task(START, 0, null, 0, START));
+                // the actual event is drawn when a player lands there
+                case BoardDefinition.EVENT_SQUARE -> boardTasks.add(new Task(RANDOM_EVENT, 0, null, 0, RANDOM_EVENT));
+                default -> boardTasks.add(taskRegistry.getTaskAtSquare(pos));
+            }
+        }
+    }
+
+    // ---- Dice, movement and events ----
+
+    // Rolls for the current player; the turn can only be ended after this
+    public int rollDice() {
+        hasRolled = true;
+        int roll = game.getCurrentPlayer().rollDice(game.getRandom());
+        record(TurnJournal.Kind.ROLL, game.getCurrentPlayerIndex(), roll, 0);
+        return roll;
+    }
+
+    public int getNextPosition(int currentPosition) {
+        return (currentPosition + 1) % board.getSize();
+    }
+
+    // Moves the player one square, returns true if they passed Start and collected the lap bonus
+    public boolean stepPlayer(Player player) {
+        int nextPosition = getNextPosition(player.getPosition());
+        player.setPosition(nextPosition);
+        record(TurnJournal.Kind.MOVE, player, 0, 0);
+
+        if (nextPosition == 0) {
+            player.addResources(LAP_BONUS);
+            return true;
+        }
+        return false;
+    }
+
+    // Moves the player the full dice roll at once, returns how many laps were completed
+    public int movePlayer(Player player, int steps) {
+        int laps = 0;
+        for (int i = 0; i < steps; i++) {
+            if (stepPlayer(player)) {
+                laps++;
+            }
+        }
+        return laps;
+    }
+
+    public boolean isRandomEventSquare(int position) {
+        return taskRegistry.isEventSquare(position);
+    }
+
+    /*
+     * Picks a Good_Event or a Bad_Event (50/50) with the game's generator and wraps it in a Task so
+     * it can be shown and applied like any other square. The event is meant for the current player.
+     */
+    public Task drawRandomEvent() {
+        int event = drawEventNumber();
+        record(TurnJournal.Kind.EVENT, game.getCurrentPlayerIndex(), event, 0);
+        return getEvent(event);
+    }
+
+    // Good events are numbered first, then bad ones
+    int drawEventNumber() {
+        GameRandom random = game.getRandom();
+        if (random.nextBoolean()) { // 50/50 chance
+            return random.nextInt(Good_Events.getGoodEvent().size());
+        }
+        return Good_Events.getGoodEvent().size() + random.nextInt(Bad_Events.getBadEvent().size());
+    }
+
+    static Task getEvent(int event) {
+        List<Good_Events> goodEvents = Good_Events.getGoodEvent();
+        if (event < goodEvents.size()) {
+            Good_Events selectedEvent = goodEvents.get(event);
+            return new Task(RANDOM_EVENT, 0, null, 0, selectedEvent.getDescription()) {
+                @Override
+                public void applyEffect(Player player) {
+                    selectedEvent.applyEffect(player);
+                }
+            };
+        }
+        Bad_Events selectedEvent = Bad_Events.getBadEvent().get(event - goodEvents.size());
+        return new Task(RANDOM_EVENT, 0, null, 0, selectedEvent.getDescription()) {
+            @Override
+            public void applyEffect(Player player) {
+                selectedEvent.applyEffect(player);
+            }
+        };
+    }
+
+    // Draws and applies an event if the player stopped on an event square, otherwise returns null
+    public Task resolveLanding(Player player) {
+        if (!isRandomEventSquare(player.getPosition())) {
+            return null;
+        }
+        Task event = drawRandomEvent();
+        event.applyEffect(player);
+        return event;
+    }
+
+    // ---- Claiming ----
+
+    public ClaimResult checkClaim(Player player) {
+        int pos = player.getPosition();
+
+        if (taskRegistry.isEventSquare(pos)) {
+            return ClaimResult.RANDOM_SQUARE;
+        }
+        if (pos == 0) {
+            return ClaimResult.START_SQUARE;
+        }
+        Task task = taskRegistry.getTaskAtSquare(pos);
+        if (task == null) {
+            return ClaimResult.NO_TASK;
+        }
+        if (task.getOwner() != null) {
+            return ClaimResult.ALREADY_CLAIMED;
+        }
+        if (player.getResources() < task.getDeposit()) {
+            return ClaimResult.INSUFFICIENT_FUNDS;
+        }
+        return ClaimResult.CLAIMED;
+    }
+
+    // Claims the task on the player's square, paying the deposit into it
+    public ClaimResult claimTask(Player player) {
+        ClaimResult result = checkClaim(player);
+        if (result != ClaimResult.CLAIMED) {
+            return result;
+        }
+
+        Task task = taskRegistry.getTaskAtSquare(player.getPosition());
+        int cost = task.getDeposit();
+        player.deductResources(cost);
+        Player.addTask(player, task);
+        task.assignOwner(player);
+        task.updateResourceBalance(cost);
+        record(TurnJournal.Kind.CLAIM, player, task.getId(), 0);
+        return ClaimResult.CLAIMED;
+    }
+
+    // ---- Allocating ----
+
+    // Incomplete tasks owned by the player or by their alliance partner
+    public List<Task> getAllocatableTasks(Player player) {
+        List<Task> availableTasks = player.getTasks().stream()
+                .filter(task -> !task.isComplete())
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        Alliance alliance = game.getAlliances().getAllianceOf(player);
+        if (alliance != null) {
+            for (Player partner : alliance.getAlliance()) {
+                if (partner != player) {
+                    availableTasks.addAll(partner.getTasks().stream()
+                            .filter(task -> !task.isComplete())
+                            .collect(Collectors.toList()));
+                }
+            }
+        }
+        return availableTasks;
+    }
+
+    public AllocationResult allocateResources(Player player, Task task, int amount) {
+        if (task.isComplete()) {
+            return AllocationResult.ALREADY_COMPLETE;
+        }
+        if (amount <= 0) {
+            return AllocationResult.INVALID_AMOUNT;
+        }
+        if (amount > player.getResources()) {
+            return AllocationResult.INSUFFICIENT_FUNDS;
+        }
+        if (task.checkResourceBalance() + amount > task.getRequiredTotalResources()) {
+            return AllocationResult.EXCEEDS_REQUIRED;
+        }
+
+        player.deductResources(amount);
+        task.updateResourceBalance(amount);
+        record(TurnJournal.Kind.ALLOCATE, player, task.getId(), amount);
+
+        if (task.isComplete()) {
+            // the task owner gets part of the cost back
+            task.getOwner().addResources(COMPLETION_REFUND);
+            task.markAsComplete();
+            return AllocationResult.COMPLETED;
+        }
+        return AllocationResult.ALLOCATED;
+    }
+
+    // ---- Alliances ----
+
+    public AllianceResult checkAlliance(Player player) {
+        int pos = player.getPosition();
+        Task task = taskRegistry.getTaskAtSquare(pos);
+
+        if (game.getAlliances().isPlayerInAnyAlliance(player)) {
+            return AllianceResult.ALREADY_IN_ALLIANCE;
+        }
+        if (taskRegistry.isEventSquare(pos)) {
+            return AllianceResult.RANDOM_SQUARE;
+        }
+        if (pos == 0) {
+            return AllianceResult.START_SQUARE;
+        }
+        if (task != null && task.isComplete()) {
+            return AllianceResult.TASK_COMPLETE;
+        }
+        // only the owner of the task can start an alliance on it
+        if (task == null || task.getOwner() == null || !task.getOwner().equals(player)) {
+            return AllianceResult.NOT_OWNER;
+        }
+        return AllianceResult.FORMED;
+    }
+
+    // Players who are free to join an alliance with the given player
+    public List<Player> getAllianceCandidates(Player player) {
+        List<Player> otherPlayers = new ArrayList<>();
+        for (Player p : game.getPlayers()) {
+            if (!p.equals(player) && !game.getAlliances().isPlayerInAnyAlliance(p)) {
+                otherPlayers.add(p);
+            }
+        }
+        return otherPlayers;
+    }
+
+    public AllianceResult formAlliance(Player player, Player partner) {
+        AllianceResult result = checkAlliance(player);
+        if (result != AllianceResult.FORMED) {
+            return result;
+        }
+        if (game.getAlliances().getAllianceBetween(player, partner) != null) {
+            return AllianceResult.ALREADY_EXISTS;
+        }
+        if (partner == null || partner.equals(player) || game.getAlliances().isPlayerInAnyAlliance(partner)) {
+            return AllianceResult.PARTNER_UNAVAILABLE;
+        }
+
+        List<Player> allianceMembers = new ArrayList<>();
+        allianceMembers.add(player);
+        allianceMembers.add(partner);
+        new Alliance(game.getAlliances(), allianceMembers);
+        record(TurnJournal.Kind.ALLIANCE, player, game.getPlayers().indexOf(partner), 0);
+        return AllianceResult.FORMED;
+    }
+
+    // ---- Transfers ----
+
+    // Owned objective tasks of this game that are not complete yet
+    public List<Task> getTransferableTasks(Player player) {
+        return player.getTasks().stream()
+                .filter(task -> !task.isComplete() && taskRegistry.contains(task))
+                .collect(Collectors.toList());
+    }
+
+    public List<Player> getOtherPlayers(Player player) {
+        List<Player> otherPlayers = new ArrayList<>();
+        for (Player p : game.getPlayers()) {
+            if (!p.equals(player)) {
+                otherPlayers.add(p);
+            }
+        }
+        return otherPlayers;
+    }
+
+    public boolean transferTask(Player from, Task task, Player to) {
+        if (to == null || to == from || !from.removeTask(task)) {
+            return false;
+        }
+        Player.addTask(to, task);
+        record(TurnJournal.Kind.TRANSFER, from, task.getId(), game.getPlayers().indexOf(to));
+        return true;
+    }
+
+    // ---- Turns and endings ----
+
+    public TurnResult endTurn() {
+        if (isGameWon()) {
+            return TurnResult.ALL_TASKS_COMPLETE;
+        }
+        if (!hasRolled) {
+            return TurnResult.NOT_ROLLED;
+        }
+        if (areAllPlayersOutOfResources()) {
+            return TurnResult.OUT_OF_RESOURCES;
+        }
+
+        hasRolled = false;
+        record(TurnJournal.Kind.END_TURN, game.getCurrentPlayerIndex(), 0, 0);
+        game.nextTurn();
+        if (recorder != null && game.getTurn() % CHECKSUM_INTERVAL == 0) {
+            record(TurnJournal.Kind.CHECKSUM, game.getCurrentPlayerIndex(), getStateChecksum(), 0);
+        }
+        return TurnResult.NEXT_TURN;
+    }
+
+    public boolean isGameWon() {
+        for (int id = 0; id < taskRegistry.size(); id++) {
+            if (!taskRegistry.getTask(id).isComplete()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean areAllPlayersOutOfResources() {
+        return game.getPlayers().stream().allMatch(player -> player.getResources() == 0);
+    }
+
+    // ---- Recording ----
+
+    public void setRecorder(ActionRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    public ActionRecorder getRecorder() {
+        return recorder;
+    }
+
+    /*
+     * A hash of everything the rules depend on (the same things a GameSnapshot holds, apart from names
+     * and tokens): two games with the same checksum are, for practical purposes, in the same state.
+     * Recorded every CHECKSUM_INTERVAL turns so a replay can tell exactly where it went different.
+     */
+    public int getStateChecksum() {
+        List<Player> players = game.getPlayers();
+        long hash = mix(game.getTurn(), game.getCurrentPlayerIndex());
+        hash = mix(hash, hasRolled ? 1 : 0);
+        hash = mix(hash, game.getRandom().getState());
+        for (Player player : players) {
+            hash = mix(hash, player.getResources());
+            hash = mix(hash, player.getPosition());
+            hash = mix(hash, player.getPreviousPosition());
+            for (Task task : player.getTasks()) {
+                hash = mix(hash, taskRegistry.contains(task) ? task.getId() : -1);
+            }
+        }
+        for (int id = 0; id < taskRegistry.size(); id++) {
+            Task task = taskRegistry.getTask(id);
+            hash = mix(hash, task.getOwner() == null ? -1 : players.indexOf(task.getOwner()));
+            hash = mix(hash, task.checkResourceBalance());
+        }
+        for (Alliance alliance : game.getAlliances().getAlliances()) {
+            for (Player member : alliance.getAlliance()) {
+                hash = mix(hash, players.indexOf(member));
+            }
+            Task task = alliance.getTask();
+            hash = mix(hash, task == null || !taskRegistry.contains(task) ? -1 : task.getId());
+        }
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private static long mix(long hash, long value) {
+        hash = (hash ^ value) * 0x9e3779b97f4a7c15L;
+        return hash ^ (hash >>> 29);
+    }
+
+    private void record(TurnJournal.Kind kind, Player player, int a, int b) {
+        if (recorder != null) {
+            record(kind, game.getPlayers().indexOf(player), a, b);
+        }
+    }
+
+    private void record(TurnJournal.Kind kind, int player, int a, int b) {
+        if (recorder != null) {
+            recorder.record(kind, game.getTurn(), player, a, b);
+        }
+    }
+
+    // ---- Getters ----
+
+    public Game getGame() {
+        return game;
+    }
+
+    public boolean hasRolled() {
+        return hasRolled;
+    }
+
+    // For rebuilding a game saved part-way through a turn
+    void setRolled(boolean hasRolled) {
+        this.hasRolled = hasRolled;
+    }
+
+    public ArrayList<Task> getBoardTasks() {
+        return boardTasks;
+    }
+
+    public TaskRegistry getTaskRegistry() {
+        return taskRegistry;
+    }
+
+    public BoardDefinition getBoard() {
+        return board;
+    }
+
+    public List<Task> getPlanningTasks() {
+        return planningTasks;
+    }
+
+    public List<Task> getDesignTasks() {
+        return designTasks;
+    }
+
+    public List<Task> getDevelopmentTasks() {
+        return developmentTasks;
+    }
+
+    public List<Task> getTestingTasks() {
+        return testingTasks;
+    }
+}
@@ -0,0 +1,158 @@
+package main;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.swing.AbstractListModel;
+import javax.swing.Timer;
+
+/*
+ * The board's game log: a fixed-size ring of typed entries that doubles as the JList model.
+ *
+ * Only the newest entries (DEFAULT_CAPACITY by default) are kept, so memory and the cost of an append
+ * stay the same however long a game runs. append may be called from any thread: entries wait in a
+ * small pending queue and a single-shot Swing timer moves them into the ring once per frame, firing one
+ * removed/added event pair for the whole batch. The ring and the list model events are only touched on
+ * the event dispatch thread.
+ */
+public class GameLog extends AbstractListModel<GameLog.Entry> {
+
+    public enum Kind {
+        GAME,      // seed, endings
+        TURN,      // turn changes
+        MOVE,      // dice rolls and laps
+        EVENT,     // random events
+        TASK,      // claims and transfers
+        ALLIANCE
+    }
+
+    public record Entry(long number, Kind kind, String text) {
+        @Override
+        public String toString() {
+            return text;
+        }
+    }
+
+    public static final int DEFAULT_CAPACITY = 500;
+    static final int FRAME_MILLIS = 16;
+
+    private final int capacity;
+
+    // newest entries, oldest first starting at head (event dispatch thread only)
+    private final Entry[] ring;
+    private int head;
+    private int size;
+
+    // appended but not yet shown; guarded by itself
+    private final ArrayDeque<Entry> pending = new ArrayDeque<>();
+    private long nextNumber;
+    private boolean flushScheduled;
+    private final Timer flushTimer;
+
+    public GameLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public GameLog(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.ring = new Entry[capacity];
+        this.flushTimer = new Timer(FRAME_MILLIS, e -> flush());
+        this.flushTimer.setRepeats(false);
+    }
+
+    // Safe to call from any thread; the entry shows up on the next frame
+    public void append(Kind kind, String text) {
+        boolean schedule;
+        synchronized (pending) {
+            pending.addLast(new Entry(nextNumber++, kind, text));
+            if (pending.size() > capacity) {
+                pending.removeFirst(); // would be pushed out of the ring anyway
+            }
+            schedule = !flushScheduled;
+            flushScheduled = true;
+        }
+        if (schedule) {
+            flushTimer.restart();
+        }
+    }
+
+    /*
+     * Moves pending entries into the ring and tells the list in one batch. Run by the timer; tests
+     * and callers that need the entries straight away may call it on the event dispatch thread.
+     */
+    void flush() {
+        List<Entry> batch;
+        synchronized (pending) {
+            batch = new ArrayList<>(pending);
+            pending.clear();
+            flushScheduled = false;
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        int removed = Math.max(0, size + batch.size() - capacity);
+        for (Entry entry : batch) {
+            if (size < capacity) {
+                ring[(head + size) % capacity] = entry;
+                size++;
+            } else {
+                ring[head] = entry; // overwrite the oldest
+                head = (head + 1) % capacity;
+            }
+        }
+
+        if (removed > 0) {
+            fireIntervalRemoved(this, 0, removed - 1);
+        }
+        int added = Math.min(batch.size(), capacity);
+        fireIntervalAdded(this, size - added, size - 1);
+    }
+
+    public void clear() {
+        synchronized (pending) {
+            pending.clear();
+        }
+        int oldSize = size;
+        Arrays.fill(ring, null);
+        head = 0;
+        size = 0;
+        if (oldSize > 0) {
+            fireIntervalRemoved(this, 0, oldSize - 1);
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    // Total number of entries ever appended, including those that have been dropped
+    public long getAppendedCount() {
+        synchronized (pending) {
+            return nextNumber;
+        }
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public Entry getElementAt(int index) {
+        return ring[(head + index) % capacity];
+    }
+
+    // Texts of the shown entries, oldest first
+    public List<String> getTexts() {
+        List<String> texts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            texts.add(getElementAt(i).text());
+        }
+        return texts;
+    }
+}
@@ -0,0 +1,122 @@
+package main;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+/*
+ * Seedable, splittable random numbers for one game.
+ *
+ * Uses the same SplitMix64 algorithm as java.util.SplittableRandom, but keeps its state readable so a
+ * game can be replayed exactly from its seed. Each game owns its own instance, so dice rolls and event
+ * draws never touch a shared generator and parallel simulations don't contend.
+ */
+public class GameRandom implements RandomGenerator {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    // Only used to pick seeds for new games when none is given
+    private static final AtomicLong seeder = new AtomicLong(mix64(System.currentTimeMillis()) ^ mix64(System.nanoTime()));
+
+    private final long initialSeed;
+    private final long gamma;
+    private long seed;
+
+    public GameRandom(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    private GameRandom(long seed, long gamma) {
+        this.initialSeed = seed;
+        this.seed = seed;
+        this.gamma = gamma;
+    }
+
+    // A fresh seed for a game nobody asked to reproduce
+    public static long newSeed() {
+        return mix64(seeder.getAndAdd(2 * GOLDEN_GAMMA));
+    }
+
+    /*
+     * Generator for game number 'index' of a run started from 'baseSeed'. Does not depend on which
+     * thread plays the game, so any single game of a parallel run can be replayed on its own.
+     */
+    public static GameRandom forGame(long baseSeed, long index) {
+        return new GameRandom(mix64(baseSeed + (index + 1) * GOLDEN_GAMMA));
+    }
+
+    // Same state as this generator, but advances on its own (for checking a game against a copy of itself)
+    public GameRandom copy() {
+        GameRandom copy = new GameRandom(initialSeed, gamma);
+        copy.seed = seed;
+        return copy;
+    }
+
+    // A generator exactly where a saved one stopped (see GameSnapshot)
+    static GameRandom restore(long initialSeed, long gamma, long state) {
+        GameRandom random = new GameRandom(initialSeed, gamma);
+        random.seed = state;
+        return random;
+    }
+
+    // Moves this generator to a saved state of the same sequence (same seed and gamma)
+    void setState(long state) {
+        seed = state;
+    }
+
+    long getGamma() {
+        return gamma;
+    }
+
+    long getState() {
+        return seed;
+    }
+
+    // Independent generator for another thread or sub-task
+    public GameRandom split() {
+        return new GameRandom(nextLong(), mixGamma(nextSeed()));
+    }
+
+    @Override
+    public long nextLong() {
+        return mix64(nextSeed());
+    }
+
+    @Override
+    public int nextInt() {
+        return mix32(nextSeed());
+    }
+
+    // 1-6 from any generator: a game's own (GameEngine, SimulationKernel) or, for a throwaway roll, another
+    public static int rollDice(RandomGenerator random) {
+        return random.nextInt(6) + 1;
+    }
+
+    public long getInitialSeed() {
+        return initialSeed;
+    }
+
+    private long nextSeed() {
+        return seed += gamma;
+    }
+
+    // ---- SplitMix64 mixing functions (same constants as SplittableRandom) ----
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int mix32(long z) {
+        z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+        return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
+
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int n = Long.bitCount(z ^ (z >>> 1));
+        return (n < 24) ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+}
@@ -0,0 +1,58 @@
+package main;
+
+/*
+ * State that belongs to one open game window rather than to the whole JVM: the player's settings
+ * and the board currently being played. It is handed from the main menu to the settings screen and
+ * the board, so two windows (or two games in tests) never share a colourblind flag or a board.
+ * Game state itself, alliances included, lives in Game.
+ */
+public class GameSession {
+    private boolean colourblindMode;
+    private boolean skipAnimation;
+    private int animationStepMillis = TokenAnimator.DEFAULT_STEP_MILLIS;
+    private Board board; // null until a game has started
+
+    public boolean isColourblindMode() {
+        return colourblindMode;
+    }
+
+    // Changing the mode recolours the running board straight away
+    public void setColourblindMode(boolean colourblindMode) {
+        this.colourblindMode = colourblindMode;
+        if (board != null) {
+            board.applyBoardColours();
+        }
+    }
+
+    // Token animation settings, read by the board at every dice roll
+    public boolean isSkipAnimation() {
+        return skipAnimation;
+    }
+
+    public void setSkipAnimation(boolean skipAnimation) {
+        this.skipAnimation = skipAnimation;
+    }
+
+    public int getAnimationStepMillis() {
+        return animationStepMillis;
+    }
+
+    public void setAnimationStepMillis(int animationStepMillis) {
+        if (animationStepMillis < 0) {
+            throw new IllegalArgumentException("Step duration can't be negative: " + animationStepMillis);
+        }
+        this.animationStepMillis = animationStepMillis;
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    // The board it replaces stops saving, so only the game on screen writes the autosave
+    void setBoard(Board board) {
+        if (this.board != null && this.board != board) {
+            this.board.stopRecording();
+        }
+        this.board = board;
+    }
+}
@@ -0,0 +1,418 @@
+package main;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.CRC32;
+
+/*
+ * A whole game saved as a few hundred bytes, and read back into a GameEngine ready for a Board.
+ *
+ * The snapshot holds everything the rules depend on: the turn, the current player, whether they have
+ * rolled, the generator's exact state (so dice and events carry on as if the game was never closed),
+ * every player's resources, squares, token and held tasks, every task's owner and balance, and the
+ * alliances. Tasks and players are written as indexes, never as text, and the descriptions come from
+ * the board itself, so a save stays small and a changed description doesn't break it. Those indexes
+ * only mean something on the board the game was played on, so the save starts with that board's
+ * fingerprint (BoardDefinition.getFingerprint) and decode refuses a save from any other board.
+ *
+ * Layout (big-endian, DataOutputStream):
+ *
+ *     int    MAGIC ("EJZS")         short  FORMAT_VERSION
+ *     UTF    board name             short  board size          int   board fingerprint
+ *     int    turn                   short  current player      byte  rolled (0/1)
+ *     long   generator seed, gamma, state
+ *     short  player count, then per player:
+ *            UTF name, UTF character, int resources, short position, short previous position,
+ *            short held count, short task id per held task
+ *     short  task count (must match the board), then per task: short owner (-1 = none), int balance
+ *     short  alliance count, then per alliance: short member count, short player per member,
+ *            short task id (-1 = none)
+ *     int    CRC32 of everything above
+ *
+ * Encoding and decoding take microseconds, so the Board checkpoints after every turn: the bytes are
+ * made on the event dispatch thread and written on a background thread (checkpoint), into a temporary
+ * file that then replaces the save, so a crash mid-write leaves the previous save whole.
+ *
+ * The autosave lives in ~/.ecojozi/autosave.ejz; -Decojozi.save=<file> puts it somewhere else and
+ * -Decojozi.save=off turns saving off.
+ */
+public final class GameSnapshot {
+
+    public static final int MAGIC = 0x454A5A53; // "EJZS"
+    public static final short FORMAT_VERSION = 2;
+
+    // Where the running game is checkpointed, or null when saving is off
+    public static final Path AUTOSAVE = autosavePath(System.getProperty("ecojozi.save"));
+
+    private static final int NONE = -1;
+
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ecojozi-save");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The newest checkpoint of each file not written yet; older ones of the same file are skipped
+    private static final Map<Path, byte[]> pendingCheckpoints = new ConcurrentHashMap<>();
+
+    private GameSnapshot() {
+    }
+
+    static Path autosavePath(String property) {
+        if (property == null || property.isBlank()) {
+            return Paths.get(System.getProperty("user.home"), ".ecojozi", "autosave.ejz");
+        }
+        return property.equals("off") ? null : Paths.get(property);
+    }
+
+    public static boolean hasSave(Path file) {
+        return file != null && Files.isRegularFile(file);
+    }
+
+    // ---- Writing ----
+
+    public static byte[] encode(GameEngine engine) {
+        Game game = engine.getGame();
+        TaskRegistry registry = engine.getTaskRegistry();
+        List<Player> players = game.getPlayers();
+        GameRandom random = game.getRandom();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeShort(FORMAT_VERSION);
+            BoardDefinition board = engine.getBoard();
+            out.writeUTF(board.getName());
+            out.writeShort(board.getSize());
+            out.writeInt(board.getFingerprint());
+            out.writeInt(game.getTurn());
+            out.writeShort(game.getCurrentPlayerIndex());
+            out.writeBoolean(engine.hasRolled());
+            out.writeLong(random.getInitialSeed());
+            out.writeLong(random.getGamma());
+            out.writeLong(random.getState());
+
+            out.writeShort(players.size());
+            for (Player player : players) {
+                out.writeUTF(player.getName());
+                out.writeUTF(player.getCharacter() == null ? "" : player.getCharacter());
+                out.writeInt(player.getResources());
+                out.writeShort(player.getPosition());
+                out.writeShort(player.getPreviousPosition());
+
+                List<Task> held = new ArrayList<>();
+                for (Task task : player.getTasks()) {
+                    if (registry.contains(task)) { // only the board's objectives can be held across a save
+                        held.add(task);
+                    }
+                }
+                out.writeShort(held.size());
+                for (Task task : held) {
+                    out.writeShort(task.getId());
+                }
+            }
+
+            out.writeShort(registry.size());
+            for (int id = 0; id < registry.size(); id++) {
+                Task task = registry.getTask(id);
+                out.writeShort(task.getOwner() == null ? NONE : players.indexOf(task.getOwner()));
+                out.writeInt(task.checkResourceBalance());
+            }
+
+            List<Alliance> alliances = game.getAlliances().getAlliances();
+            out.writeShort(alliances.size());
+            for (Alliance alliance : alliances) {
+                List<Player> members = alliance.getAlliance();
+                out.writeShort(members.size());
+                for (Player member : members) {
+                    out.writeShort(players.indexOf(member));
+                }
+                Task task = alliance.getTask();
+                out.writeShort(task == null || !registry.contains(task) ? NONE : task.getId());
+            }
+
+            CRC32 crc = new CRC32();
+            crc.update(bytes.toByteArray());
+            out.writeInt((int) crc.getValue());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // a ByteArrayOutputStream doesn't fail
+        }
+        return bytes.toByteArray();
+    }
+
+    // Writes the save now, replacing the file in one step
+    public static void write(GameEngine engine, Path file) throws IOException {
+        writeBytes(encode(engine), file);
+    }
+
+    /*
+     * Saves the game without holding up the caller: only the encoding happens here. If several
+     * checkpoints of one file queue up behind a slow disk, only the newest is written; checkpoints of
+     * other files (other games) are all written.
+     */
+    public static void checkpoint(GameEngine engine, Path file) {
+        if (file == null) {
+            return;
+        }
+        Path key = file.toAbsolutePath().normalize();
+        if (pendingCheckpoints.put(key, encode(engine)) != null) {
+            return; // the queued write of this file picks up this one instead
+        }
+        WRITER.execute(() -> {
+            byte[] newest = pendingCheckpoints.remove(key);
+            if (newest == null) {
+                return; // discarded before it was written
+            }
+            try {
+                writeBytes(newest, file);
+            } catch (IOException e) {
+                DebugLog.warn(() -> "Could not save the game to " + file + ": " + e.getMessage());
+            }
+        });
+    }
+
+    // Forgets the save, e.g. when its game has ended, along with any checkpoint of it not written yet
+    public static void discard(Path file) {
+        if (file == null) {
+            return;
+        }
+        pendingCheckpoints.remove(file.toAbsolutePath().normalize());
+        WRITER.execute(() -> {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                DebugLog.warn(() -> "Could not delete " + file + ": " + e.getMessage());
+            }
+        });
+    }
+
+    // Waits for the checkpoints and deletes queued so far
+    static void awaitWrites() throws InterruptedException {
+        try {
+            WRITER.submit(() -> { }).get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void writeBytes(byte[] data, Path file) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temporary, data);
+            try {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    // ---- Reading ----
+
+    public static GameEngine read(Path file) throws IOException {
+        return decode(Files.readAllBytes(file));
+    }
+
+    // A new Game and GameEngine exactly as they were saved; IOException if the bytes are not a valid save
+    public static GameEngine decode(byte[] data) throws IOException {
+        return decode(data, BoardDefinition.DEFAULT);
+    }
+
+    // The same for a game played on another board; IOException if the save was made on a different one
+    public static GameEngine decode(byte[] data, BoardDefinition board) throws IOException {
+        if (data.length < 10) {
+            throw new IOException("Not an EcoJozi save (too short)");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length - 4);
+        int storedCrc = ((data[data.length - 4] & 0xff) << 24) | ((data[data.length - 3] & 0xff) << 16)
+                | ((data[data.length - 2] & 0xff) << 8) | (data[data.length - 1] & 0xff);
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, 0, data.length - 4));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not an EcoJozi save");
+        }
+        short version = in.readShort();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported save version " + version);
+        }
+        if ((int) crc.getValue() != storedCrc) {
+            throw new IOException("Save is damaged (checksum mismatch)");
+        }
+        String boardName = in.readUTF();
+        int boardSize = in.readShort();
+        if (boardSize != board.getSize() || in.readInt() != board.getFingerprint()) {
+            throw new IOException("Save was made on the board " + boardName + " (" + boardSize
+                    + " squares), not on " + board.getName() + " (" + board.getSize() + " squares)");
+        }
+
+        int turn = in.readInt();
+        int currentPlayer = in.readShort();
+        boolean rolled = in.readBoolean();
+        GameRandom random = GameRandom.restore(in.readLong(), in.readLong(), in.readLong());
+
+        int playerCount = in.readShort();
+        ArrayList<Player> players = new ArrayList<>(playerCount);
+        int[][] held = new int[playerCount][];
+        for (int p = 0; p < playerCount; p++) {
+            Player player = new Player(in.readUTF());
+            player.setCharacter(in.readUTF());
+            player.addResources(in.readInt());
+            int position = in.readShort();
+            int previous = in.readShort();
+            if (position < 0 || position >= board.getSize() || previous < 0 || previous >= board.getSize()) {
+                throw new IOException("Save has a player on square " + position + ", the board has " + board.getSize());
+            }
+            player.setPosition(previous); // becomes the previous position
+            player.setPosition(position);
+            held[p] = new int[in.readShort()];
+            for (int k = 0; k < held[p].length; k++) {
+                held[p][k] = in.readShort();
+            }
+            players.add(player);
+        }
+
+        Game game = new Game(players, random);
+        try {
+            game.setCurrentPlayerIndex(currentPlayer);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Save has no player " + currentPlayer, e);
+        }
+        game.setTurn(turn);
+        GameEngine engine = new GameEngine(game, board);
+        engine.setRolled(rolled);
+        TaskRegistry registry = engine.getTaskRegistry();
+
+        int taskCount = in.readShort();
+        if (taskCount != registry.size()) {
+            throw new IOException("Save has " + taskCount + " tasks, the board has " + registry.size());
+        }
+        for (int id = 0; id < taskCount; id++) {
+            Task task = registry.getTask(id);
+            int owner = in.readShort();
+            int balance = in.readInt();
+            if (owner != NONE) {
+                task.assignOwner(player(players, owner));
+            }
+            if (balance != 0) {
+                task.updateResourceBalance(balance);
+            }
+        }
+
+        for (int p = 0; p < playerCount; p++) {
+            for (int id : held[p]) {
+                Player.addTask(players.get(p), task(registry, id));
+            }
+        }
+
+        int allianceCount = in.readShort();
+        for (int a = 0; a < allianceCount; a++) {
+            List<Player> members = new ArrayList<>();
+            int memberCount = in.readShort();
+            if (memberCount != 2) {
+                throw new IOException("Save has an alliance of " + memberCount);
+            }
+            for (int m = 0; m < memberCount; m++) {
+                members.add(player(players, in.readShort()));
+            }
+            int taskId = in.readShort();
+            Alliance alliance = new Alliance(game.getAlliances(), members);
+            if (taskId != NONE) {
+                alliance.setTask(task(registry, taskId));
+            }
+        }
+        return engine;
+    }
+
+    /*
+     * Puts a save of the same game (same players, same seed) into an engine that already exists,
+     * instead of making a new one: the Board, canvas and view model built on the engine stay valid and
+     * simply show the saved state. Used to jump around a replay (see ReplayTimeline).
+     */
+    public static void decodeInto(byte[] data, GameEngine target) throws IOException {
+        GameEngine saved = decode(data, target.getBoard());
+        Game from = saved.getGame();
+        Game to = target.getGame();
+        List<Player> savedPlayers = from.getPlayers();
+        List<Player> players = to.getPlayers();
+        if (savedPlayers.size() != players.size() || from.getSeed() != to.getSeed()
+                || from.getRandom().getGamma() != to.getRandom().getGamma()) {
+            throw new IOException("Save is of another game");
+        }
+        for (int p = 0; p < players.size(); p++) {
+            if (!savedPlayers.get(p).getName().equals(players.get(p).getName())) {
+                throw new IOException("Save is of another game (player " + savedPlayers.get(p).getName() + ")");
+            }
+        }
+
+        for (Alliance alliance : new ArrayList<>(to.getAlliances().getAlliances())) {
+            alliance.dissolve();
+        }
+        TaskRegistry registry = target.getTaskRegistry();
+        for (int id = 0; id < registry.size(); id++) {
+            Task task = saved.getTaskRegistry().getTask(id);
+            Player owner = task.getOwner() == null ? null : players.get(savedPlayers.indexOf(task.getOwner()));
+            registry.getTask(id).restore(owner, task.checkResourceBalance());
+        }
+        for (int p = 0; p < players.size(); p++) {
+            Player player = players.get(p);
+            Player savedPlayer = savedPlayers.get(p);
+            player.addResources(savedPlayer.getResources() - player.getResources());
+            player.setPosition(savedPlayer.getPreviousPosition());
+            player.setPosition(savedPlayer.getPosition());
+            player.getTasks().clear();
+            for (Task task : savedPlayer.getTasks()) {
+                Player.addTask(player, registry.getTask(task.getId()));
+            }
+        }
+        for (Alliance alliance : from.getAlliances().getAlliances()) {
+            List<Player> members = new ArrayList<>();
+            for (Player member : alliance.getAlliance()) {
+                members.add(players.get(savedPlayers.indexOf(member)));
+            }
+            Alliance restored = new Alliance(to.getAlliances(), members);
+            if (alliance.getTask() != null) {
+                restored.setTask(registry.getTask(alliance.getTask().getId()));
+            }
+        }
+
+        to.setTurn(from.getTurn());
+        to.setCurrentPlayerIndex(from.getCurrentPlayerIndex());
+        to.getRandom().setState(from.getRandom().getState());
+        target.setRolled(saved.hasRolled());
+    }
+
+    private static Player player(List<Player> players, int index) throws IOException {
+        if (index < 0 || index >= players.size()) {
+            throw new IOException("Save refers to player " + index + " of " + players.size());
+        }
+        return players.get(index);
+    }
+
+    private static Task task(TaskRegistry registry, int id) throws IOException {
+        if (id < 0 || id >= registry.size()) {
+            throw new IOException("Save refers to task " + id + " of " + registry.size());
+        }
+        return registry.getTask(id);
+    }
+}
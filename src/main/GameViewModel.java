@@ -0,0 +1,269 @@
+package main;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/*
+ * What the players and objectives panels show, as one immutable snapshot of the game.
+ *
+ * A snapshot is made in two steps. capture copies the numbers out of the live game (resources,
+ * positions, owners, balances, alliance members) into plain arrays; that is cheap and runs on the
+ * thread that changed the game. build then turns a capture into the display records and their text,
+ * on any thread (ViewModelPublisher does it in the background). Snapshots never change once built,
+ * so the panels, the tooltips and any background analytics can all read the same one safely.
+ *
+ * Each snapshot has a version; a higher version was captured later.
+ */
+public final class GameViewModel {
+
+    public enum TaskState { OPEN, ALLIANCE_PENDING, CLAIMED, COMPLETED }
+
+    public record PlayerSummary(int index, String name, String character, int resources, int position,
+                                boolean current, int allianceSize, int taskCount, String displayText) {
+    }
+
+    // owner is the name of the claiming player, or null; tokens are the characters shown after the row
+    public record TaskStatus(int id, String description, int phase, int phaseRow, TaskState state,
+                             String owner, List<String> tokens, int allianceSize, int balance, int required,
+                             int deposit, String displayText, String toolTip) {
+
+        // Share of the required resources allocated so far, 0 to 1
+        public double getProgress() {
+            return required == 0 ? 1 : Math.min(1, balance / (double) required);
+        }
+    }
+
+    private final long version;
+    private final List<PlayerSummary> players;
+    private final List<TaskStatus> tasks; // by task id
+    private final List<List<TaskStatus>> phaseTasks;
+
+    private GameViewModel(long version, List<PlayerSummary> players, List<TaskStatus> tasks) {
+        this.version = version;
+        this.players = Collections.unmodifiableList(players);
+        this.tasks = Collections.unmodifiableList(tasks);
+
+        List<List<TaskStatus>> phases = new ArrayList<>();
+        for (int phase = 0; phase < TaskRegistry.PHASES.length; phase++) {
+            phases.add(new ArrayList<>());
+        }
+        for (TaskStatus task : tasks) {
+            List<TaskStatus> rows = phases.get(task.phase());
+            while (rows.size() <= task.phaseRow()) {
+                rows.add(null);
+            }
+            rows.set(task.phaseRow(), task);
+        }
+        for (int phase = 0; phase < phases.size(); phase++) {
+            phases.set(phase, Collections.unmodifiableList(phases.get(phase)));
+        }
+        this.phaseTasks = Collections.unmodifiableList(phases);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<PlayerSummary> getPlayers() {
+        return players;
+    }
+
+    public PlayerSummary getCurrentPlayer() {
+        for (PlayerSummary player : players) {
+            if (player.current()) {
+                return player;
+            }
+        }
+        return null;
+    }
+
+    public List<TaskStatus> getTasks() {
+        return tasks;
+    }
+
+    public TaskStatus getTask(int id) {
+        return tasks.get(id);
+    }
+
+    // In the order of the phase's objectives list
+    public List<TaskStatus> getPhaseTasks(int phase) {
+        return phaseTasks.get(phase);
+    }
+
+    /*
+     * The raw numbers of one moment of the game. Descriptions, names and characters are shared
+     * (strings never change); everything else is copied.
+     */
+    static final class Capture {
+        final long version;
+
+        final String[] names;
+        final String[] characters;
+        final int[] resources;
+        final int[] positions;
+        final int[] playerAllianceSize; // 0 when not in an alliance
+        final int[] playerTaskCount;
+        final int currentPlayer;
+
+        final String[] descriptions;
+        final int[] phases;
+        final int[] phaseRows;
+        final TaskState[] states;
+        final int[] owners;              // player index, or -1
+        final int[][] allianceMembers;   // player indexes of the task's alliance, empty if none
+        final int[] balances;
+        final int[] required;
+        final int[] deposits;
+
+        private Capture(long version, int playerCount, int taskCount, int currentPlayer) {
+            this.version = version;
+            names = new String[playerCount];
+            characters = new String[playerCount];
+            resources = new int[playerCount];
+            positions = new int[playerCount];
+            playerAllianceSize = new int[playerCount];
+            playerTaskCount = new int[playerCount];
+            this.currentPlayer = currentPlayer;
+
+            descriptions = new String[taskCount];
+            phases = new int[taskCount];
+            phaseRows = new int[taskCount];
+            states = new TaskState[taskCount];
+            owners = new int[taskCount];
+            allianceMembers = new int[taskCount][];
+            balances = new int[taskCount];
+            required = new int[taskCount];
+            deposits = new int[taskCount];
+        }
+    }
+
+    // Copies the game's current numbers; call on the thread that changes the game
+    static Capture capture(Game game, TaskRegistry registry, long version) {
+        List<Player> players = game.getPlayers();
+        List<Task> tasks = registry.getTasks();
+        AllianceRegistry alliances = game.getAlliances();
+        Capture capture = new Capture(version, players.size(), tasks.size(), players.indexOf(game.getCurrentPlayer()));
+
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            capture.names[i] = player.getName();
+            capture.characters[i] = player.getCharacter();
+            capture.resources[i] = player.getResources();
+            capture.positions[i] = player.getPosition();
+            Alliance alliance = alliances.getAllianceOf(player);
+            capture.playerAllianceSize[i] = alliance == null ? 0 : alliance.getAlliance().size();
+            capture.playerTaskCount[i] = player.getTasks().size();
+        }
+
+        for (int id = 0; id < tasks.size(); id++) {
+            Task task = tasks.get(id);
+            capture.descriptions[id] = task.getDescription();
+            capture.phases[id] = registry.getPhase(task);
+            capture.phaseRows[id] = registry.getPhaseRow(task);
+            capture.states[id] = stateOf(task, alliances);
+            capture.owners[id] = task.getOwner() == null ? -1 : players.indexOf(task.getOwner());
+            Alliance alliance = alliances.getAllianceByTask(task);
+            if (alliance == null) {
+                capture.allianceMembers[id] = new int[0];
+            } else {
+                List<Player> members = alliance.getAlliance();
+                capture.allianceMembers[id] = new int[members.size()];
+                for (int m = 0; m < members.size(); m++) {
+                    capture.allianceMembers[id][m] = players.indexOf(members.get(m));
+                }
+            }
+            capture.balances[id] = task.checkResourceBalance();
+            capture.required[id] = task.getRequiredTotalResources();
+            capture.deposits[id] = task.getDeposit();
+        }
+        return capture;
+    }
+
+    // Turns a capture into display records; touches nothing of the live game
+    static GameViewModel build(Capture capture) {
+        List<PlayerSummary> players = new ArrayList<>(capture.names.length);
+        for (int i = 0; i < capture.names.length; i++) {
+            players.add(new PlayerSummary(i, capture.names[i], capture.characters[i], capture.resources[i],
+                    capture.positions[i], i == capture.currentPlayer, capture.playerAllianceSize[i],
+                    capture.playerTaskCount[i],
+                    playerText(capture.names[i], capture.resources[i], capture.playerAllianceSize[i])));
+        }
+
+        List<TaskStatus> tasks = new ArrayList<>(capture.descriptions.length);
+        for (int id = 0; id < capture.descriptions.length; id++) {
+            int owner = capture.owners[id];
+            int[] members = capture.allianceMembers[id];
+            tasks.add(new TaskStatus(id, capture.descriptions[id], capture.phases[id], capture.phaseRows[id],
+                    capture.states[id], owner < 0 ? null : capture.names[owner],
+                    tokensOf(capture, owner, members), members.length, capture.balances[id],
+                    capture.required[id], capture.deposits[id],
+                    taskText(capture.descriptions[id], capture.states[id]),
+                    taskToolTip(capture.descriptions[id], capture.deposits[id], capture.required[id],
+                            capture.balances[id])));
+        }
+        return new GameViewModel(capture.version, players, tasks);
+    }
+
+    // The owner's token, or those of a formed alliance's members
+    private static List<String> tokensOf(Capture capture, int owner, int[] members) {
+        String[] tokens;
+        if (owner >= 0) {
+            tokens = new String[]{capture.characters[owner]};
+        } else if (members.length >= 2) {
+            tokens = new String[members.length];
+            for (int m = 0; m < members.length; m++) {
+                tokens[m] = members[m] < 0 ? null : capture.characters[members[m]];
+            }
+        } else {
+            return List.of();
+        }
+        return Arrays.stream(tokens).filter(token -> token != null && !token.isEmpty()).toList();
+    }
+
+    static TaskState stateOf(Task task, AllianceRegistry alliances) {
+        if (task.isComplete()) {
+            return TaskState.COMPLETED;
+        }
+        if (task.getOwner() != null) {
+            return TaskState.CLAIMED;
+        }
+        Alliance alliance = alliances.getAllianceByTask(task);
+        if (alliance != null) {
+            int allianceSize = alliance.getAlliance().size();
+            if (allianceSize == 1) {
+                return TaskState.ALLIANCE_PENDING;
+            } else if (allianceSize >= 2) {
+                return TaskState.CLAIMED;
+            }
+        }
+        return TaskState.OPEN;
+    }
+
+    static String taskText(String description, TaskState state) {
+        return switch (state) {
+            case COMPLETED -> String.format("<html>- %s [COMPLETED]</html>", description);
+            case CLAIMED -> String.format("<html>- %s [CLAIMED]</html>", description);
+            case ALLIANCE_PENDING -> String.format("<html>- %s (Alliance 1/2)</html>", description);
+            case OPEN -> String.format("<html>- %s</html>", description);
+        };
+    }
+
+    static String taskToolTip(String description, int deposit, int required, int balance) {
+        return "<html><b>" + description + "</b><br>"
+                + "Deposit: " + deposit + "<br>"
+                + "Total Required: " + required + "<br>"
+                + "Currently Allocated: " + balance + "<br>";
+    }
+
+    static String playerText(String name, int resources, int allianceSize) {
+        String allianceInfo = "";
+        if (allianceSize == 1) {
+            allianceInfo = "Alliance needed (1/2)";
+        } else if (allianceSize >= 2) {
+            allianceInfo = "Alliance formed";
+        }
+        return String.format("<html><b>%s</b><br>Resources: R %d<br>%s</html>", name, resources, allianceInfo);
+    }
+}
@@ -7,18 +7,10 @@ import java.awt.*;
 public class GoodEndingPanel extends JPanel {
 
     private JFrame mainFrame;
-    private MainMenuPanel previousPanel;
     
 
-    public GoodEndingPanel(MainMenuPanel previousPanel, JFrame mainFrame) {
+    public GoodEndingPanel(JFrame mainFrame) {
         this.mainFrame = mainFrame;
-        
-        // If previousPanel is null, create a new main menu panel
-        if (previousPanel == null) {
-            this.previousPanel = new MainMenuPanel(new Game().getPlayers(), mainFrame);
-        } else {
-            this.previousPanel = previousPanel;
-        }
 
         setLayout(new BorderLayout());
         setBackground(new Color(245, 235, 210));
@@ -80,10 +72,7 @@ public class GoodEndingPanel extends JPanel {
     }
 
     protected void returnToMainMenu() {
-        mainFrame.getContentPane().removeAll();
-        mainFrame.add(previousPanel);
-        mainFrame.revalidate();
-        mainFrame.repaint();
+        ScreenNavigator.of(mainFrame).show(ScreenNavigator.Screen.MAIN_MENU);
     }
 }
 
@@ -8,7 +8,7 @@ public enum Good_Events {
             @Override
             public void applyEffect(Player player) {
                 player.addResources(250);
-                System.out.println("You saved money by having a well-defined project scope!");
+                DebugLog.debug(() -> "You saved money by having a well-defined project scope!");
             }
         },
         SUCCESSFUL_USER_TESTING(
@@ -16,7 +16,7 @@ public enum Good_Events {
             @Override
             public void applyEffect(Player player) {
                 player.addResources(250);
-                System.out.println("Positive feedback has put you ahead of schedule!.");
+                DebugLog.debug(() -> "Positive feedback has put you ahead of schedule!.");
             }
         },
         PRODUCT_LAUNCH_HYPE(
@@ -24,7 +24,7 @@ public enum Good_Events {
             @Override
             public void applyEffect(Player player) {
                 player.addResources(250);
-                System.out.println("Your launch campaign is a success! You gained donations.");
+                DebugLog.debug(() -> "Your launch campaign is a success! You gained donations.");
             }
         },
         COMMUNITY_SUPPORT(
@@ -32,7 +32,7 @@ public enum Good_Events {
             @Override
             public void applyEffect(Player player) {
                 player.addResources(250);
-                System.out.println("You gained valuable feedback and support, speeding up development!");
+                DebugLog.debug(() -> "You gained valuable feedback and support, speeding up development!");
             }
         };
 
@@ -1,17 +1,90 @@
 package main;
 
 import javax.swing.*;
+import javax.swing.filechooser.FileNameExtensionFilter;
 import java.awt.*;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 
 public class MainMenuPanel extends JPanel {
+    public static final int LOGO_SIZE = 500;
+    static final int CHARACTER_TOKEN_SIZE = 24;
+
     private final ArrayList<Player> players;
     private final JFrame mainFrame;
+    private final GameSession session;
+    private final Path saveFile; // the game Continue resumes, or null when saving is off
+    private JButton continueButton;
+
+    public MainMenuPanel(ArrayList<Player> players, JFrame mainFrame, GameSession session) {
+        this(players, mainFrame, session, GameSnapshot.AUTOSAVE);
+    }
 
-    public MainMenuPanel(ArrayList<Player> players, JFrame mainFrame) {
+    MainMenuPanel(ArrayList<Player> players, JFrame mainFrame, GameSession session, Path saveFile) {
         this.players = players;
         this.mainFrame = mainFrame;
+        this.session = session;
+        this.saveFile = saveFile;
         showMainMenu();
+
+        // the menu is built once and kept (ScreenNavigator), so whether there is a game to continue is
+        // checked every time it is shown: a game that ended since has deleted its save
+        addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentShown(ComponentEvent e) {
+                refreshContinueButton();
+            }
+        });
+    }
+
+    // Creates the main window for a game and shows the main menu in it
+    public static JFrame showInNewFrame(Game game) {
+        return showInNewFrame(game, new GameSession());
+    }
+
+    // Same, keeping the settings of an earlier window
+    public static JFrame showInNewFrame(Game game, GameSession session) {
+        JFrame mainFrame = new JFrame("EcoJozi Board Game");
+        mainFrame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        mainFrame.setExtendedState(JFrame.MAXIMIZED_BOTH);
+        mainFrame.setUndecorated(false);
+        mainFrame.setLocationRelativeTo(null); // Centre the frame on the screen
+
+        // Every screen of the window is built on first use and then kept
+        ScreenNavigator navigator = ScreenNavigator.install(mainFrame);
+        MainMenuPanel mainMenuPanel = new MainMenuPanel(game.getPlayers(), mainFrame, session);
+        navigator.register(ScreenNavigator.Screen.MAIN_MENU, () -> mainMenuPanel);
+        navigator.register(ScreenNavigator.Screen.SETTINGS, () -> new SettingsPanel(mainMenuPanel, mainFrame));
+        navigator.register(ScreenNavigator.Screen.TUTORIAL, () -> new TutorialPanel(mainFrame));
+        navigator.register(ScreenNavigator.Screen.ABOUT, () -> new AboutPanel(mainFrame));
+
+        session.setBoard(null); // any earlier board went with its window
+
+        // Show the main menu initially
+        navigator.show(ScreenNavigator.Screen.MAIN_MENU);
+        mainFrame.setVisible(true);
+        return mainFrame;
+    }
+
+    // The logo comes decoded and scaled from Assets (preloaded by Game.main), so rebuilding the menu
+    // costs nothing; if it isn't ready yet the space is kept and the logo appears when it is
+    private static JLabel createLogoLabel() {
+        JLabel logoLabel = new JLabel();
+        logoLabel.setPreferredSize(new Dimension(LOGO_SIZE, LOGO_SIZE));
+        Assets.getImage(Assets.LOGO, LOGO_SIZE, LOGO_SIZE).thenAccept(image -> {
+            if (SwingUtilities.isEventDispatchThread()) {
+                logoLabel.setIcon(new ImageIcon(image)); // already loaded
+            } else {
+                SwingUtilities.invokeLater(() -> logoLabel.setIcon(new ImageIcon(image)));
+            }
+        });
+        return logoLabel;
     }
 
     private void showMainMenu() {
@@ -25,22 +98,31 @@ public class MainMenuPanel extends JPanel {
 
         // Logo
         gbc.insets = new Insets(20, 10, 10, 10);
-        ImageIcon welcomeIcon = new ImageIcon("src/main/images/EcoJozi_Full.png");
-        JLabel welcomeLabel = new JLabel(welcomeIcon);
-        Image image = welcomeIcon.getImage().getScaledInstance(500, 500, Image.SCALE_SMOOTH);
-        welcomeIcon = new ImageIcon(image);
-        welcomeLabel.setIcon(welcomeIcon);
-        add(welcomeLabel, gbc);
+        add(createLogoLabel(), gbc);
 
         // Reduce spacing between buttons
         gbc.gridy++;
         gbc.insets = new Insets(5, 0, 5, 0);
 
+        // the game saved at the end of the last turn played, if it wasn't finished
+        continueButton = new JButton("Continue");
+        styleMenuButton(continueButton);
+        continueButton.addActionListener(e -> continueSavedGame());
+        continueButton.setVisible(GameSnapshot.hasSave(saveFile));
+        add(continueButton, gbc);
+        gbc.gridy++;
+
         JButton startGameButton = new JButton("Start Game");
         styleMenuButton(startGameButton);
         startGameButton.addActionListener(e -> showPlayerSelection());
         add(startGameButton, gbc);
 
+        gbc.gridy++;
+        JButton replayButton = new JButton("Watch Replay");
+        styleMenuButton(replayButton);
+        replayButton.addActionListener(e -> chooseReplay());
+        add(replayButton, gbc);
+
         gbc.gridy++;
         JButton settingsButton = new JButton("Settings");
         styleMenuButton(settingsButton);
@@ -205,6 +287,7 @@ public class MainMenuPanel extends JPanel {
         ArrayList<JTextField> nameFields = new ArrayList<>();
         ArrayList<JComboBox<String>> characterDropdowns = new ArrayList<>();
         String[] availableCharacters = {"🍳", "🏭", "🌍","🚑"};
+        TokenAtlas characterTokens = new TokenAtlas(Arrays.asList(availableCharacters)); // drawn once for every dropdown
 
         for (int i = 0; i < numPlayers; i++) {
             gbc.gridx = 0;
@@ -221,12 +304,20 @@ public class MainMenuPanel extends JPanel {
             gbc.gridx = 0;
             gbc.gridy++;
             JLabel characterLabel = new JLabel("Select Character:");
-            characterLabel.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 18));
+            characterLabel.setFont(new Font("Arial", Font.PLAIN, 18));
             contentPanel.add(characterLabel, gbc);
 
             gbc.gridx = 1;
             JComboBox<String> characterDropdown = new JComboBox<>(availableCharacters);
-            characterDropdown.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 16));
+            characterDropdown.setRenderer(new DefaultListCellRenderer() {
+                @Override
+                public Component getListCellRendererComponent(JList<?> list, Object value, int index,
+                                                              boolean isSelected, boolean cellHasFocus) {
+                    super.getListCellRendererComponent(list, "", index, isSelected, cellHasFocus);
+                    setIcon(characterTokens.getIcon(new String[] {(String) value}, CHARACTER_TOKEN_SIZE));
+                    return this;
+                }
+            });
             characterDropdowns.add(characterDropdown);
             contentPanel.add(characterDropdown, gbc);
 
@@ -254,24 +345,15 @@ public class MainMenuPanel extends JPanel {
 
 
     private void showSettings() {
-        mainFrame.getContentPane().removeAll();
-        mainFrame.add(new SettingsPanel(this, mainFrame));
-        mainFrame.revalidate();
-        mainFrame.repaint();
+        ScreenNavigator.of(mainFrame).show(ScreenNavigator.Screen.SETTINGS);
     }
 
     private void tutorial() {
-        mainFrame.getContentPane().removeAll();
-        mainFrame.add(new TutorialPanel(this, mainFrame));
-        mainFrame.revalidate();
-        mainFrame.repaint();
+        ScreenNavigator.of(mainFrame).show(ScreenNavigator.Screen.TUTORIAL);
     }
 
     private void aboutMenu() {
-        mainFrame.getContentPane().removeAll();
-        mainFrame.add(new AboutPanel(this, mainFrame));
-        mainFrame.revalidate();
-        mainFrame.repaint();
+        ScreenNavigator.of(mainFrame).show(ScreenNavigator.Screen.ABOUT);
     }
 
     private void handleNameSubmission(ArrayList<JTextField> nameFields, ArrayList<JComboBox<String>> characterDropdowns) {
@@ -291,6 +373,7 @@ public class MainMenuPanel extends JPanel {
             selectedCharacters.add(selectedCharacter);
         }
 
+        players.clear(); // the menu is kept between games, so drop the players of an earlier one
         for (int i = 0; i < playerNames.size(); i++) {
             Player player = new Player(playerNames.get(i));
             player.setCharacter(selectedCharacters.get(i));
@@ -301,13 +384,91 @@ public class MainMenuPanel extends JPanel {
         adjustStartingResources(players.size());
 
         // initializing the game GUI and board
-        Board gui = new Board(new Game(players));
+        startGame(new Board(new Game(new ArrayList<>(players)), session));
+    }
+
+    // Shows Continue only while there is a saved game
+    void refreshContinueButton() {
+        boolean saved = GameSnapshot.hasSave(saveFile);
+        if (continueButton.isVisible() != saved) {
+            continueButton.setVisible(saved);
+            revalidate();
+            repaint();
+        }
+    }
+
+    JButton getContinueButton() {
+        return continueButton;
+    }
+
+    // Straight to where the game stopped (the last save plus its journal), without the player setup screens
+    private void continueSavedGame() {
+        if (!GameSnapshot.hasSave(saveFile)) {
+            refreshContinueButton(); // the game ended since the menu was shown
+            return;
+        }
+        GameEngine engine;
+        try {
+            engine = TurnJournal.recover(saveFile);
+        } catch (IOException e) {
+            DebugLog.warn(() -> "Could not load " + saveFile + ": " + e.getMessage());
+            JOptionPane.showMessageDialog(mainFrame, "The saved game could not be loaded.", "Error", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        players.clear();
+        players.addAll(engine.getGame().getPlayers());
+        startGame(new Board(engine, session));
+    }
+
+    // A turn journal picked from disk (the saved game's, or one from ReplayEngine or a bug report)
+    private void chooseReplay() {
+        JFileChooser chooser = new JFileChooser(replayFolder());
+        chooser.setFileFilter(new FileNameExtensionFilter("EcoJozi turn journals", "journal"));
+        if (chooser.showOpenDialog(mainFrame) == JFileChooser.APPROVE_OPTION) {
+            watchReplay(chooser.getSelectedFile().toPath());
+        }
+    }
+
+    // The folder every game's journal goes in, or the folder of the save before any game was played
+    private static File replayFolder() {
+        if (GameSnapshot.AUTOSAVE == null) {
+            return null;
+        }
+        Path replays = TurnJournal.replaysFor(GameSnapshot.AUTOSAVE);
+        return (Files.isDirectory(replays) ? replays : GameSnapshot.AUTOSAVE.toAbsolutePath().getParent()).toFile();
+    }
+
+    private void watchReplay(Path journal) {
+        ReplayTimeline timeline;
+        try {
+            timeline = ReplayTimeline.load(journal);
+        } catch (IOException e) {
+            DebugLog.warn(() -> "Could not load " + journal + ": " + e.getMessage());
+            JOptionPane.showMessageDialog(mainFrame, "The replay could not be loaded.", "Error", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        if (timeline.getFailure() != null) {
+            JOptionPane.showMessageDialog(mainFrame, "This recording no longer matches the rules; it is shown up to turn "
+                    + (timeline.getLastTurn() + 1) + ".", "Replay", JOptionPane.WARNING_MESSAGE);
+        }
+
+        Board gui = new Board(timeline.getEngine(), session);
+        JPanel replayPanel = gui.initializeReplayView(timeline);
+        ScreenNavigator navigator = ScreenNavigator.of(mainFrame);
+        navigator.register(ScreenNavigator.Screen.REPLAY, () -> replayPanel); // replaces an earlier replay
+        navigator.show(ScreenNavigator.Screen.REPLAY);
+        showMainMenu();
+    }
+
+    private void startGame(Board gui) {
         JPanel gameBoardPanel = gui.initializeGameBoard();
+        gui.startRecording();
 
-        mainFrame.getContentPane().removeAll();
-        mainFrame.add(gameBoardPanel);
-        mainFrame.revalidate();
-        mainFrame.repaint();
+        ScreenNavigator navigator = ScreenNavigator.of(mainFrame);
+        navigator.register(ScreenNavigator.Screen.GAME, () -> gameBoardPanel); // replaces an earlier game
+        gui.registerScreens(navigator, mainFrame);
+        navigator.show(ScreenNavigator.Screen.GAME);
+        showMainMenu(); // hidden now; ready for when a screen returns to the menu
 
         // making sure the colorblind mode updates after the game board is visible
         SwingUtilities.invokeLater(gui::applyBoardColours);
@@ -320,12 +481,7 @@ public class MainMenuPanel extends JPanel {
      */
     private void adjustStartingResources(int playerCount) {
         // Mapping player count to starting resources amount
-        int startingResources = switch (playerCount) {
-            case 2 -> 3000;
-            case 3 -> 2000;
-            case 4 -> 1500;
-            default -> 0;
-        };
+        int startingResources = Game.getStartingResources(playerCount);
 
         // Applying the resources to all players
         if (startingResources > 0) {
@@ -335,9 +491,13 @@ public class MainMenuPanel extends JPanel {
         }
     }
 
+    public GameSession getSession() {
+        return session;
+    }
+
     protected void styleMenuButton(JButton button) {
-        // Get DPI scale factor (using 96 DPI as baseline)
-        float dpi = Toolkit.getDefaultToolkit().getScreenResolution();
+        // Get DPI scale factor (using 96 DPI as baseline, also used with no screen, e.g. the render benchmark)
+        float dpi = GraphicsEnvironment.isHeadless() ? 96 : Toolkit.getDefaultToolkit().getScreenResolution();
         float scaleFactor = dpi / 96.0f;
 
         // Scale the font and dimensions based on the DPI factor
@@ -1,6 +1,8 @@
 package main;
 
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 public class Player {
     private String name;
@@ -31,34 +33,33 @@ public class Player {
 
     // Rolls a dice (1-6)
     public int rollDice() {
-        int diceRoll = (int) (Math.random() * 6) + 1;
-        System.out.println(this.name + " rolled a " + diceRoll + ".");
+        return rollDice(ThreadLocalRandom.current());
+    }
+
+    // Rolls with the game's own generator so the roll can be reproduced
+    public int rollDice(RandomGenerator random) {
+        int diceRoll = GameRandom.rollDice(random);
+        DebugLog.debug(() -> this.name + " rolled a " + diceRoll + ".");
         return diceRoll;
     }
 
     public static void addTask(Player player, Task task) {
-        System.out.println("Assigning task to player " + player.getName() + ": " + task.getDescription());
         player.tasks.add(task);
-        System.out.println("Task added: " + task.getDescription() + " (Total tasks: " + player.tasks.size() + ")");
-        
-        // Extra debug
-        for (Task t : player.tasks) {
-            System.out.println("Player " + player.getName() + " now owns: " + t.getDescription());
-        }
+        DebugLog.debug(() -> "Task added to " + player.getName() + ": " + task.getDescription() + " (Total tasks: " + player.tasks.size() + ")");
     }
 
 
     public boolean allocateResourcesToSquare(Task task, int amount) {
         // Check if the player has enough resources.
         if (amount > this.resources) {
-        	System.out.println("Not enough resources to allocate.");
+        	DebugLog.debug(() -> "Not enough resources to allocate.");
             return false;
         }
         
         
         // Check if task already completed
         if (task.isComplete()) {
-            System.out.println("Task '" + task.getDescription() + "' is already completed.");
+            DebugLog.debug(() -> "Task '" + task.getDescription() + "' is already completed.");
             return false;
         }
         
@@ -66,19 +67,17 @@ public class Player {
         // Deducts the amount from the player's resources.
         this.resources -= amount;
         
-        System.out.println("Before Allocation - Task: " + task.getDescription() + ", Balance: " + task.checkResourceBalance());
         task.updateResourceBalance(amount);
-        System.out.println("After Allocation - Task: " + task.getDescription() + ", Balance: " + task.checkResourceBalance());
 
         // Increments the task counter
         this.taskCounter++;
         task.updateResourceBalance(amount);
 
-        System.out.println("Task Update - " + task.getDescription() + " | New Balance: " + task.checkResourceBalance());
+        DebugLog.debug(() -> "Task Update - " + task.getDescription() + " | New Balance: " + task.checkResourceBalance());
 
         // Check again if task is now complete
         if (task.isComplete()) {
-            System.out.println("Task '" + task.getDescription() + "' is now complete!");
+            DebugLog.debug(() -> "Task '" + task.getDescription() + "' is now complete!");
             task.markAsComplete();
             this.addResources(500); // Refund some resources
             return true;
@@ -89,11 +88,7 @@ public class Player {
     
     
     public boolean hasIncompleteTasks() {
-        System.out.println("Checking if " + this.name + " has incomplete tasks.");
-        
         for (Task task : this.tasks) {
-            System.out.println("   - Task: " + task.getDescription() + " | Completed: " + task.isComplete());
-            
             if (!task.isComplete()) {  
                 return true;
             }
@@ -131,10 +126,6 @@ public class Player {
 
     // Getter for tasks
     public List<Task> getTasks() {
-    	if (tasks.isEmpty()) {
-            System.out.println("No tasks found for player: " + this.name);
-        }
-        
         return tasks;
     }
     
@@ -170,16 +161,16 @@ public class Player {
 
     public void updatePosition(Player player, int steps) {
         player.setPosition(player.getPosition() + steps);
-        System.out.println(player.getName() + " moved to position: " + player.getPosition());
+        DebugLog.debug(() -> player.getName() + " moved to position: " + player.getPosition());
     }
 
     public void discardCurrentTask() {
         if (!tasks.isEmpty()) {
             int pos = tasks.size() - 1;
             Task discardedTask = tasks.remove(pos);
-            System.out.println("Discarding task: " + discardedTask.getDescription() + " from player: " + this.name);
+            DebugLog.debug(() -> "Discarding task: " + discardedTask.getDescription() + " from player: " + this.name);
         } else {
-            System.out.println("No tasks to discard for player: " + this.name);
+            DebugLog.debug(() -> "No tasks to discard for player: " + this.name);
         }
     }
 
@@ -0,0 +1,211 @@
+package main;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+/*
+ * Plays recorded games again through the headless rules as fast as they go: no Board, no animation,
+ * no dialogs, only a GameEngine and the recorded actions.
+ *
+ * A recording is a turn journal (TurnJournal.Contents): the game it started from and every action
+ * after it. Each action is performed and checked the way TurnJournal.replay does, and every state
+ * checksum the engine recorded along the way is compared, so a rule change that makes a recorded game
+ * come out differently is caught at the first action where it does. A journal sent in with a bug
+ * report is an exact repro: replay it, or replay it up to the action before the bug with actionLimit,
+ * and look at the Result's engine.
+ *
+ * A game of a hundred turns replays in tens of microseconds (see ReplayBenchmark), so a regression
+ * run over thousands of recordings takes well under a second; replayAll spreads the files over the
+ * common ForkJoin pool. recordBotGame makes recordings from BalanceSimulator bot games.
+ *
+ * Run with: java main.ReplayEngine [--board <board file>] <journal or directory>...
+ *           java main.ReplayEngine record <directory> [games] [seed]
+ */
+public final class ReplayEngine {
+
+    public static final String JOURNAL_SUFFIX = ".journal";
+
+    /*
+     * How a replay went. engine is the game after the last action replayed (or partway through the
+     * one that failed); failure says which action didn't replay and why, or is null when every action
+     * replayed and every checksum matched.
+     */
+    public record Result(String name, int actions, int checksums, GameEngine engine, String failure) {
+
+        public boolean passed() {
+            return failure == null;
+        }
+    }
+
+    private ReplayEngine() {
+    }
+
+    public static Result replay(String name, TurnJournal.Contents recording) {
+        return replay(name, recording, Integer.MAX_VALUE);
+    }
+
+    // Replays only the first actionLimit actions, e.g. to stop just before the one a bug report is about
+    public static Result replay(String name, TurnJournal.Contents recording, int actionLimit) {
+        GameEngine engine;
+        try {
+            engine = recording.startEngine();
+        } catch (IOException e) {
+            return new Result(name, 0, 0, null, "start of the game unreadable: " + e.getMessage());
+        }
+
+        List<TurnJournal.Entry> entries = recording.entries();
+        int count = Math.min(actionLimit, entries.size());
+        int checksums = 0;
+        for (int i = 0; i < count; i++) {
+            TurnJournal.Entry entry = entries.get(i);
+            try {
+                TurnJournal.replay(engine, entry);
+            } catch (IllegalStateException e) {
+                return new Result(name, i, checksums, engine, "action " + i + ": " + e.getMessage());
+            }
+            if (entry.kind() == TurnJournal.Kind.CHECKSUM) {
+                checksums++;
+            }
+        }
+        return new Result(name, count, checksums, engine, null);
+    }
+
+    public static Result replayFile(Path file) {
+        return replayFile(file, BoardDefinition.DEFAULT);
+    }
+
+    // A journal of a game played on another board
+    public static Result replayFile(Path file, BoardDefinition board) {
+        try {
+            return replay(file.toString(), TurnJournal.read(file, board));
+        } catch (IOException e) {
+            return new Result(file.toString(), 0, 0, null, "unreadable: " + e.getMessage());
+        }
+    }
+
+    // Every file replayed in parallel, results in the same order as the files
+    public static List<Result> replayAll(List<Path> files) {
+        return replayAll(files, BoardDefinition.DEFAULT);
+    }
+
+    public static List<Result> replayAll(List<Path> files, BoardDefinition board) {
+        return files.parallelStream().map(file -> replayFile(file, board)).toList();
+    }
+
+    /*
+     * Plays the engine's game with the BalanceSimulator bot until it ends or maxTurns have been played,
+     * recording every action in memory. The engine is left at the end of the game.
+     */
+    public static TurnJournal.Contents recordBotGame(GameEngine engine, int maxTurns) {
+        byte[] start = GameSnapshot.encode(engine);
+        int baseTurn = engine.getGame().getTurn();
+        List<TurnJournal.Entry> entries = new ArrayList<>();
+        GameEngine.ActionRecorder previous = engine.getRecorder();
+        engine.setRecorder((kind, turn, player, a, b) -> entries.add(new TurnJournal.Entry(kind, turn, player, a, b)));
+        try {
+            playBotGame(engine, maxTurns);
+        } finally {
+            engine.setRecorder(previous);
+        }
+        return new TurnJournal.Contents(engine.getGame().getSeed(), baseTurn, start, List.copyOf(entries),
+                engine.getBoard());
+    }
+
+    private static void playBotGame(GameEngine engine, int maxTurns) {
+        for (int turn = 0; turn < maxTurns; turn++) {
+            if (BalanceSimulator.playTurn(engine) != GameEngine.TurnResult.NEXT_TURN) {
+                return;
+            }
+        }
+    }
+
+    static GameEngine newBotGame(int playerCount, GameRandom random) {
+        ArrayList<Player> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            Player player = new Player("Bot " + (i + 1));
+            player.addResources(Game.getStartingResources(playerCount));
+            players.add(player);
+        }
+        return new GameEngine(new Game(players, random));
+    }
+
+    // ---- Command line ----
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0 || args[0].equals("--board") && args.length < 3) {
+            System.err.println("Usage: java main.ReplayEngine [--board <board file>] <journal or directory>...");
+            System.err.println("       java main.ReplayEngine record <directory> [games] [seed]");
+            System.exit(2);
+        }
+        if (args[0].equals("record")) {
+            record(Path.of(args[1]), args.length > 2 ? Integer.parseInt(args[2]) : 1000,
+                    args.length > 3 ? Long.parseLong(args[3]) : GameRandom.newSeed());
+            return;
+        }
+
+        // the board the games were recorded on, when that isn't the one new games are played on
+        BoardDefinition board = BoardDefinition.DEFAULT;
+        int first = 0;
+        if (args[0].equals("--board")) {
+            board = BoardDefinition.read(Path.of(args[1]));
+            first = 2;
+        }
+
+        List<Path> files = new ArrayList<>();
+        for (String arg : Arrays.copyOfRange(args, first, args.length)) {
+            Path path = Path.of(arg);
+            if (Files.isDirectory(path)) {
+                try (Stream<Path> listing = Files.list(path)) {
+                    listing.filter(file -> file.getFileName().toString().endsWith(JOURNAL_SUFFIX))
+                            .sorted()
+                            .forEach(files::add);
+                }
+            } else {
+                files.add(path);
+            }
+        }
+
+        long start = System.nanoTime();
+        List<Result> results = replayAll(files, board);
+        double millis = (System.nanoTime() - start) / 1e6;
+
+        long actions = 0;
+        long checksums = 0;
+        int failed = 0;
+        for (Result result : results) {
+            actions += result.actions();
+            checksums += result.checksums();
+            if (!result.passed()) {
+                failed++;
+                System.out.println("FAILED " + result.name() + ": " + result.failure());
+            }
+        }
+        System.out.printf("Replayed %d games (%d actions, %d checksums) in %.1f ms, %.1f us per game; %d failed%n",
+                results.size(), actions, checksums, millis, 1000 * millis / Math.max(1, results.size()), failed);
+        if (failed > 0) {
+            System.exit(1);
+        }
+    }
+
+    // Bot games for 2, 3 and 4 players in turn, one journal each, to replay after a rule change
+    private static void record(Path directory, int games, long seed) throws IOException {
+        Files.createDirectories(directory);
+        for (int i = 0; i < games; i++) {
+            int playerCount = BalanceSimulator.MIN_PLAYERS
+                    + i % (BalanceSimulator.MAX_PLAYERS - BalanceSimulator.MIN_PLAYERS + 1);
+            GameEngine engine = newBotGame(playerCount, GameRandom.forGame(seed, i));
+            Path file = directory.resolve(String.format("bot-%05d%s", i, JOURNAL_SUFFIX));
+            Files.deleteIfExists(file); // from an earlier run
+            try (TurnJournal journal = TurnJournal.create(file, engine)) {
+                engine.setRecorder(journal);
+                playBotGame(engine, BalanceSimulator.DEFAULT_MAX_TURNS);
+            }
+        }
+        System.out.println("Recorded " + games + " games in " + directory + " (seed " + seed + ")");
+    }
+}
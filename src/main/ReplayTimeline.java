@@ -0,0 +1,148 @@
+package main;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * A recorded game (a turn journal) laid out so any turn can be shown straight away, for the replay
+ * view (Board.initializeReplayView).
+ *
+ * Loading replays the whole game once and keeps a keyframe, a full GameSnapshot, at the start of every
+ * KEYFRAME_INTERVAL-th turn; the journal's own actions, indexed by the turn they start, are the deltas
+ * between turns. seek puts the timeline's one engine at the start of any turn: forward from where it
+ * is when that is closer, otherwise from the nearest keyframe before the turn
+ * (GameSnapshot.decodeInto), then the actions up to the turn. A seek therefore replays at most
+ * KEYFRAME_INTERVAL turns of actions, however long the game, and takes microseconds; a jump back to
+ * turn 5 of a 2000-turn game costs the same as a step forward.
+ *
+ * The engine is changed in place, so a Board built on it keeps showing the game as it is seeked.
+ * If the recording stops matching the rules (a journal from an older version of the game, or a
+ * damaged one), the timeline ends at the start of the turn that failed and getFailure says why.
+ */
+public final class ReplayTimeline {
+
+    public static final int KEYFRAME_INTERVAL = 16; // turns between keyframes
+
+    private final List<TurnJournal.Entry> entries;
+    private final int firstTurn;
+    private final int lastTurn;
+    private final int[] turnStarts;     // index of the first action of each turn from firstTurn on
+    private final byte[][] keyframes;   // start of turn firstTurn + k * KEYFRAME_INTERVAL
+    private final String failure;       // why the recording ends early, or null
+    private final GameEngine engine;
+    private int turn;                   // where the engine is
+
+    public ReplayTimeline(TurnJournal.Contents recording) throws IOException {
+        GameEngine scratch = recording.startEngine();
+        firstTurn = scratch.getGame().getTurn();
+
+        List<TurnJournal.Entry> recorded = recording.entries();
+        List<byte[]> frames = new ArrayList<>();
+        frames.add(GameSnapshot.encode(scratch));
+        int[] starts = new int[16];
+        int turnCount = 1;
+        int end = recorded.size();
+        String failed = null;
+        for (int i = 0; i < recorded.size(); i++) {
+            try {
+                TurnJournal.replay(scratch, recorded.get(i));
+            } catch (IllegalStateException e) {
+                end = starts[turnCount - 1]; // the failed turn is left out whole
+                failed = "action " + i + ": " + e.getMessage();
+                break;
+            }
+            if (scratch.getGame().getTurn() - firstTurn == turnCount) { // a new turn starts after this action
+                if (turnCount == starts.length) {
+                    starts = Arrays.copyOf(starts, turnCount * 2);
+                }
+                starts[turnCount++] = i + 1;
+                if ((turnCount - 1) % KEYFRAME_INTERVAL == 0) {
+                    frames.add(GameSnapshot.encode(scratch));
+                }
+            }
+        }
+
+        entries = recorded.subList(0, end);
+        lastTurn = firstTurn + turnCount - 1;
+        turnStarts = Arrays.copyOf(starts, turnCount);
+        keyframes = frames.toArray(new byte[0][]);
+        failure = failed;
+
+        engine = recording.startEngine();
+        turn = firstTurn;
+    }
+
+    public static ReplayTimeline load(Path journal) throws IOException {
+        return new ReplayTimeline(TurnJournal.read(journal));
+    }
+
+    // The engine the timeline moves around; build the Board on this one
+    public GameEngine getEngine() {
+        return engine;
+    }
+
+    public int getFirstTurn() {
+        return firstTurn;
+    }
+
+    // The turn the recording stops in; seeking there also replays the actions it has
+    public int getLastTurn() {
+        return lastTurn;
+    }
+
+    public int getTurn() {
+        return turn;
+    }
+
+    public String getFailure() {
+        return failure;
+    }
+
+    int getKeyframeCount() {
+        return keyframes.length;
+    }
+
+    // The actions of one turn, in order
+    public List<TurnJournal.Entry> getEntries(int turn) {
+        checkTurn(turn);
+        return entries.subList(turnStarts[turn - firstTurn], endOf(turn));
+    }
+
+    /*
+     * Puts the engine at the start of the given turn (for the last turn, after all of its actions)
+     * and returns how many actions that took, which is never more than KEYFRAME_INTERVAL turns' worth.
+     */
+    public int seek(int target) throws IOException {
+        checkTurn(target);
+        if (target == turn) {
+            return 0;
+        }
+        int keyframe = (target - firstTurn) / KEYFRAME_INTERVAL;
+        int keyframeTurn = firstTurn + keyframe * KEYFRAME_INTERVAL;
+        if (target < turn || turn < keyframeTurn) {
+            GameSnapshot.decodeInto(keyframes[keyframe], engine);
+            turn = keyframeTurn;
+        }
+
+        int from = turnStarts[turn - firstTurn];
+        int to = target == lastTurn ? entries.size() : turnStarts[target - firstTurn];
+        for (int i = from; i < to; i++) {
+            TurnJournal.replay(engine, entries.get(i)); // checked once already, while loading
+        }
+        turn = target;
+        return to - from;
+    }
+
+    private int endOf(int turn) {
+        return turn == lastTurn ? entries.size() : turnStarts[turn - firstTurn + 1];
+    }
+
+    private void checkTurn(int turn) {
+        if (turn < firstTurn || turn > lastTurn) {
+            throw new IllegalArgumentException("Turn " + turn + " is not in the replay (" + firstTurn + "-" + lastTurn + ")");
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package main;
+
+import java.awt.CardLayout;
+import java.awt.Component;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import javax.swing.JComponent;
+import javax.swing.JFrame;
+import javax.swing.JPanel;
+import javax.swing.RootPaneContainer;
+
+/*
+ * The screens of one game window, shown one at a time with a CardLayout.
+ *
+ * Each screen is registered with a factory and built the first time it is shown; after that it stays
+ * in the window and going back and forth between screens only flips which card is visible, so no
+ * panel is rebuilt and the frame isn't laid out from scratch. Registering a screen again (e.g. the
+ * board of a new game) drops the old instance.
+ *
+ * A window's navigator is installed as its content pane; panels find it with of(component).
+ * All methods must be called on the event dispatch thread.
+ */
+public class ScreenNavigator {
+
+    public enum Screen {
+        MAIN_MENU,
+        SETTINGS,
+        TUTORIAL,
+        ABOUT,
+        GAME,
+        REPLAY,        // a recorded game, see Board.initializeReplayView
+        GAME_TUTORIAL, // the tutorial opened from the board, returns to the game
+        GOOD_ENDING,
+        BAD_ENDING
+    }
+
+    private static final String CLIENT_PROPERTY = ScreenNavigator.class.getName();
+
+    private final CardLayout layout = new CardLayout();
+    private final JPanel cards = new JPanel(layout);
+    private final Map<Screen, Supplier<? extends JComponent>> factories = new EnumMap<>(Screen.class);
+    private final Map<Screen, JComponent> built = new EnumMap<>(Screen.class);
+    private Screen current;
+    private int buildCount;
+
+    public ScreenNavigator() {
+        cards.putClientProperty(CLIENT_PROPERTY, this);
+    }
+
+    // Creates a navigator and makes it the frame's content
+    public static ScreenNavigator install(JFrame frame) {
+        ScreenNavigator navigator = new ScreenNavigator();
+        frame.setContentPane(navigator.cards);
+        return navigator;
+    }
+
+    // The navigator of the window a component is in
+    public static ScreenNavigator of(Component component) {
+        Component c = component instanceof RootPaneContainer window ? window.getContentPane() : component;
+        for (; c != null; c = c.getParent()) {
+            if (c instanceof JComponent jc && jc.getClientProperty(CLIENT_PROPERTY) instanceof ScreenNavigator n) {
+                return n;
+            }
+        }
+        throw new IllegalStateException("No screen navigator in this window");
+    }
+
+    // The panel holding the screens
+    public JPanel getCards() {
+        return cards;
+    }
+
+    // Sets how a screen is built; an already built instance of it is dropped
+    public void register(Screen screen, Supplier<? extends JComponent> factory) {
+        factories.put(screen, factory);
+        JComponent old = built.remove(screen);
+        if (old != null) {
+            cards.remove(old);
+            if (screen == current) {
+                current = null;
+            }
+        }
+    }
+
+    public boolean isRegistered(Screen screen) {
+        return factories.containsKey(screen);
+    }
+
+    public boolean isBuilt(Screen screen) {
+        return built.containsKey(screen);
+    }
+
+    // Shows a screen, building it first if it hasn't been shown yet
+    public void show(Screen screen) {
+        if (screen == current) {
+            return;
+        }
+        getScreen(screen);
+        layout.show(cards, screen.name());
+        current = screen;
+    }
+
+    // The screen's component, built if needed but not shown
+    public JComponent getScreen(Screen screen) {
+        JComponent component = built.get(screen);
+        if (component == null) {
+            Supplier<? extends JComponent> factory = factories.get(screen);
+            if (factory == null) {
+                throw new IllegalArgumentException("Screen not registered: " + screen);
+            }
+            component = factory.get();
+            buildCount++;
+            built.put(screen, component);
+            cards.add(component, screen.name());
+        }
+        return component;
+    }
+
+    public Screen getCurrent() {
+        return current;
+    }
+
+    // Number of screens built so far, for tests
+    int getBuildCount() {
+        return buildCount;
+    }
+}
@@ -7,12 +7,11 @@ import java.awt.event.ActionListener;
 
 public class SettingsPanel extends JPanel {
     private final JFrame mainFrame;
-    private final MainMenuPanel mainMenuPanel;
-    private static boolean colourblindMode = false;
+    private final GameSession session;
 
     public SettingsPanel(MainMenuPanel mainMenuPanel, JFrame mainFrame) {
-        this.mainMenuPanel = mainMenuPanel;
         this.mainFrame = mainFrame;
+        this.session = mainMenuPanel.getSession();
 
         setLayout(new BorderLayout());
         setBackground(new Color(245, 235, 210));
@@ -60,36 +59,40 @@ public class SettingsPanel extends JPanel {
         
         // toggle button - colorblind mode
         JToggleButton colorblindToggle = new JToggleButton();
-        updateToggleButtonText(colorblindToggle, colourblindMode);
+        updateToggleButtonText(colorblindToggle, "Colorblind Mode", session.isColourblindMode());
         colorblindToggle.setFont(new Font("Arial", Font.BOLD, 16));
         colorblindToggle.setPreferredSize(new Dimension(250, 40));
         colorblindToggle.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
-                colourblindMode = !colourblindMode;
-                updateToggleButtonText(colorblindToggle, colourblindMode);
-                Board.updateBoardColours();
+                session.setColourblindMode(!session.isColourblindMode()); // also recolours the board
+                updateToggleButtonText(colorblindToggle, "Colorblind Mode", session.isColourblindMode());
 
             }
         });
         centerPanel.add(colorblindToggle, gbc);
         gbc.gridy++;
+
+        // toggle button - moves tokens instantly instead of square by square
+        JToggleButton skipAnimationToggle = new JToggleButton();
+        updateToggleButtonText(skipAnimationToggle, "Skip Animation", session.isSkipAnimation());
+        skipAnimationToggle.setFont(new Font("Arial", Font.BOLD, 16));
+        skipAnimationToggle.setPreferredSize(new Dimension(250, 40));
+        skipAnimationToggle.addActionListener(e -> {
+            session.setSkipAnimation(!session.isSkipAnimation()); // used from the next dice roll
+            updateToggleButtonText(skipAnimationToggle, "Skip Animation", session.isSkipAnimation());
+        });
+        centerPanel.add(skipAnimationToggle, gbc);
+        gbc.gridy++;
         add(centerPanel, BorderLayout.CENTER);
     }
 
     private void returnToMainMenu() {
-        mainFrame.getContentPane().removeAll();
-        mainFrame.add(mainMenuPanel);
-        mainFrame.revalidate();
-        mainFrame.repaint();
+        ScreenNavigator.of(mainFrame).show(ScreenNavigator.Screen.MAIN_MENU);
     }
     
-    public static boolean checkColourblindMode() {
-        return colourblindMode;
-    }
-
-    private void updateToggleButtonText(JToggleButton button, boolean state) {
-        button.setText("Colorblind Mode" + ": " + (state ? "ON" : "OFF"));
+    private void updateToggleButtonText(JToggleButton button, String setting, boolean state) {
+        button.setText(setting + ": " + (state ? "ON" : "OFF"));
         button.setSelected(state);
     }
 
@@ -0,0 +1,443 @@
+package main;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * Primitive-array version of the GameEngine rules for bulk simulation.
+ *
+ * Player and Task objects (with their task lists and debug logging) are fine for one game on screen,
+ * but the balance simulator plays millions. Here the whole game is a handful of primitive arrays
+ * indexed by player number and task id, played on the BoardDefinition's own lookup arrays, so a turn
+ * does no allocation at all.
+ *
+ * The rules and the order of random draws are the same as GameEngine's (and so the Board's), so a
+ * kernel and an engine started from the same state and seed stay identical. fromEngine/toEngine
+ * convert between the two to check that.
+ */
+public final class SimulationKernel {
+
+    public static final int NO_PLAYER = -1;
+    public static final int NO_TASK = -1;
+    public static final int NO_EVENT = -1;
+
+    // Event effects, same order as Good_Events.getGoodEvent() and Bad_Events.getBadEvent()
+    private static final int[] GOOD_EVENT_RESOURCES = {250, 250, 250, 250};
+    private static final int[] BAD_EVENT_RESOURCES = {-125, 0, -125, 0};
+    private static final int[] BAD_EVENT_MOVES = {0, -1, 0, -1};
+
+    // ---- Board (never changes, shared with every other game on it) ----
+    private final BoardDefinition board;
+
+    // ---- Task state, indexed by task id ----
+    private final int[] taskBalance;
+    private final byte[] taskOwner;       // player who claimed it and gets the refund, or NO_PLAYER
+
+    // ---- Player state, indexed by player number ----
+    private final String[] playerNames;
+    private final int[] position;
+    private final int[] resources;
+    private final byte[] partner;         // alliance partner, or NO_PLAYER
+    private final short[] heldTasks;      // tasks each player holds, in the order they got them
+    private final int[] heldCount;
+
+    private final GameRandom random;
+    private int currentPlayer;
+    private boolean hasRolled;
+
+    // A new game on the default board, everybody on Start with the same resources
+    public SimulationKernel(String[] playerNames, int startingResources, GameRandom random) {
+        this(BoardDefinition.DEFAULT, playerNames, random);
+        Arrays.fill(resources, startingResources);
+    }
+
+    private SimulationKernel(BoardDefinition board, String[] playerNames, GameRandom random) {
+        if (playerNames.length == 0 || playerNames.length > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Unsupported player count: " + playerNames.length);
+        }
+        int taskCount = board.getTaskCount();
+        this.board = board;
+        this.taskBalance = new int[taskCount];
+        this.taskOwner = new byte[taskCount];
+        Arrays.fill(taskOwner, (byte) NO_PLAYER);
+
+        this.playerNames = playerNames.clone();
+        this.position = new int[playerNames.length];
+        this.resources = new int[playerNames.length];
+        this.partner = new byte[playerNames.length];
+        Arrays.fill(partner, (byte) NO_PLAYER);
+        this.heldTasks = new short[playerNames.length * taskCount];
+        this.heldCount = new int[playerNames.length];
+        this.random = random;
+    }
+
+    // ---- Conversion ----
+
+    /*
+     * Copies the engine's game into a kernel. The kernel gets a copy of the game's generator, so
+     * running it does not disturb the engine.
+     */
+    public static SimulationKernel fromEngine(GameEngine engine) {
+        Game game = engine.getGame();
+        TaskRegistry registry = engine.getTaskRegistry();
+        List<Player> players = game.getPlayers();
+
+        String[] names = new String[players.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = players.get(i).getName();
+        }
+
+        SimulationKernel kernel = new SimulationKernel(registry.getBoard(), names, game.getRandom().copy());
+        for (int id = 0; id < registry.size(); id++) {
+            Task task = registry.getTask(id);
+            kernel.taskBalance[id] = task.checkResourceBalance();
+            kernel.taskOwner[id] = (byte) players.indexOf(task.getOwner());
+        }
+
+        for (int p = 0; p < names.length; p++) {
+            Player player = players.get(p);
+            kernel.position[p] = player.getPosition();
+            kernel.resources[p] = player.getResources();
+            for (Task task : player.getTasks()) {
+                kernel.addHeldTask(p, task.getId());
+            }
+        }
+
+        for (Alliance alliance : game.getAlliances().getAlliances()) {
+            List<Player> members = alliance.getAlliance();
+            int first = players.indexOf(members.get(0));
+            int second = players.indexOf(members.get(1));
+            if (first >= 0 && second >= 0) {
+                kernel.partner[first] = (byte) second;
+                kernel.partner[second] = (byte) first;
+            }
+        }
+
+        kernel.currentPlayer = game.getCurrentPlayerIndex();
+        kernel.hasRolled = engine.hasRolled();
+        return kernel;
+    }
+
+    /*
+     * Builds a new Game and GameEngine in the kernel's state, on a copy of the kernel's generator.
+     * Meant for use between turns: the engine always starts with the dice not yet rolled.
+     */
+    public GameEngine toEngine() {
+        ArrayList<Player> players = new ArrayList<>(playerNames.length);
+        for (int p = 0; p < playerNames.length; p++) {
+            Player player = new Player(playerNames[p]);
+            player.addResources(resources[p]);
+            player.setPosition(position[p]);
+            players.add(player);
+        }
+
+        Game game = new Game(players, random.copy());
+        game.setCurrentPlayerIndex(currentPlayer);
+        GameEngine engine = new GameEngine(game, board);
+        TaskRegistry registry = engine.getTaskRegistry();
+
+        for (int id = 0; id < taskBalance.length; id++) {
+            Task task = registry.getTask(id);
+            if (taskOwner[id] != NO_PLAYER) {
+                task.assignOwner(players.get(taskOwner[id]));
+            }
+            if (taskBalance[id] != 0) {
+                task.updateResourceBalance(taskBalance[id]);
+            }
+        }
+
+        for (int p = 0; p < playerNames.length; p++) {
+            for (int k = 0; k < heldCount[p]; k++) {
+                Player.addTask(players.get(p), registry.getTask(getHeldTask(p, k)));
+            }
+            if (partner[p] > p) {
+                new Alliance(game.getAlliances(), List.of(players.get(p), players.get(partner[p])));
+            }
+        }
+        return engine;
+    }
+
+    // True if both kernels hold exactly the same game (generator state excluded)
+    public boolean sameStateAs(SimulationKernel other) {
+        if (currentPlayer != other.currentPlayer || hasRolled != other.hasRolled
+                || !Arrays.equals(taskBalance, other.taskBalance)
+                || !Arrays.equals(taskOwner, other.taskOwner)
+                || !Arrays.equals(position, other.position)
+                || !Arrays.equals(resources, other.resources)
+                || !Arrays.equals(partner, other.partner)
+                || !Arrays.equals(heldCount, other.heldCount)) {
+            return false;
+        }
+        int taskCount = getTaskCount();
+        for (int p = 0; p < heldCount.length; p++) {
+            if (!Arrays.equals(heldTasks, p * taskCount, p * taskCount + heldCount[p],
+                    other.heldTasks, p * taskCount, p * taskCount + heldCount[p])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ---- Dice, movement and events ----
+
+    public int rollDice() {
+        hasRolled = true;
+        return GameRandom.rollDice(random);
+    }
+
+    // Moves the player the full dice roll, returns how many laps were completed
+    public int movePlayer(int player, int steps) {
+        int laps = 0;
+        for (int i = 0; i < steps; i++) {
+            int next = (position[player] + 1) % board.getSize();
+            position[player] = next;
+            if (next == 0) {
+                resources[player] += GameEngine.LAP_BONUS;
+                laps++;
+            }
+        }
+        return laps;
+    }
+
+    /*
+     * Draws and applies an event if the player stopped on an event square. Returns NO_EVENT, a good
+     * event index, or the number of good events plus a bad event index.
+     */
+    public int resolveLanding(int player) {
+        if (board.squareType[position[player]] != BoardDefinition.EVENT_SQUARE) {
+            return NO_EVENT;
+        }
+        if (random.nextBoolean()) { // same draws as GameEngine.drawRandomEvent
+            int event = random.nextInt(GOOD_EVENT_RESOURCES.length);
+            resources[player] += GOOD_EVENT_RESOURCES[event];
+            return event;
+        }
+        int event = random.nextInt(BAD_EVENT_RESOURCES.length);
+        resources[player] += BAD_EVENT_RESOURCES[event];
+        position[player] += BAD_EVENT_MOVES[event];
+        return GOOD_EVENT_RESOURCES.length + event;
+    }
+
+    // ---- Claiming ----
+
+    public GameEngine.ClaimResult checkClaim(int player) {
+        int pos = position[player];
+        if (board.squareType[pos] == BoardDefinition.EVENT_SQUARE) {
+            return GameEngine.ClaimResult.RANDOM_SQUARE;
+        }
+        if (board.squareType[pos] == BoardDefinition.START_SQUARE) {
+            return GameEngine.ClaimResult.START_SQUARE;
+        }
+        int task = board.squareTask[pos];
+        if (taskOwner[task] != NO_PLAYER) {
+            return GameEngine.ClaimResult.ALREADY_CLAIMED;
+        }
+        if (resources[player] < board.taskDeposit[task]) {
+            return GameEngine.ClaimResult.INSUFFICIENT_FUNDS;
+        }
+        return GameEngine.ClaimResult.CLAIMED;
+    }
+
+    public GameEngine.ClaimResult claimTask(int player) {
+        GameEngine.ClaimResult result = checkClaim(player);
+        if (result != GameEngine.ClaimResult.CLAIMED) {
+            return result;
+        }
+        int task = board.squareTask[position[player]];
+        int cost = board.taskDeposit[task];
+        resources[player] -= cost;
+        addHeldTask(player, task);
+        taskOwner[task] = (byte) player;
+        taskBalance[task] += cost;
+        return GameEngine.ClaimResult.CLAIMED;
+    }
+
+    // ---- Allocating ----
+
+    /*
+     * Same checks as GameEngine.allocateResources. Tasks a player may fund are the ones they hold
+     * plus the ones their alliance partner holds (see getHeldTask and getPartner).
+     */
+    public GameEngine.AllocationResult allocateResources(int player, int task, int amount) {
+        if (isTaskComplete(task)) {
+            return GameEngine.AllocationResult.ALREADY_COMPLETE;
+        }
+        if (amount <= 0) {
+            return GameEngine.AllocationResult.INVALID_AMOUNT;
+        }
+        if (amount > resources[player]) {
+            return GameEngine.AllocationResult.INSUFFICIENT_FUNDS;
+        }
+        if (taskBalance[task] + amount > board.taskRequired[task]) {
+            return GameEngine.AllocationResult.EXCEEDS_REQUIRED;
+        }
+
+        resources[player] -= amount;
+        taskBalance[task] += amount;
+
+        if (isTaskComplete(task)) {
+            resources[taskOwner[task]] += GameEngine.COMPLETION_REFUND;
+            return GameEngine.AllocationResult.COMPLETED;
+        }
+        return GameEngine.AllocationResult.ALLOCATED;
+    }
+
+    // ---- Alliances ----
+
+    public GameEngine.AllianceResult checkAlliance(int player) {
+        int pos = position[player];
+        if (partner[player] != NO_PLAYER) {
+            return GameEngine.AllianceResult.ALREADY_IN_ALLIANCE;
+        }
+        if (board.squareType[pos] == BoardDefinition.EVENT_SQUARE) {
+            return GameEngine.AllianceResult.RANDOM_SQUARE;
+        }
+        if (pos == 0) {
+            return GameEngine.AllianceResult.START_SQUARE;
+        }
+        int task = board.squareTask[pos];
+        if (isTaskComplete(task)) {
+            return GameEngine.AllianceResult.TASK_COMPLETE;
+        }
+        if (taskOwner[task] != player) {
+            return GameEngine.AllianceResult.NOT_OWNER;
+        }
+        return GameEngine.AllianceResult.FORMED;
+    }
+
+    public GameEngine.AllianceResult formAlliance(int player, int other) {
+        GameEngine.AllianceResult result = checkAlliance(player);
+        if (result != GameEngine.AllianceResult.FORMED) {
+            return result;
+        }
+        if (other == player || other < 0 || other >= partner.length || partner[other] != NO_PLAYER) {
+            return GameEngine.AllianceResult.PARTNER_UNAVAILABLE;
+        }
+        partner[player] = (byte) other;
+        partner[other] = (byte) player;
+        return GameEngine.AllianceResult.FORMED;
+    }
+
+    // ---- Transfers ----
+
+    // Hands a held task to another player; like GameEngine the claimer stays the owner
+    public boolean transferTask(int from, int task, int to) {
+        if (to == from || to < 0 || to >= heldCount.length || !removeHeldTask(from, task)) {
+            return false;
+        }
+        addHeldTask(to, task);
+        return true;
+    }
+
+    // ---- Turns and endings ----
+
+    public GameEngine.TurnResult endTurn() {
+        if (isGameWon()) {
+            return GameEngine.TurnResult.ALL_TASKS_COMPLETE;
+        }
+        if (!hasRolled) {
+            return GameEngine.TurnResult.NOT_ROLLED;
+        }
+        if (areAllPlayersOutOfResources()) {
+            return GameEngine.TurnResult.OUT_OF_RESOURCES;
+        }
+
+        hasRolled = false;
+        currentPlayer = (currentPlayer + 1) % playerNames.length;
+        // Game.nextTurn also pays the lap bonus to a player who starts their turn on Start
+        if (position[currentPlayer] == 0) {
+            resources[currentPlayer] += GameEngine.LAP_BONUS;
+        }
+        return GameEngine.TurnResult.NEXT_TURN;
+    }
+
+    public boolean isGameWon() {
+        for (int task = 0; task < taskBalance.length; task++) {
+            if (!isTaskComplete(task)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean areAllPlayersOutOfResources() {
+        for (int amount : resources) {
+            if (amount != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ---- Getters ----
+
+    public int getCurrentPlayer() {
+        return currentPlayer;
+    }
+
+    public int getPlayerCount() {
+        return playerNames.length;
+    }
+
+    public int getTaskCount() {
+        return taskBalance.length;
+    }
+
+    public int getPosition(int player) {
+        return position[player];
+    }
+
+    public int getResources(int player) {
+        return resources[player];
+    }
+
+    public int getPartner(int player) {
+        return partner[player];
+    }
+
+    public int getHeldTaskCount(int player) {
+        return heldCount[player];
+    }
+
+    // The index'th task the player holds
+    public int getHeldTask(int player, int index) {
+        return heldTasks[player * getTaskCount() + index];
+    }
+
+    public int getTaskBalance(int task) {
+        return taskBalance[task];
+    }
+
+    public int getTaskOwner(int task) {
+        return taskOwner[task];
+    }
+
+    public int getRequiredResources(int task) {
+        return board.taskRequired[task];
+    }
+
+    public boolean isTaskComplete(int task) {
+        return taskBalance[task] >= board.taskRequired[task];
+    }
+
+    public boolean hasRolled() {
+        return hasRolled;
+    }
+
+    private void addHeldTask(int player, int task) {
+        heldTasks[player * getTaskCount() + heldCount[player]++] = (short) task;
+    }
+
+    private boolean removeHeldTask(int player, int task) {
+        int start = player * getTaskCount();
+        for (int k = 0; k < heldCount[player]; k++) {
+            if (heldTasks[start + k] == task) {
+                System.arraycopy(heldTasks, start + k + 1, heldTasks, start + k, heldCount[player] - k - 1);
+                heldCount[player]--;
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,95 @@
+package main;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+ * Pre-rendered board square backgrounds: the rounded, antialiased fill with its white border.
+ *
+ * Drawing a square used to mean a new Graphics2D, antialiasing, a fill and a stroke on every
+ * repaint. Now each (size, colour) pair is rendered once into an image and every later repaint is a
+ * single drawImage. The palette (normal or colourblind) is part of the key through the colour, so
+ * switching modes renders the new colours once and the old ones age out.
+ *
+ * The cache is least-recently-used and bounded, so resizing the window never grows it without limit.
+ * Each Board has its own cache and only uses it on the event dispatch thread.
+ */
+final class SquareBackgroundCache {
+
+    static final int DEFAULT_CAPACITY = 64;
+
+    private static final int ARC = 20;
+    private static final BasicStroke BORDER = new BasicStroke(3);
+
+    private record Key(int width, int height, int rgb) {
+    }
+
+    private final Map<Key, BufferedImage> images;
+    private int renderCount;
+
+    SquareBackgroundCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    SquareBackgroundCache(int capacity) {
+        // access order, so the eldest entry is the least recently drawn one
+        this.images = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, BufferedImage> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /*
+     * The background for a square of this size and colour. The image is created compatible with the
+     * screen when a GraphicsConfiguration is given, so drawing it needs no conversion.
+     */
+    BufferedImage get(int width, int height, Color colour, GraphicsConfiguration config) {
+        Key key = new Key(width, height, colour.getRGB());
+        BufferedImage image = images.get(key);
+        if (image == null) {
+            image = render(width, height, colour, config);
+            images.put(key, image);
+            renderCount++;
+        }
+        return image;
+    }
+
+    int size() {
+        return images.size();
+    }
+
+    // Number of images drawn so far (misses)
+    int getRenderCount() {
+        return renderCount;
+    }
+
+    private static BufferedImage render(int width, int height, Color colour, GraphicsConfiguration config) {
+        BufferedImage image = config != null
+                ? config.createCompatibleImage(width, height, Transparency.TRANSLUCENT)
+                : new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+
+        Graphics2D g2 = image.createGraphics();
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+        // fill the background color (Rounded Rectangle)
+        g2.setColor(colour);
+        g2.fillRoundRect(0, 0, width, height, ARC, ARC);
+
+        // add White Curved Border
+        g2.setColor(Color.WHITE);
+        g2.setStroke(BORDER);
+        g2.drawRoundRect(1, 1, width - 2, height - 2, ARC, ARC);
+
+        g2.dispose();
+        return image;
+    }
+}
@@ -1,7 +1,19 @@
 package main;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class Task {
+    // Told whenever something shown about the task changes (owner, balance, completion, alliance)
+    public interface ChangeListener {
+        void taskChanged(Task task);
+    }
+
+    // Id of a task that is not part of a game's TaskRegistry (Start and event squares, tests)
+    public static final int NO_ID = -1;
+
     // Task attributes
+    private final int id;
     private final String description;
     private final int deposit;
     private final int requiredTotalResources;
@@ -11,10 +23,16 @@ public class Task {
     private boolean allianceStatus;
     private boolean isAvailableToClaim;
     private boolean completed = false;
+    private List<ChangeListener> listeners; // created on the first addChangeListener
 
 
     // Constructor 
     public Task(String objective, int requiredResources,  Player owner, int deposit, String description) {
+        this(NO_ID, objective, requiredResources, owner, deposit, description);
+    }
+
+    public Task(int id, String objective, int requiredResources,  Player owner, int deposit, String description) {
+        this.id = id;
         this.description = description;
         this.requiredTotalResources = requiredResources;
         this.owner = owner; // starts off as unclaimed
@@ -25,6 +43,10 @@ public class Task {
     }
 
     // Getter methods
+    public int getId() {
+        return this.id;
+    }
+
     public String getDescription() {
         return this.description;
     }
@@ -49,26 +71,61 @@ public class Task {
         if (this.owner == null) {
             this.owner = player;
             
-            // debugging
-            System.out.println(player.getName() + " is now the owner of: " + this.description);
             this.isAvailableToClaim = false;
-            
-            System.out.println("Confirming task assignment: " + this.description + " -> Owner: " + (this.owner != null ? this.owner.getName() : "None"));
-            
+
+            // debugging
+            DebugLog.debug(() -> player.getName() + " is now the owner of: " + this.description);
+            fireChanged();
         } else {
-            System.out.println("Task already has an owner.");
+            DebugLog.debug(() -> "Task already has an owner: " + this.description);
         }
     }
 
     
 
+    // Puts the task back to an owner (or none) and balance read from a save (see GameSnapshot.decodeInto)
+    void restore(Player owner, int balance) {
+        this.owner = owner;
+        this.isAvailableToClaim = owner == null;
+        this.resourceBalance = balance;
+        this.completed = balance >= requiredTotalResources;
+        this.allianceStatus = false;
+        fireChanged();
+    }
+
     public void setAllianceStatus(boolean isInAlliance) {
         this.allianceStatus = isInAlliance;
     }
 
     public void updateResourceBalance(int resources) {
         this.resourceBalance += resources;
-        System.out.println("Resource balance updated to: " + this.resourceBalance);
+        DebugLog.debug(() -> "Resource balance of " + this.description + " updated to: " + this.resourceBalance);
+        fireChanged();
+    }
+
+    // ---- Change notifications ----
+
+    public void addChangeListener(ChangeListener listener) {
+        if (listeners == null) {
+            listeners = new ArrayList<>(1);
+        }
+        listeners.add(listener);
+    }
+
+    public void removeChangeListener(ChangeListener listener) {
+        if (listeners != null) {
+            listeners.remove(listener);
+        }
+    }
+
+    // Package-private so AllianceRegistry can report alliance changes on this task
+    void fireChanged() {
+        if (listeners == null) {
+            return;
+        }
+        for (ChangeListener listener : listeners) {
+            listener.taskChanged(this);
+        }
     }
 
     public void applyEffect(Player player) {
@@ -76,7 +133,10 @@ public class Task {
     }
 
     public boolean isComplete() {
-        System.out.println("Checking completion status for: " + this.description + " | Resource Balance: " + this.resourceBalance + " / " + this.requiredTotalResources);
+        // called in loops and renderers, so only build the message when tracing
+        if (DebugLog.TRACE_ENABLED) {
+            DebugLog.trace(() -> "Checking completion status for: " + this.description + " | Resource Balance: " + this.resourceBalance + " / " + this.requiredTotalResources);
+        }
         return this.resourceBalance >= this.requiredTotalResources;
     }
 
@@ -88,11 +148,12 @@ public class Task {
     // method to mark a task as complete - marks a task as complete (different from isComplete)
     public void markAsComplete() {
         if (!this.isComplete()) {
-            System.out.println("Marking task as complete: " + this.description);
+            DebugLog.debug(() -> "Marking task as complete: " + this.description);
             this.resourceBalance = this.requiredTotalResources;
             this.completed = true; // Ensure task is explicitly marked as complete
+            fireChanged();
         } else {
-            System.out.println("Task was already completed: " + this.description);
+            DebugLog.debug(() -> "Task was already completed: " + this.description);
         }
     }
 
@@ -0,0 +1,97 @@
+package main;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/*
+ * The objective tasks of one game, looked up by plain array index.
+ *
+ * The registry makes one Task for each task of the game's BoardDefinition; a task's id is its index
+ * on that board, and square -> task, task -> square and task -> phase are read straight from the
+ * board's arrays, which every game on the board shares. Claiming, allocating, transferring and
+ * drawing the board all go through these arrays, so nothing has to match descriptions or read labels
+ * back.
+ */
+public class TaskRegistry {
+
+    // Phase numbers are indexes into this array
+    public static final String[] PHASES = {"Planning", "Design", "Development", "Testing"};
+
+    private final BoardDefinition board;
+    private final List<Task> tasks;       // by id
+    private final Task[] squareTask;      // objective task on each square, null for Start and events
+    private final List<List<Task>> phaseTasks = new ArrayList<>();
+
+    public TaskRegistry(BoardDefinition board) {
+        this.board = board;
+        this.tasks = new ArrayList<>(board.getTaskCount());
+        this.squareTask = new Task[board.getSize()];
+        for (int i = 0; i < PHASES.length; i++) {
+            phaseTasks.add(new ArrayList<>());
+        }
+
+        for (int id = 0; id < board.getTaskCount(); id++) {
+            int phase = board.taskPhase[id];
+            Task task = new Task(id, PHASES[phase], board.taskRequired[id], null, board.taskDeposit[id],
+                    board.getDescription(id));
+            tasks.add(task);
+            squareTask[board.taskSquare[id]] = task;
+            phaseTasks.get(phase).add(task);
+        }
+    }
+
+    // ---- Lookups ----
+
+    public int size() {
+        return tasks.size();
+    }
+
+    public BoardDefinition getBoard() {
+        return board;
+    }
+
+    public int getBoardSize() {
+        return squareTask.length;
+    }
+
+    public Task getTask(int id) {
+        return tasks.get(id);
+    }
+
+    public List<Task> getTasks() {
+        return Collections.unmodifiableList(tasks);
+    }
+
+    // True if this exact task belongs to this game
+    public boolean contains(Task task) {
+        int id = task.getId();
+        return id >= 0 && id < tasks.size() && tasks.get(id) == task;
+    }
+
+    // The objective task on a square, or null for Start and event squares
+    public Task getTaskAtSquare(int square) {
+        return squareTask[square];
+    }
+
+    public boolean isEventSquare(int square) {
+        return board.squareType[square] == BoardDefinition.EVENT_SQUARE;
+    }
+
+    public int getSquare(Task task) {
+        return board.taskSquare[task.getId()];
+    }
+
+    public int getPhase(Task task) {
+        return board.taskPhase[task.getId()];
+    }
+
+    // Index of the task within its phase list (its row in the objectives panel)
+    public int getPhaseRow(Task task) {
+        return board.phaseRow[task.getId()];
+    }
+
+    public List<Task> getPhaseTasks(int phase) {
+        return Collections.unmodifiableList(phaseTasks.get(phase));
+    }
+}
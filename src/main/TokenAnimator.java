@@ -0,0 +1,133 @@
+package main;
+
+import javax.swing.Timer;
+
+/*
+ * Moves a player's token across the board one square at a time, on the event dispatch thread.
+ *
+ * A single javax.swing.Timer ticks about once per display frame while a move is running and is
+ * stopped otherwise, so no thread is created or blocked per dice roll and the EDT is free between
+ * frames. Each step first moves the player in the model (the onStep callback, e.g.
+ * GameEngine.stepPlayer), then glides the token from the old square to the new one over the step
+ * duration; BoardCanvas only repaints the two squares involved on each frame.
+ *
+ * With skip animation on, or if skip() is called mid-move, every remaining step is applied at once and
+ * onFinished runs straight away. All methods must be called on the event dispatch thread.
+ */
+public class TokenAnimator {
+
+    public static final int DEFAULT_STEP_MILLIS = 500;
+    static final int FRAME_MILLIS = 16; // about 60 frames a second
+
+    private final BoardCanvas canvas;
+    private final Timer timer;
+    private int stepMillis = DEFAULT_STEP_MILLIS;
+    private boolean skipAnimation;
+
+    // the move in progress, if any
+    private Player player;
+    private int stepsLeft;
+    private Runnable onStep;
+    private Runnable onFinished;
+    private int fromSquare;
+    private int toSquare;
+    private long stepStartNanos;
+
+    public TokenAnimator(BoardCanvas canvas) {
+        this.canvas = canvas;
+        this.timer = new Timer(FRAME_MILLIS, e -> tick());
+        this.timer.setCoalesce(true); // drop frames rather than queue them when the EDT is busy
+    }
+
+    public int getStepMillis() {
+        return stepMillis;
+    }
+
+    public void setStepMillis(int stepMillis) {
+        if (stepMillis < 0) {
+            throw new IllegalArgumentException("Step duration can't be negative: " + stepMillis);
+        }
+        this.stepMillis = stepMillis;
+    }
+
+    public boolean isSkipAnimation() {
+        return skipAnimation;
+    }
+
+    public void setSkipAnimation(boolean skipAnimation) {
+        this.skipAnimation = skipAnimation;
+    }
+
+    public boolean isRunning() {
+        return player != null;
+    }
+
+    /*
+     * Moves the player the given number of steps. onStep is run once per step to move the player in
+     * the model; onFinished runs once after the last step has been shown.
+     */
+    public void animateMove(Player player, int steps, Runnable onStep, Runnable onFinished) {
+        if (isRunning()) {
+            skip(); // finish the previous move before starting a new one
+        }
+        this.player = player;
+        this.stepsLeft = steps;
+        this.onStep = onStep;
+        this.onFinished = onFinished;
+
+        if (skipAnimation || stepMillis == 0 || steps <= 0) {
+            skip();
+            return;
+        }
+        startStep();
+        timer.start();
+    }
+
+    // Applies every remaining step of the current move at once and finishes it
+    public void skip() {
+        if (!isRunning()) {
+            return;
+        }
+        int start = player.getPosition();
+        while (stepsLeft > 0) {
+            stepsLeft--;
+            onStep.run();
+        }
+        canvas.repaintSquares(start, player.getPosition());
+        finish(); // also repaints the squares of a token caught mid-glide
+    }
+
+    private void startStep() {
+        fromSquare = player.getPosition();
+        stepsLeft--;
+        onStep.run();
+        toSquare = player.getPosition();
+        stepStartNanos = System.nanoTime();
+        canvas.setMovingToken(player, fromSquare, toSquare, 0);
+    }
+
+    private void tick() {
+        if (!isRunning()) {
+            timer.stop();
+            return;
+        }
+        double progress = (System.nanoTime() - stepStartNanos) / (stepMillis * 1_000_000.0);
+        if (progress < 1) {
+            canvas.setMovingToken(player, fromSquare, toSquare, progress);
+        } else if (stepsLeft > 0) {
+            startStep();
+        } else {
+            finish();
+        }
+    }
+
+    private void finish() {
+        timer.stop();
+        canvas.clearMovingToken();
+        Runnable finished = onFinished;
+        player = null;
+        onStep = null;
+        onFinished = null;
+        finished.run();
+    }
+}
@@ -0,0 +1,206 @@
+package main;
+
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.swing.Icon;
+
+/*
+ * Player tokens (the emoji characters picked in the menu) rasterised once into a sprite atlas.
+ *
+ * Drawing emoji as text makes Java2D search the installed fonts for each glyph on every paint, and
+ * the result depends on the platform. Here every character is drawn once per token size into a single
+ * strip image, one size x size cell per character, and tokens are then painted by copying their cell
+ * (draw, or the Icon from getIcon). The emoji font is chosen once from the fonts that can show every
+ * token; after that painting a token costs the same whatever fonts are installed.
+ *
+ * A strip is made the first time a size is used (prepare makes them up front) and the few most recent
+ * sizes are kept. Characters not known yet, e.g. one changed after the atlas was built, are added on
+ * first use. Each Board has its own atlas and only uses it on the event dispatch thread.
+ */
+final class TokenAtlas {
+
+    static final int MAX_SIZES = 8;
+
+    // tried in order; the first that can display every token wins
+    private static final String[] EMOJI_FONTS = {
+            "Segoe UI Emoji", "Apple Color Emoji", "Noto Color Emoji", "Noto Emoji", "Symbola"
+    };
+
+    private final List<String> characters = new ArrayList<>(); // index = cell in every strip
+    private final Map<Integer, BufferedImage> strips;
+    private String fontName;
+    private int renderCount;
+
+    TokenAtlas(Collection<String> characters) {
+        // access order, so the eldest strip is the size least recently drawn
+        this.strips = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, BufferedImage> eldest) {
+                return size() > MAX_SIZES;
+            }
+        };
+        for (String character : characters) {
+            if (character != null && !character.isEmpty() && !this.characters.contains(character)) {
+                this.characters.add(character);
+            }
+        }
+    }
+
+    static TokenAtlas forPlayers(List<Player> players) {
+        List<String> characters = new ArrayList<>();
+        for (Player player : players) {
+            characters.add(player.getCharacter());
+        }
+        return new TokenAtlas(characters);
+    }
+
+    // Renders the strips for these sizes now, e.g. while the board is being built
+    void prepare(int... sizes) {
+        for (int size : sizes) {
+            getStrip(size);
+        }
+    }
+
+    /*
+     * Paints a character's token with its top left corner at (x, y). Characters that are null or empty
+     * (players who haven't picked one) draw nothing.
+     */
+    void draw(Graphics g, String character, int x, int y, int size) {
+        if (character == null || character.isEmpty() || size <= 0) {
+            return;
+        }
+        int cell = indexOf(character);
+        BufferedImage strip = getStrip(size);
+        g.drawImage(strip, x, y, x + size, y + size, cell * size, 0, (cell + 1) * size, size, null);
+    }
+
+    // An icon showing these tokens side by side (e.g. a square's players in a GameViewModel)
+    Icon getIcon(String[] tokens, int size) {
+        String[] shown = tokens.clone();
+        int gap = Math.max(1, size / 8);
+        return new Icon() {
+            @Override
+            public void paintIcon(Component c, Graphics g, int x, int y) {
+                for (int i = 0; i < shown.length; i++) {
+                    draw(g, shown[i], x + i * (size + gap), y, size);
+                }
+            }
+
+            @Override
+            public int getIconWidth() {
+                return shown.length * (size + gap) - gap;
+            }
+
+            @Override
+            public int getIconHeight() {
+                return size;
+            }
+        };
+    }
+
+    int getCharacterCount() {
+        return characters.size();
+    }
+
+    // Number of strips drawn so far, for tests
+    int getRenderCount() {
+        return renderCount;
+    }
+
+    private int indexOf(String character) {
+        int index = characters.indexOf(character);
+        if (index < 0) {
+            characters.add(character);
+            strips.clear(); // every strip is missing the new cell
+            fontName = null;
+            index = characters.size() - 1;
+        }
+        return index;
+    }
+
+    BufferedImage getStrip(int size) {
+        BufferedImage strip = strips.get(size);
+        if (strip == null) {
+            strip = render(size);
+            strips.put(size, strip);
+        }
+        return strip;
+    }
+
+    private BufferedImage render(int size) {
+        renderCount++;
+        BufferedImage strip = new BufferedImage(Math.max(1, characters.size()) * size, size,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = strip.createGraphics();
+        g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g2.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS, RenderingHints.VALUE_FRACTIONALMETRICS_ON);
+        g2.setColor(Color.BLACK); // monochrome emoji fonts use the text colour
+
+        Font base = new Font(getFontName(), Font.PLAIN, 1);
+        for (int cell = 0; cell < characters.size(); cell++) {
+            String character = characters.get(cell);
+
+            // largest font that keeps the glyph inside its cell
+            Font font = base.deriveFont(size * 0.8f);
+            FontMetrics metrics = g2.getFontMetrics(font);
+            int width = metrics.stringWidth(character);
+            if (width > size) {
+                font = font.deriveFont(font.getSize2D() * size / width);
+                metrics = g2.getFontMetrics(font);
+                width = metrics.stringWidth(character);
+            }
+
+            g2.setFont(font);
+            int x = cell * size + (size - width) / 2;
+            int y = (size - metrics.getAscent() - metrics.getDescent()) / 2 + metrics.getAscent();
+            g2.setClip(cell * size, 0, size, size);
+            g2.drawString(character, x, y);
+        }
+        g2.dispose();
+        return strip;
+    }
+
+    // The emoji font, looked up once per set of characters
+    private String getFontName() {
+        if (fontName == null) {
+            fontName = chooseFont(characters);
+        }
+        return fontName;
+    }
+
+    static String chooseFont(List<String> characters) {
+        Set<String> installed = new HashSet<>(Arrays.asList(
+                GraphicsEnvironment.getLocalGraphicsEnvironment().getAvailableFontFamilyNames()));
+        for (String name : EMOJI_FONTS) {
+            if (installed.contains(name) && canDisplayAll(new Font(name, Font.PLAIN, 12), characters)) {
+                return name;
+            }
+        }
+        return Font.DIALOG; // logical font, falls back through the platform's fonts
+    }
+
+    private static boolean canDisplayAll(Font font, List<String> characters) {
+        for (String character : characters) {
+            if (font.canDisplayUpTo(character) != -1) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,461 @@
+package main;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/*
+ * Append-only record of every action of a game, written through a memory-mapped file.
+ *
+ * GameEngine hands each action to its ActionRecorder; this one encodes it into a scratch array and
+ * copies it into the mapped region, with no system call, lock or allocation in the turn path (about
+ * 0.1 us per turn, see TurnBenchmark.fullTurnJournalled). The OS writes the pages out, so a crash
+ * of the game loses nothing that was recorded (power loss can lose the pages it has not written
+ * yet). The file grows REGION_SIZE at a time as records fill it; the first region is made larger
+ * when the snapshot in the header (see below) doesn't fit in one, as on a board of thousands of tasks.
+ *
+ * Every record has the same fields (kind, turn, player, a, b; see Kind for what a and b hold), stored
+ * as varints: the turn as the change from the previous record's turn, and the fields a kind doesn't
+ * use are left out. Most records take 2 to 4 bytes, so a long session stays a few kilobytes.
+ *
+ *     header:  int MAGIC ("EJZJ"), short FORMAT_VERSION, long game seed, int base turn,
+ *              int snapshot length, the GameSnapshot of the game at the base turn
+ *     record:  byte kind (1..9), varint turn delta, varint player [, varint a [, varint b]]
+ *
+ * The kind byte is written last, after the rest of the record, and the unused part of the file is
+ * zeros, so a reader stops at the first zero kind: a record cut off by a crash is never read.
+ *
+ * A journal starts where a snapshot of the same game was taken (its base turn; see GameSnapshot), and
+ * carries a copy of that snapshot, so the journal alone is enough to play the game again from there
+ * (see ReplayEngine). recover loads the latest save and replays the records from its turn on:
+ * checkpoints are taken between turns, so those are exactly the actions the save doesn't hold yet.
+ * Every GameEngine.CHECKSUM_INTERVAL turns the engine also records a checksum of the whole state,
+ * which replay compares against.
+ */
+public final class TurnJournal implements GameEngine.ActionRecorder, Closeable {
+
+    public static final int MAGIC = 0x454A5A4A; // "EJZJ"
+    public static final short FORMAT_VERSION = 2;
+
+    static final int HEADER_SIZE = 4 + 2 + 8 + 4 + 4; // without the snapshot
+    static final int REGION_SIZE = 64 * 1024;
+    private static final int MAX_RECORD_SIZE = 1 + 4 * 5;
+    private static final DateTimeFormatter FILE_NAME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    // What a and b hold for each kind
+    public enum Kind {
+        ROLL(1),       // a = dice value
+        MOVE(0),       // one square forward
+        EVENT(1),      // a = event number (GameEngine.getEvent), applied to the player
+        CLAIM(1),      // a = task id
+        ALLOCATE(2),   // a = task id, b = amount
+        ALLIANCE(1),   // a = partner
+        TRANSFER(2),   // a = task id, b = receiving player
+        END_TURN(0),
+        CHECKSUM(1);   // a = GameEngine.getStateChecksum() at the start of the turn
+
+        private static final Kind[] VALUES = values();
+
+        final int fields;
+
+        Kind(int fields) {
+            this.fields = fields;
+        }
+
+        byte code() {
+            return (byte) (ordinal() + 1);
+        }
+
+        static Kind of(int code) {
+            return code >= 1 && code <= VALUES.length ? VALUES[code - 1] : null;
+        }
+    }
+
+    public record Entry(Kind kind, int turn, int player, int a, int b) {
+    }
+
+    /*
+     * A journal file read back: which game and turn it starts from, that game, and its records in
+     * order, with the board the game is to be played on again (it has to be the one it was recorded on)
+     */
+    public record Contents(long seed, int baseTurn, byte[] start, List<Entry> entries, BoardDefinition board) {
+
+        // A new engine in the state the first record was made in
+        public GameEngine startEngine() throws IOException {
+            return GameSnapshot.decode(start, board);
+        }
+    }
+
+    private final FileChannel channel;
+    private MappedByteBuffer region;
+    private long regionStart;
+    private int offset;      // of the next record within the region
+    private int lastTurn;
+    private int recordCount;
+    private final byte[] scratch = new byte[MAX_RECORD_SIZE];
+
+    private TurnJournal(FileChannel channel, int baseTurn) {
+        this.channel = channel;
+        this.lastTurn = baseTurn;
+    }
+
+    // Folder the journals of a save's games go in: autosave.ejz -> replays/ next to it
+    public static Path replaysFor(Path save) {
+        return save.resolveSibling("replays");
+    }
+
+    // Small file next to a save naming the journal of the saved game: autosave.ejz -> autosave.ejz.current
+    static Path linkFor(Path save) {
+        return save.resolveSibling(save.getFileName() + ".current");
+    }
+
+    /*
+     * Starts the journal of a game saved in save: a new file in replaysFor(save), named after the time
+     * it was started, which linkFor(save) then names. The file stays there after the game, to be
+     * watched again; it is never moved or reused, as Windows can't move or truncate a file while it
+     * is mapped, and a closed journal stays mapped until it is collected.
+     */
+    public static TurnJournal start(Path save, GameEngine engine) throws IOException {
+        Path directory = replaysFor(save);
+        Files.createDirectories(directory);
+        String name = LocalDateTime.now().format(FILE_NAME);
+        Path file = directory.resolve(name + ReplayEngine.JOURNAL_SUFFIX);
+        for (int n = 2; Files.exists(file); n++) { // two games started within a second
+            file = directory.resolve(name + "-" + n + ReplayEngine.JOURNAL_SUFFIX);
+        }
+        TurnJournal journal = create(file, engine);
+        try {
+            Files.writeString(linkFor(save), file.getFileName().toString());
+        } catch (IOException e) {
+            journal.close();
+            throw e;
+        }
+        return journal;
+    }
+
+    // Journal of the game saved in save, or null when it has none (or the link can't be read)
+    public static Path journalFor(Path save) {
+        try {
+            return replaysFor(save).resolve(Files.readString(linkFor(save)).strip());
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | InvalidPathException e) {
+            DebugLog.warn(() -> "Turn journal of " + save + " not found: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // Starts a new, empty journal for the game as it is now, in a file that doesn't exist yet
+    public static TurnJournal create(Path file, GameEngine engine) throws IOException {
+        byte[] start = GameSnapshot.encode(engine);
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        int baseTurn = engine.getGame().getTurn();
+        TurnJournal journal = new TurnJournal(channel, baseTurn);
+        try {
+            journal.map(0, Math.max(REGION_SIZE, HEADER_SIZE + start.length + MAX_RECORD_SIZE));
+            MappedByteBuffer header = journal.region;
+            header.putInt(0, MAGIC);
+            header.putShort(4, FORMAT_VERSION);
+            header.putLong(6, engine.getGame().getSeed());
+            header.putInt(14, baseTurn);
+            header.putInt(18, start.length);
+            header.put(HEADER_SIZE, start);
+            journal.offset = HEADER_SIZE + start.length;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return journal;
+    }
+
+    private void map(long start, int size) throws IOException {
+        region = channel.map(FileChannel.MapMode.READ_WRITE, start, size); // grows the file
+        region.order(ByteOrder.BIG_ENDIAN);
+        regionStart = start;
+        offset = 0;
+    }
+
+    @Override
+    public void record(Kind kind, int turn, int player, int a, int b) {
+        if (region == null) {
+            return; // closed
+        }
+        if (offset + MAX_RECORD_SIZE > region.capacity()) {
+            try {
+                map(regionStart + offset, REGION_SIZE);
+            } catch (IOException e) {
+                DebugLog.warn(() -> "Turn journal stopped: " + e.getMessage());
+                region = null;
+                return;
+            }
+        }
+
+        // encoded on the heap, then copied in with one put; the kind byte goes in last
+        int length = putVarint(scratch, 0, turn - lastTurn);
+        length = putVarint(scratch, length, player);
+        if (kind.fields >= 1) {
+            length = putVarint(scratch, length, a);
+        }
+        if (kind.fields >= 2) {
+            length = putVarint(scratch, length, b);
+        }
+        region.put(offset + 1, scratch, 0, length);
+        region.put(offset, kind.code());
+
+        offset += 1 + length;
+        lastTurn = turn;
+        recordCount++;
+    }
+
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    // Bytes used so far, header included
+    public long getSize() {
+        return region == null ? 0 : regionStart + offset;
+    }
+
+    // Forces the records to disk; not needed to survive a crash of the game, only of the machine
+    public void force() {
+        if (region != null) {
+            region.force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        region = null; // unmapped when collected
+        channel.close();
+    }
+
+    // Unsigned LEB128 of the int's 32 bits (negative values take 5 bytes)
+    static int putVarint(byte[] bytes, int at, int value) {
+        while ((value & ~0x7f) != 0) {
+            bytes[at++] = (byte) ((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        bytes[at++] = (byte) value;
+        return at;
+    }
+
+    // ---- Reading ----
+
+    public static Contents read(Path file) throws IOException {
+        return read(file, BoardDefinition.DEFAULT);
+    }
+
+    // A journal of a game played on another board
+    public static Contents read(Path file, BoardDefinition board) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not an EcoJozi turn journal");
+        }
+        short version = buffer.getShort(4);
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported journal version " + version);
+        }
+        long seed = buffer.getLong(6);
+        int baseTurn = buffer.getInt(14);
+        int startLength = buffer.getInt(18);
+        if (startLength < 0 || HEADER_SIZE + startLength > buffer.limit()) {
+            throw new IOException("Turn journal is damaged (header)");
+        }
+        byte[] start = new byte[startLength];
+        buffer.get(HEADER_SIZE, start);
+
+        List<Entry> entries = new ArrayList<>();
+        int turn = baseTurn;
+        int[] at = {HEADER_SIZE + startLength};
+        while (at[0] < buffer.limit()) {
+            Kind kind = Kind.of(buffer.get(at[0]));
+            if (kind == null) {
+                break; // end of the records (zeros), or a record cut off
+            }
+            at[0]++;
+            try {
+                turn += getVarint(buffer, at);
+                int player = getVarint(buffer, at);
+                int a = kind.fields >= 1 ? getVarint(buffer, at) : 0;
+                int b = kind.fields >= 2 ? getVarint(buffer, at) : 0;
+                entries.add(new Entry(kind, turn, player, a, b));
+            } catch (IndexOutOfBoundsException e) {
+                break;
+            }
+        }
+        return new Contents(seed, baseTurn, start, Collections.unmodifiableList(entries), board);
+    }
+
+    static int getVarint(ByteBuffer buffer, int[] at) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = buffer.get(at[0]++);
+            value |= (b & 0x7f) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IndexOutOfBoundsException("Varint too long");
+    }
+
+    // ---- Replaying ----
+
+    /*
+     * Performs one recorded action on the engine through the normal rules, which draw the same dice
+     * and events from the generator. Throws IllegalStateException if the game doesn't allow the
+     * action or comes out differently, i.e. the engine is not in the state the action was recorded in.
+     */
+    public static void replay(GameEngine engine, Entry entry) {
+        Game game = engine.getGame();
+        if (entry.turn() != game.getTurn()) {
+            throw diverged(entry, "game is at turn " + game.getTurn());
+        }
+        Player player = player(game, entry.player(), entry);
+        TaskRegistry registry = engine.getTaskRegistry();
+        switch (entry.kind()) {
+            case ROLL -> {
+                if (entry.player() != game.getCurrentPlayerIndex()) {
+                    throw diverged(entry, "not this player's turn");
+                }
+                int roll = engine.rollDice();
+                if (roll != entry.a()) {
+                    throw diverged(entry, "rolled " + roll);
+                }
+            }
+            case MOVE -> engine.stepPlayer(player);
+            case EVENT -> {
+                int event = engine.drawEventNumber();
+                if (event != entry.a()) {
+                    throw diverged(entry, "drew event " + event);
+                }
+                GameEngine.getEvent(event).applyEffect(player);
+            }
+            case CLAIM -> {
+                Task task = registry.getTaskAtSquare(player.getPosition());
+                if (task == null || task.getId() != entry.a()
+                        || engine.claimTask(player) != GameEngine.ClaimResult.CLAIMED) {
+                    throw diverged(entry, "claim refused");
+                }
+            }
+            case ALLOCATE -> {
+                GameEngine.AllocationResult result = engine.allocateResources(player, task(registry, entry), entry.b());
+                if (result != GameEngine.AllocationResult.ALLOCATED && result != GameEngine.AllocationResult.COMPLETED) {
+                    throw diverged(entry, result.toString());
+                }
+            }
+            case ALLIANCE -> {
+                GameEngine.AllianceResult result = engine.formAlliance(player, player(game, entry.a(), entry));
+                if (result != GameEngine.AllianceResult.FORMED) {
+                    throw diverged(entry, result.toString());
+                }
+            }
+            case TRANSFER -> {
+                if (!engine.transferTask(player, task(registry, entry), player(game, entry.b(), entry))) {
+                    throw diverged(entry, "transfer refused");
+                }
+            }
+            case END_TURN -> {
+                GameEngine.TurnResult result = engine.endTurn();
+                if (result != GameEngine.TurnResult.NEXT_TURN) {
+                    throw diverged(entry, result.toString());
+                }
+            }
+            case CHECKSUM -> {
+                int checksum = engine.getStateChecksum();
+                if (checksum != entry.a()) {
+                    throw diverged(entry, "state checksum is " + checksum);
+                }
+            }
+        }
+    }
+
+    private static Player player(Game game, int index, Entry entry) {
+        if (index < 0 || index >= game.getPlayers().size()) {
+            throw diverged(entry, "no player " + index);
+        }
+        return game.getPlayers().get(index);
+    }
+
+    private static Task task(TaskRegistry registry, Entry entry) {
+        if (entry.a() < 0 || entry.a() >= registry.size()) {
+            throw diverged(entry, "no task " + entry.a());
+        }
+        return registry.getTask(entry.a());
+    }
+
+    private static IllegalStateException diverged(Entry entry, String reason) {
+        return new IllegalStateException("Can't replay " + entry + ": " + reason);
+    }
+
+    /*
+     * The game as it was when it stopped: the save, plus every journal action after it. A journal
+     * from another game, or one that starts after the save, is ignored; replay stops at the first
+     * action that doesn't fit (the game is kept as it was before that action). If the save can't be
+     * read, the whole journal is replayed from the game it started with.
+     */
+    public static GameEngine recover(Path save) throws IOException {
+        return recover(save, journalFor(save));
+    }
+
+    // As above with the journal given, or null for none
+    public static GameEngine recover(Path save, Path journal) throws IOException {
+        Contents contents = null;
+        try {
+            contents = journal == null ? null : read(journal);
+        } catch (NoSuchFileException e) {
+            // nothing recorded after the save
+        } catch (IOException e) {
+            DebugLog.warn(() -> "Turn journal ignored: " + e.getMessage());
+        }
+
+        GameEngine engine;
+        try {
+            engine = GameSnapshot.read(save);
+        } catch (IOException e) {
+            if (contents == null) {
+                throw e;
+            }
+            DebugLog.warn(() -> "Save unreadable (" + e.getMessage() + "), replaying the whole journal");
+            engine = contents.startEngine();
+        }
+        if (contents == null) {
+            return engine;
+        }
+        Game game = engine.getGame();
+        if (contents.seed() != game.getSeed() || contents.baseTurn() > game.getTurn()) {
+            DebugLog.warn(() -> "Turn journal " + journal + " is not from the saved game; ignored");
+            return engine;
+        }
+
+        int snapshotTurn = game.getTurn();
+        for (Entry entry : contents.entries()) {
+            if (entry.turn() < snapshotTurn) {
+                continue; // already in the save
+            }
+            byte[] before = GameSnapshot.encode(engine);
+            try {
+                replay(engine, entry);
+            } catch (IllegalStateException e) {
+                DebugLog.warn(() -> "Recovery stopped: " + e.getMessage());
+                return GameSnapshot.decode(before, engine.getBoard());
+            }
+        }
+        return engine;
+    }
+}
@@ -5,10 +5,8 @@ import java.awt.*;
 
 public class TutorialPanel extends JPanel {
     private final JFrame mainFrame;
-    private final MainMenuPanel previousPanel;
 
-    public TutorialPanel(MainMenuPanel previousPanel, JFrame mainFrame) {
-        this.previousPanel = previousPanel;
+    public TutorialPanel(JFrame mainFrame) {
         this.mainFrame = mainFrame;
 
         setLayout(new BorderLayout());
@@ -161,10 +159,7 @@ public class TutorialPanel extends JPanel {
     }
 
     protected void returnToMainMenu() {
-        mainFrame.getContentPane().removeAll();
-        mainFrame.add(previousPanel);
-        mainFrame.revalidate();
-        mainFrame.repaint();
+        ScreenNavigator.of(mainFrame).show(ScreenNavigator.Screen.MAIN_MENU);
     }
 
     private void applyButtonStyle(JButton button) {
@@ -0,0 +1,92 @@
+package main;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import javax.swing.SwingUtilities;
+
+/*
+ * Keeps a GameViewModel of one game up to date without building it on the event dispatch thread.
+ *
+ * requestUpdate is called whenever the game changes, on the thread that changed it (normally the
+ * EDT). It only copies the game's numbers (GameViewModel.capture); the records and their text are
+ * built on a shared background thread. Requests that arrive while a build is waiting are folded into
+ * one: only the newest capture is built. The finished snapshot is swapped in atomically, so
+ * getSnapshot can be called from any thread, and then handed to the listeners on the EDT, where
+ * older versions than the last one shown are dropped.
+ */
+public final class ViewModelPublisher {
+
+    private static final ExecutorService BUILDER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ecojozi-view-model");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Game game;
+    private final TaskRegistry registry;
+
+    private final AtomicReference<GameViewModel.Capture> pending = new AtomicReference<>();
+    private final AtomicReference<GameViewModel> latest = new AtomicReference<>();
+    private final List<Consumer<GameViewModel>> listeners = new CopyOnWriteArrayList<>();
+
+    private long nextVersion;  // only touched by the thread changing the game
+    private long shownVersion; // only touched on the EDT
+
+    public ViewModelPublisher(Game game, TaskRegistry registry) {
+        this.game = game;
+        this.registry = registry;
+    }
+
+    // Called on the EDT with every newer snapshot
+    public void addListener(Consumer<GameViewModel> listener) {
+        listeners.add(listener);
+    }
+
+    // The newest snapshot built so far, from any thread; null before the first one
+    public GameViewModel getSnapshot() {
+        return latest.get();
+    }
+
+    public void requestUpdate() {
+        GameViewModel.Capture capture = GameViewModel.capture(game, registry, ++nextVersion);
+        if (pending.getAndSet(capture) == null) {
+            BUILDER.execute(this::buildPending);
+        }
+    }
+
+    // Builds and shows a snapshot of the game right now, on the calling thread (the EDT)
+    public GameViewModel updateNow() {
+        GameViewModel snapshot = GameViewModel.build(GameViewModel.capture(game, registry, ++nextVersion));
+        latest.accumulateAndGet(snapshot, ViewModelPublisher::newer);
+        publish(snapshot);
+        return snapshot;
+    }
+
+    private void buildPending() {
+        GameViewModel.Capture capture = pending.getAndSet(null);
+        if (capture == null) {
+            return;
+        }
+        GameViewModel snapshot = GameViewModel.build(capture);
+        latest.accumulateAndGet(snapshot, ViewModelPublisher::newer);
+        SwingUtilities.invokeLater(() -> publish(snapshot));
+    }
+
+    private void publish(GameViewModel snapshot) {
+        if (snapshot.getVersion() <= shownVersion) {
+            return; // a later one is already on screen
+        }
+        shownVersion = snapshot.getVersion();
+        for (Consumer<GameViewModel> listener : listeners) {
+            listener.accept(snapshot);
+        }
+    }
+
+    private static GameViewModel newer(GameViewModel current, GameViewModel built) {
+        return current == null || built.getVersion() > current.getVersion() ? built : current;
+    }
+}
@@ -2,7 +2,6 @@ package main;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.AfterEach;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.ArrayList;
@@ -15,6 +14,7 @@ public class AllianceTest {
     private Player player2;
     private Player player3;
     private List<Player> validMembers;
+    private AllianceRegistry registry;
     
     @BeforeEach
     public void setUp() {
@@ -28,35 +28,17 @@ public class AllianceTest {
         validMembers.add(player1);
         validMembers.add(player2);
         
-        // Before every test, clear all affiliations
-        clearAllAlliances();
-    }
-   
-    
-    @AfterEach
-    public void tearDown() {
-        // After every test, clear all alliances
-        clearAllAlliances();
-    }
-    
-    // A helpful 
-    private void clearAllAlliances() {
-        try {
-            Field alliancesField = Alliance.class.getDeclaredField("alliances");
-            alliancesField.setAccessible(true);
-            ((List<Alliance>)alliancesField.get(null)).clear();
-        } catch (Exception e) {
-            System.out.println("Failed to clear alliances: " + e.getMessage());
-        }
+        // Every test gets its own, empty set of alliances
+        registry = new AllianceRegistry();
     }
     
     @Test
     public void testValidAllianceCreation() {
         // Test creating a valid alliance
-        Alliance alliance = new Alliance(validMembers);
+        Alliance alliance = new Alliance(registry, validMembers);
         
-        // Verify alliance was added to the static list
-        List<Alliance> allAlliances = Alliance.getAllAlliances();
+        // Verify alliance was added to the registry
+        List<Alliance> allAlliances = registry.getAlliances();
         assertEquals(1, allAlliances.size());
         assertTrue(allAlliances.contains(alliance));
         
@@ -73,10 +55,10 @@ public class AllianceTest {
         List<Player> tooFewMembers = new ArrayList<>();
         tooFewMembers.add(player1);
         
-        Alliance invalidAlliance = new Alliance(tooFewMembers);
+        Alliance invalidAlliance = new Alliance(registry, tooFewMembers);
         
         // Alliance should not be created
-        List<Alliance> allAlliances = Alliance.getAllAlliances();
+        List<Alliance> allAlliances = registry.getAlliances();
         assertEquals(0, allAlliances.size());
         
         // Test creating an alliance with too many members
@@ -85,44 +67,44 @@ public class AllianceTest {
         tooManyMembers.add(player2);
         tooManyMembers.add(player3);
         
-        invalidAlliance = new Alliance(tooManyMembers);
+        invalidAlliance = new Alliance(registry, tooManyMembers);
         
         // Alliance should not be created
-        allAlliances = Alliance.getAllAlliances();
+        allAlliances = registry.getAlliances();
         assertEquals(0, allAlliances.size());
     }
     
     @Test
     public void testPlayerAlreadyInAlliance() {
         // First create a valid alliance
-        Alliance alliance1 = new Alliance(validMembers);
+        Alliance alliance1 = new Alliance(registry, validMembers);
         
         // Try to create a new alliance with player1 and player3
         List<Player> newMembers = new ArrayList<>();
         newMembers.add(player1);
         newMembers.add(player3);
         
-        Alliance alliance2 = new Alliance(newMembers);
+        Alliance alliance2 = new Alliance(registry, newMembers);
         
         // Second alliance should not be created
-        List<Alliance> allAlliances = Alliance.getAllAlliances();
+        List<Alliance> allAlliances = registry.getAlliances();
         assertEquals(1, allAlliances.size());
     }
     
     @Test
     public void testIsPlayerInAnyAlliance() {
         // No alliances initially
-        assertFalse(Alliance.isPlayerInAnyAlliance(player1));
+        assertFalse(registry.isPlayerInAnyAlliance(player1));
         
         // Create an alliance
-        Alliance alliance = new Alliance(validMembers);
+        Alliance alliance = new Alliance(registry, validMembers);
         
         // Now player1 and player2 should be in an alliance
-        assertTrue(Alliance.isPlayerInAnyAlliance(player1));
-        assertTrue(Alliance.isPlayerInAnyAlliance(player2));
+        assertTrue(registry.isPlayerInAnyAlliance(player1));
+        assertTrue(registry.isPlayerInAnyAlliance(player2));
         
         // player3 should not be in any alliance
-        assertFalse(Alliance.isPlayerInAnyAlliance(player3));
+        assertFalse(registry.isPlayerInAnyAlliance(player3));
     }
     
     @Test
@@ -132,7 +114,7 @@ public class AllianceTest {
         singleMember.add(player1);
         
         // Create alliance and manually modify its members list
-        Alliance alliance = new Alliance(validMembers);
+        Alliance alliance = new Alliance(registry, validMembers);
         try {
             Field membersField = Alliance.class.getDeclaredField("members");
             membersField.setAccessible(true);
@@ -162,7 +144,7 @@ public class AllianceTest {
     
     @Test
     public void testIsMember() {
-        Alliance alliance = new Alliance(validMembers);
+        Alliance alliance = new Alliance(registry, validMembers);
         
         // Test membership
         assertTrue(alliance.isMember(player1));
@@ -172,7 +154,7 @@ public class AllianceTest {
     
     @Test
     public void testGetAlliance() {
-        Alliance alliance = new Alliance(validMembers);
+        Alliance alliance = new Alliance(registry, validMembers);
         
         List<Player> members = alliance.getAlliance();
         assertEquals(2, members.size());
@@ -183,11 +165,11 @@ public class AllianceTest {
     @Test
     public void testGetAllAlliances() {
         // No alliances initially
-        List<Alliance> alliances = Alliance.getAllAlliances();
+        List<Alliance> alliances = registry.getAlliances();
         assertEquals(0, alliances.size());
         
         // Create two alliances
-        Alliance alliance1 = new Alliance(validMembers);
+        Alliance alliance1 = new Alliance(registry, validMembers);
         
         // Create valid members for a second alliance
         List<Player> otherMembers = new ArrayList<>();
@@ -196,10 +178,10 @@ public class AllianceTest {
         otherMembers.add(player4);
         otherMembers.add(player5);
         
-        Alliance alliance2 = new Alliance(otherMembers);
+        Alliance alliance2 = new Alliance(registry, otherMembers);
         
         // Should now have two alliances
-        alliances = Alliance.getAllAlliances();
+        alliances = registry.getAlliances();
         assertEquals(2, alliances.size());
         assertTrue(alliances.contains(alliance1));
         assertTrue(alliances.contains(alliance2));
@@ -212,40 +194,109 @@ public class AllianceTest {
         Task task = new Task("Test Task", 1, player1, 0, "Description");
         
         // Form an alliance 
-        Alliance alliance = new Alliance(validMembers);
+        Alliance alliance = new Alliance(registry, validMembers);
         
-        // Use reflection to set the alliance's task
-        try {
-            Field taskField = Alliance.class.getDeclaredField("task");
-            taskField.setAccessible(true);
-            taskField.set(alliance, task);
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            fail("Failed to set task on alliance: " + e.getMessage());
-        }
+        // Tie the alliance to the task
+        alliance.setTask(task);
         
         // Try locating the alliance by objective
-        Alliance foundAlliance = Alliance.getAllianceByTask(task);
+        Alliance foundAlliance = registry.getAllianceByTask(task);
         assertNotNull(foundAlliance);
         assertEquals(alliance, foundAlliance);
         
         // Test and try with a different task
         Task otherTask = new Task("Other Task", 2, player1, 0, "Other Description");
-        Alliance notFoundAlliance = Alliance.getAllianceByTask(otherTask);
+        Alliance notFoundAlliance = registry.getAllianceByTask(otherTask);
         assertNull(notFoundAlliance);
     }
     
+    @Test
+    public void testSetTaskMovesIndex() {
+        Task firstTask = new Task("Test Task", 1, player1, 0, "First");
+        Task secondTask = new Task("Test Task", 1, player1, 0, "Second");
+        Alliance alliance = new Alliance(registry, validMembers);
+
+        alliance.setTask(firstTask);
+        alliance.setTask(secondTask);
+
+        assertNull(registry.getAllianceByTask(firstTask));
+        assertEquals(alliance, registry.getAllianceByTask(secondTask));
+        assertEquals(secondTask, alliance.getTask());
+    }
+
+    @Test
+    public void testDissolve() {
+        Task task = new Task("Test Task", 1, player1, 0, "Description");
+        Alliance alliance = new Alliance(registry, validMembers);
+        alliance.setTask(task);
+
+        alliance.dissolve();
+
+        // Everything about the alliance is gone from the lookups
+        assertEquals(0, registry.getAlliances().size());
+        assertFalse(registry.isPlayerInAnyAlliance(player1));
+        assertFalse(registry.isPlayerInAnyAlliance(player2));
+        assertNull(registry.getAllianceByTask(task));
+        assertNull(registry.getAllianceBetween(player1, player2));
+
+        // Members are free to ally again
+        List<Player> newMembers = new ArrayList<>();
+        newMembers.add(player1);
+        newMembers.add(player3);
+        Alliance newAlliance = new Alliance(registry, newMembers);
+        assertEquals(newAlliance, registry.getAllianceOf(player1));
+        assertEquals(newAlliance, registry.getAllianceOf(player3));
+    }
+
+    @Test
+    public void testLookupsWithManyAlliances() {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            players.add(new Player("Bulk" + i));
+        }
+        for (int i = 0; i < players.size(); i += 2) {
+            List<Player> pair = new ArrayList<>();
+            pair.add(players.get(i));
+            pair.add(players.get(i + 1));
+            new Alliance(registry, pair);
+        }
+
+        assertEquals(200, registry.getAlliances().size());
+        for (int i = 0; i < players.size(); i += 2) {
+            Alliance alliance = registry.getAllianceOf(players.get(i));
+            assertTrue(alliance.isMember(players.get(i + 1)));
+            assertEquals(alliance, registry.getAllianceBetween(players.get(i + 1), players.get(i)));
+        }
+        assertNull(registry.getAllianceBetween(players.get(0), players.get(2)));
+    }
+
     @Test
     public void testGetAllianceBetween() {
         // start an alliance
-        Alliance alliance = new Alliance(validMembers);
+        Alliance alliance = new Alliance(registry, validMembers);
         
         // Test identifying two player's alliance
-        Alliance foundAlliance = Alliance.getAllianceBetween(player1, player2);
+        Alliance foundAlliance = registry.getAllianceBetween(player1, player2);
         assertNotNull(foundAlliance);
         assertEquals(alliance, foundAlliance);
         
         // Test against a player who is not part of any alliance 
-        Alliance notFoundAlliance = Alliance.getAllianceBetween(player1, player3);
+        Alliance notFoundAlliance = registry.getAllianceBetween(player1, player3);
         assertNull(notFoundAlliance);
     }
+
+    @Test
+    public void testAllianceChangesNotifyTask() {
+        Task task = new Task("Test Task", 1, player1, 0, "Description");
+        List<Task> changes = new ArrayList<>();
+        task.addChangeListener(changes::add);
+
+        Alliance alliance = new Alliance(registry, validMembers);
+        alliance.setTask(task);
+        assertEquals(1, changes.size());
+
+        alliance.dissolve();
+        assertEquals(2, changes.size());
+        assertNull(registry.getAllianceByTask(task));
+    }
 }
\ No newline at end of file
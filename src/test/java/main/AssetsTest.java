@@ -0,0 +1,53 @@
+package main;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.awt.image.MultiResolutionImage;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class AssetsTest {
+
+    @Test
+    public void testLogoIsScaledOnce() throws Exception {
+        CompletableFuture<Image> first = Assets.getImage(Assets.LOGO, 120, 80);
+        Image logo = first.get(10, TimeUnit.SECONDS);
+
+        assertSame(first, Assets.getImage(Assets.LOGO, 120, 80), "same size comes from the cache");
+        assertNotSame(first, Assets.getImage(Assets.LOGO, 60, 40));
+
+        MultiResolutionImage variants = assertInstanceOf(MultiResolutionImage.class, logo);
+        Image base = variants.getResolutionVariants().get(0);
+        assertEquals(120, base.getWidth(null));
+        assertEquals(80, base.getHeight(null));
+    }
+
+    @Test
+    public void testMissingImageFails() {
+        CompletableFuture<Image> missing = Assets.getImage("images/no_such_image.png", 10, 10);
+        assertThrows(Exception.class, () -> missing.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testScaleKeepsColours() {
+        BufferedImage source = new BufferedImage(400, 300, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = source.createGraphics();
+        g.setColor(Color.GREEN);
+        g.fillRect(0, 0, 400, 300);
+        g.dispose();
+
+        BufferedImage scaled = Assets.scale(source, 37, 29);
+        assertEquals(37, scaled.getWidth());
+        assertEquals(29, scaled.getHeight());
+        assertEquals(Color.GREEN.getRGB(), scaled.getRGB(18, 14));
+
+        BufferedImage enlarged = Assets.scale(source, 800, 600);
+        assertEquals(800, enlarged.getWidth());
+        assertEquals(600, enlarged.getHeight());
+    }
+}
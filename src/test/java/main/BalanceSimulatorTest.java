@@ -0,0 +1,47 @@
+package main;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BalanceSimulatorTest {
+
+    @Test
+    public void testEveryGameGetsAnEnding() {
+        BalanceSimulator.Stats stats = new BalanceSimulator(3, 200).run(50);
+
+        assertEquals(50, stats.getGames());
+        assertEquals(50, stats.getGoodEndings() + stats.getBadEndings() + stats.getUnfinished());
+        assertTrue(stats.getAverageTurns() > 0);
+        assertTrue(stats.getAverageTurns() <= 200);
+    }
+
+    @Test
+    public void testMergeAddsCounts() {
+        BalanceSimulator simulator = new BalanceSimulator(2, 100);
+        BalanceSimulator.Stats first = new BalanceSimulator.Stats(2, 100);
+        BalanceSimulator.Stats second = new BalanceSimulator.Stats(2, 100);
+        simulator.playGame(first, new GameRandom(1));
+        simulator.playGame(second, new GameRandom(2));
+        simulator.playGame(second, new GameRandom(3));
+
+        first.merge(second);
+        assertEquals(3, first.getGames());
+        assertTrue(first.getTurnPercentile(100) >= 1);
+    }
+
+    @Test
+    public void testSameSeedGivesSameResults() {
+        BalanceSimulator.Stats first = new BalanceSimulator(4, 300).run(40, 1234L);
+        BalanceSimulator.Stats second = new BalanceSimulator(4, 300).run(40, 1234L);
+
+        assertEquals(first.getGoodEndings(), second.getGoodEndings());
+        assertEquals(first.getAverageTurns(), second.getAverageTurns(), 0.0);
+        assertEquals(first.getBankruptcies(), second.getBankruptcies());
+    }
+
+    @Test
+    public void testInvalidPlayerCount() {
+        assertThrows(IllegalArgumentException.class, () -> new BalanceSimulator(1, 100));
+        assertThrows(IllegalArgumentException.class, () -> new BalanceSimulator(5, 100));
+    }
+}
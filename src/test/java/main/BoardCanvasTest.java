@@ -0,0 +1,107 @@
+package main;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+public class BoardCanvasTest {
+
+    private BoardCanvas newCanvas(int squareCount, Game game) {
+        String[] labels = new String[squareCount];
+        Color[] colours = new Color[squareCount];
+        for (int i = 0; i < squareCount; i++) {
+            labels[i] = "Square number " + i;
+            colours[i] = Color.LIGHT_GRAY;
+        }
+        BoardCanvas canvas = new BoardCanvas(game, labels, colours, new SquareBackgroundCache(),
+                TokenAtlas.forPlayers(game.getPlayers()));
+        canvas.setSize(700, 700);
+        return canvas;
+    }
+
+    @Test
+    public void testDefaultBoardLayout() {
+        BoardCanvas canvas = newCanvas(GameEngine.BOARD_SIZE, new Game());
+        assertEquals(7, canvas.getSide());
+
+        // corners, in the order players reach them
+        assertEquals(0, canvas.getColumn(0));
+        assertEquals(0, canvas.getRow(0));
+        assertEquals(6, canvas.getColumn(6));
+        assertEquals(0, canvas.getRow(6));
+        assertEquals(6, canvas.getColumn(12));
+        assertEquals(6, canvas.getRow(12));
+        assertEquals(0, canvas.getColumn(18));
+        assertEquals(6, canvas.getRow(18));
+        // last square sits just below Start
+        assertEquals(0, canvas.getColumn(23));
+        assertEquals(1, canvas.getRow(23));
+    }
+
+    @Test
+    public void testSquaresNeverOverlap() {
+        for (int squareCount : new int[] {24, 40, 57}) {
+            BoardCanvas canvas = newCanvas(squareCount, new Game());
+            Rectangle area = new Rectangle(0, 0, 700, 700);
+            for (int a = 0; a < squareCount; a++) {
+                Rectangle bounds = canvas.getSquareBounds(a);
+                assertTrue(area.contains(bounds), squareCount + " squares, square " + a);
+                assertEquals(a, canvas.getSquareAt(bounds.x + 1, bounds.y + 1));
+                for (int b = a + 1; b < squareCount; b++) {
+                    assertFalse(bounds.intersects(canvas.getSquareBounds(b)), squareCount + ": " + a + " and " + b);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testTokensFollowPlayers() {
+        Player player1 = new Player("Player1");
+        player1.setCharacter("A");
+        Player player2 = new Player("Player2");
+        player2.setCharacter("B");
+        BoardCanvas canvas = newCanvas(24, new Game(new ArrayList<>(Arrays.asList(player1, player2))));
+
+        assertEquals("A B", canvas.getTokens(0));
+        player2.setPosition(5);
+        assertEquals("A", canvas.getTokens(0));
+        assertEquals("B", canvas.getTokens(5));
+        assertEquals("", canvas.getTokens(6));
+    }
+
+    @Test
+    public void testWrap() {
+        FontMetrics metrics = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB).createGraphics()
+                .getFontMetrics(new Font("Arial", Font.BOLD, 12));
+        String[] lines = BoardCanvas.wrap("Conduct Unit and Integration Testing", metrics, 90);
+
+        assertTrue(lines.length > 1);
+        assertEquals("Conduct Unit and Integration Testing", String.join(" ", lines));
+        for (String line : lines) {
+            assertTrue(metrics.stringWidth(line) <= 90 || !line.contains(" "), line);
+        }
+    }
+
+    @Test
+    public void testPaintsOnlyInsideClip() {
+        BoardCanvas canvas = newCanvas(24, new Game());
+        BufferedImage image = new BufferedImage(700, 700, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        Rectangle square = canvas.getSquareBounds(3);
+        g.setClip(square);
+        canvas.paint(g);
+        g.dispose();
+
+        assertEquals(Color.LIGHT_GRAY.getRGB(), image.getRGB(square.x + square.width / 2, square.y + 4));
+        Rectangle other = canvas.getSquareBounds(10);
+        assertEquals(0, image.getRGB(other.x + other.width / 2, other.y + other.height / 2)); // untouched
+    }
+}
@@ -0,0 +1,177 @@
+package main;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BoardDefinitionTest {
+
+    // A board of the given size: events on every fifth square, tasks of the four phases in turn on the rest
+    private static List<String> boardLines(int size) {
+        List<String> lines = new ArrayList<>();
+        lines.add("squares " + size + "   # a generated board");
+        StringBuilder events = new StringBuilder("event");
+        int task = 0;
+        for (int pos = 1; pos < size; pos++) {
+            if (pos % 5 == 0) {
+                events.append(' ').append(pos);
+            } else {
+                String phase = TaskRegistry.PHASES[task % 4];
+                lines.add("task " + pos + " " + phase + " 1000 250 " + phase + " number " + ++task);
+            }
+        }
+        lines.add(events.toString());
+        return lines;
+    }
+
+    @Test
+    public void testBuiltInBoardKeepsTheOriginalLayout() {
+        BoardDefinition board = BoardDefinition.DEFAULT;
+        assertEquals(24, board.getSize());
+        assertEquals(16, board.getTaskCount());
+
+        // square of each task id: Planning 0-3, Design 4-7, Development 8-11, Testing 12-15
+        int[] squares = {1, 7, 18, 12, 2, 8, 14, 20, 4, 10, 15, 21, 5, 11, 17, 22};
+        for (int id = 0; id < squares.length; id++) {
+            assertEquals(squares[id], board.getTaskSquare(id), "task " + id);
+            assertEquals(id, board.getTaskAt(squares[id]));
+            assertEquals(id / 4, board.getTaskPhase(id));
+            assertEquals(id % 4, board.getPhaseRow(id));
+        }
+        for (int pos : new int[] {3, 6, 9, 13, 16, 19, 23}) {
+            assertEquals(BoardDefinition.EVENT_SQUARE, board.getSquareType(pos));
+            assertEquals(GameEngine.RANDOM_EVENT, board.getSquareLabel(pos));
+        }
+        assertEquals(BoardDefinition.START_SQUARE, board.getSquareType(0));
+        assertEquals(GameEngine.START, board.getSquareLabel(0));
+        assertEquals("Hire Developers", board.getSquareLabel(12));
+        assertEquals(1500, board.getRequiredResources(3));
+        assertEquals(500, board.getDeposit(3));
+        assertEquals(250, board.getDeposit(15));
+    }
+
+    @Test
+    public void testGamesShareOneCompiledBoard() throws IOException {
+        GameEngine first = new GameEngine(new Game());
+        GameEngine second = new GameEngine(new Game());
+        assertSame(BoardDefinition.DEFAULT, first.getBoard());
+        assertSame(first.getBoard(), second.getTaskRegistry().getBoard());
+        assertNotSame(first.getTaskRegistry().getTask(0), second.getTaskRegistry().getTask(0));
+
+        // read again, the built-in file compiles to the same tables
+        BoardDefinition loaded = BoardDefinition.load(BoardDefinition.BUILT_IN);
+        assertEquals(BoardDefinition.DEFAULT.getSize(), loaded.getSize());
+        for (int pos = 0; pos < loaded.getSize(); pos++) {
+            assertEquals(BoardDefinition.DEFAULT.getTaskAt(pos), loaded.getTaskAt(pos));
+            assertEquals(BoardDefinition.DEFAULT.getSquareLabel(pos), loaded.getSquareLabel(pos));
+        }
+    }
+
+    @Test
+    public void testBoardMissingFromTheClasspathIsAClearError() {
+        IOException e = assertThrows(IOException.class, () -> BoardDefinition.load("boards/none.board"));
+        assertTrue(e.getMessage().startsWith("main/boards/none.board: not on the classpath"), e.getMessage());
+    }
+
+    @Test
+    public void testBoardThatCannotBeLoadedFallsBackToTheBuiltInOne() throws IOException {
+        Path broken = Files.createTempFile("ecojozi", ".board");
+        try {
+            Files.writeString(broken, "squares 4\nevent 1 2\n"); // square 3 left empty
+            for (String file : new String[] {"no/such.board", broken.toString()}) {
+                BoardDefinition board = BoardDefinition.loadDefault(file);
+                assertEquals(24, board.getSize(), file);
+                assertEquals(16, board.getTaskCount(), file);
+            }
+        } finally {
+            Files.delete(broken);
+        }
+    }
+
+    @Test
+    public void testLargerBoardIsPlayedLikeTheBuiltInOne() throws IOException {
+        BoardDefinition board = BoardDefinition.parse("large", boardLines(200));
+        assertEquals(200, board.getSize());
+        assertEquals(160, board.getTaskCount());
+        assertEquals(4, board.getTaskAt(5 + 1));
+        assertEquals("Planning number 5", board.getSquareLabel(6));
+
+        for (long seed = 1; seed <= 5; seed++) {
+            GameEngine engine = BotGames.newGame(2 + (int) (seed % 3), new GameRandom(seed), board);
+            assertEquals(200, engine.getBoardTasks().size());
+            assertEquals(0, engine.getNextPosition(199));
+            SimulationKernel kernel = SimulationKernel.fromEngine(engine);
+            for (int turn = 0; turn < 300; turn++) {
+                GameEngine.TurnResult result = BalanceSimulator.playTurn(engine);
+                assertEquals(result, BalanceSimulator.playTurn(kernel), "seed " + seed + ", turn " + turn);
+                assertTrue(SimulationKernel.fromEngine(engine).sameStateAs(kernel), "seed " + seed + ", turn " + turn);
+                if (result != GameEngine.TurnResult.NEXT_TURN) {
+                    break;
+                }
+            }
+
+            GameEngine restored = GameSnapshot.decode(GameSnapshot.encode(engine), board);
+            assertSame(board, restored.getBoard());
+            assertEquals(engine.getStateChecksum(), restored.getStateChecksum());
+        }
+    }
+
+    @Test
+    public void testSaveFromAnotherBoardIsRejected() throws IOException {
+        BoardDefinition board = BoardDefinition.parse("large", boardLines(60));
+        GameEngine engine = BotGames.newGame(2, new GameRandom(4), board);
+        assertThrows(IOException.class, () -> GameSnapshot.decode(GameSnapshot.encode(engine)));
+    }
+
+    @Test
+    public void testSaveOnlyLoadsOnItsOwnBoard() throws IOException {
+        List<String> lines = boardLines(60);
+        BoardDefinition board = BoardDefinition.parse("large", lines);
+        GameEngine engine = BotGames.newGame(2, new GameRandom(6), board);
+        BotGames.play(engine, 20);
+        byte[] save = GameSnapshot.encode(engine);
+
+        // same squares and task count, one price changed: the save's balances would mean something else
+        List<String> repriced = new ArrayList<>(lines);
+        repriced.set(1, repriced.get(1).replace(" 1000 250 ", " 1500 250 "));
+        BoardDefinition other = BoardDefinition.parse("repriced", repriced);
+        assertEquals(board.getTaskCount(), other.getTaskCount());
+        IOException e = assertThrows(IOException.class, () -> GameSnapshot.decode(save, other));
+        assertTrue(e.getMessage().contains("board large"), e.getMessage());
+
+        // the same board under another name, or with other descriptions, still takes the save
+        List<String> renamed = lines.stream().map(line -> line.replace(" number ", " no. ")).toList();
+        for (BoardDefinition same : List.of(BoardDefinition.parse("copy", lines), BoardDefinition.parse("renamed", renamed))) {
+            assertEquals(board.getFingerprint(), same.getFingerprint());
+            assertTrue(BotGames.sameState(engine, GameSnapshot.decode(save, same)));
+        }
+    }
+
+    @Test
+    public void testMistakesNameTheLine() {
+        String[][] broken = {
+                {"event 3"},                                                   // no square count yet
+                {"squares 4", "event 1 2", "event 2", "task 3 Planning 10 5 A"}, // square 2 twice
+                {"squares 4", "event 1 2"},                                    // square 3 left empty
+                {"squares 4", "event 1 2", "task 3 Marketing 10 5 A"},         // no such phase
+                {"squares 4", "event 1 2", "task 3 Planning 10 50 A"},         // deposit above the total
+                {"squares 4", "event 1 2", "task 4 Planning 10 5 A"},          // off the board
+                {"squares 4", "event 1 2", "task 3 Planning 10 5"},            // no description
+                {"squares 4", "event 1 2", "corner 3"},                        // unknown directive
+                {"squares"},
+        };
+        for (String[] lines : broken) {
+            IOException e = assertThrows(IOException.class, () -> BoardDefinition.parse("bad", List.of(lines)));
+            assertTrue(e.getMessage().startsWith("bad:"), String.join(" / ", lines) + ": " + e.getMessage());
+        }
+
+        IOException e = assertThrows(IOException.class,
+                () -> BoardDefinition.parse("bad", List.of("squares 4", "", "# comment", "event 1 x")));
+        assertTrue(e.getMessage().startsWith("bad:4: "), e.getMessage());
+    }
+}
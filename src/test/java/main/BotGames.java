@@ -0,0 +1,39 @@
+package main;
+
+import java.util.ArrayList;
+
+/*
+ * Fixtures shared by the tests that play bot games: a game on any board, bot turns played the way
+ * BalanceSimulator plays them, and a check that two engines hold exactly the same game.
+ */
+final class BotGames {
+
+    private BotGames() {
+    }
+
+    // Players "Bot 1", "Bot 2", ... with the usual starting resources, as ReplayEngine.newBotGame, on the given board
+    static GameEngine newGame(int playerCount, GameRandom random, BoardDefinition board) {
+        ArrayList<Player> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            Player player = new Player("Bot " + (i + 1));
+            player.addResources(Game.getStartingResources(playerCount));
+            players.add(player);
+        }
+        return new GameEngine(new Game(players, random), board);
+    }
+
+    // Plays bot turns until the game ends or maxTurns have been played
+    static void play(GameEngine engine, int maxTurns) {
+        for (int turn = 0; turn < maxTurns; turn++) {
+            if (BalanceSimulator.playTurn(engine) != GameEngine.TurnResult.NEXT_TURN) {
+                return;
+            }
+        }
+    }
+
+    // True if both engines hold exactly the same game, turn and generator state included
+    static boolean sameState(GameEngine a, GameEngine b) {
+        return SimulationKernel.fromEngine(a).sameStateAs(SimulationKernel.fromEngine(b))
+                && a.getStateChecksum() == b.getStateChecksum();
+    }
+}
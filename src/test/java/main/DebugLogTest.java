@@ -0,0 +1,36 @@
+package main;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DebugLogTest {
+
+    @Test
+    public void testFlagsMatchLevel() {
+        assertEquals(DebugLog.isEnabled(DebugLog.Level.ERROR), DebugLog.ERROR_ENABLED);
+        assertEquals(DebugLog.isEnabled(DebugLog.Level.WARN), DebugLog.WARN_ENABLED);
+        assertEquals(DebugLog.isEnabled(DebugLog.Level.INFO), DebugLog.INFO_ENABLED);
+        assertEquals(DebugLog.isEnabled(DebugLog.Level.DEBUG), DebugLog.DEBUG_ENABLED);
+        assertEquals(DebugLog.isEnabled(DebugLog.Level.TRACE), DebugLog.TRACE_ENABLED);
+        assertFalse(DebugLog.isEnabled(DebugLog.Level.OFF));
+    }
+
+    @Test
+    public void testLevelsAreOrdered() {
+        // a more verbose level is never on while a less verbose one is off
+        if (DebugLog.TRACE_ENABLED) assertTrue(DebugLog.DEBUG_ENABLED);
+        if (DebugLog.DEBUG_ENABLED) assertTrue(DebugLog.INFO_ENABLED);
+        if (DebugLog.INFO_ENABLED) assertTrue(DebugLog.WARN_ENABLED);
+        if (DebugLog.WARN_ENABLED) assertTrue(DebugLog.ERROR_ENABLED);
+    }
+
+    @Test
+    public void testDisabledMessagesAreNeverBuilt() {
+        boolean[] built = new boolean[1];
+        DebugLog.trace(() -> {
+            built[0] = true;
+            return "trace message";
+        });
+        assertEquals(DebugLog.TRACE_ENABLED, built[0]);
+    }
+}
@@ -0,0 +1,111 @@
+package main;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class EdtMonitorTest {
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    @Test
+    public void testActionsGetTheirOwnHistogram() {
+        EdtMonitor monitor = new EdtMonitor(1000);
+        for (int i = 0; i < 3; i++) {
+            monitor.run("click", null, () -> monitor.run("ROLL", EdtMonitor.Action.ROLL, () -> sleep(2)));
+        }
+
+        EdtMonitor.Histogram roll = monitor.getActionHistogram(EdtMonitor.Action.ROLL);
+        assertEquals(3, roll.getCount());
+        assertTrue(roll.getMeanMicros() >= 2000, "mean " + roll.getMeanMicros());
+        assertEquals(0, monitor.getActionHistogram(EdtMonitor.Action.CLAIM).getCount());
+
+        // the action is part of the event that ran it
+        EdtMonitor.Histogram events = monitor.getEventHistogram();
+        assertEquals(3, events.getCount());
+        assertTrue(events.getMeanMicros() >= 2000, "mean " + events.getMeanMicros());
+    }
+
+    @Test
+    public void testNestedEventsAreNotCountedTwice() {
+        EdtMonitor monitor = new EdtMonitor(1000);
+        // an action that opens a "dialog" whose own event takes the time
+        monitor.run("ALLOCATE", EdtMonitor.Action.ALLOCATE, () -> monitor.run("typing", null, () -> sleep(30)));
+
+        assertTrue(monitor.getActionHistogram(EdtMonitor.Action.ALLOCATE).getMaxMicros() < 20_000);
+        assertTrue(monitor.getEventHistogram().getMaxMicros() >= 30_000);
+    }
+
+    @Test
+    public void testStallKeepsTheStack() {
+        EdtMonitor monitor = new EdtMonitor(20);
+        monitor.startWatchdog();
+        monitor.run("slow", null, () -> sleep(150));
+        monitor.run("fast", null, () -> { });
+
+        List<EdtMonitor.Stall> stalls = monitor.getStalls();
+        assertEquals(1, stalls.size());
+        EdtMonitor.Stall stall = stalls.get(0);
+        assertEquals("slow", stall.description());
+        assertTrue(stall.durationMillis() >= 150);
+        assertTrue(stall.stack().contains("sleep"), stall.stack());
+    }
+
+    @Test
+    public void testInnerStallIsReportedOnce() {
+        EdtMonitor monitor = new EdtMonitor(20);
+        monitor.run("click", null, () -> monitor.run("END_TURN", EdtMonitor.Action.END_TURN, () -> sleep(40)));
+
+        assertEquals(1, monitor.getStalls().size());
+        assertEquals("END_TURN", monitor.getStalls().get(0).description());
+    }
+
+    @Test
+    public void testPercentiles() {
+        EdtMonitor.Histogram histogram = new EdtMonitor.Histogram("test");
+        for (int i = 0; i < 99; i++) {
+            histogram.record(3_000); // 3 us
+        }
+        histogram.record(5_000_000); // 5 ms
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(4, histogram.getPercentileMicros(50)); // bucket below 4 us
+        assertEquals(4, histogram.getPercentileMicros(99));
+        assertEquals(5000, histogram.getPercentileMicros(100));
+        assertEquals(5000, histogram.getMaxMicros());
+        assertEquals(0, new EdtMonitor.Histogram("empty").getPercentileMicros(50));
+    }
+
+    @Test
+    public void testReportIsWritten() throws Exception {
+        EdtMonitor monitor = new EdtMonitor(1000);
+        monitor.run("TRANSFER", EdtMonitor.Action.TRANSFER, () -> { });
+        Path file = Files.createTempFile("edt-report", ".txt");
+        try {
+            monitor.writeReport(file);
+            String report = Files.readString(file);
+            assertTrue(report.contains(EdtMonitor.Histogram.HEADER));
+            assertTrue(report.contains("\nTRANSFER\t1\t"), report);
+            assertTrue(report.contains("# stalls: 0"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testTimedIsPassThroughWhenOff() {
+        Runnable work = () -> { };
+        if (!EdtMonitor.ENABLED) {
+            assertSame(work, EdtMonitor.timed(EdtMonitor.Action.CLAIM, work));
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package main;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class GameEngineTest {
+
+    private GameEngine engine;
+    private Game game;
+    private Player player1;
+    private Player player2;
+
+    @BeforeEach
+    public void setUp() {
+        player1 = new Player("Player1");
+        player1.addResources(3000);
+        player2 = new Player("Player2");
+        player2.addResources(3000);
+
+        ArrayList<Player> players = new ArrayList<>();
+        players.add(player1);
+        players.add(player2);
+        game = new Game(players);
+        engine = new GameEngine(game);
+    }
+
+    @Test
+    public void testBoardLayout() {
+        List<Task> boardTasks = engine.getBoardTasks();
+        assertEquals(GameEngine.BOARD_SIZE, boardTasks.size());
+        assertEquals("Start", boardTasks.get(0).getObjective());
+        assertEquals("Hire Developers", boardTasks.get(12).getDescription());
+        assertEquals("Budget and Resource Planning", boardTasks.get(18).getDescription());
+        assertTrue(engine.isRandomEventSquare(3));
+        assertFalse(engine.isRandomEventSquare(1));
+    }
+
+    @Test
+    public void testMovementAwardsLapBonus() {
+        player1.setPosition(22);
+        int laps = engine.movePlayer(player1, 3);
+
+        assertEquals(1, laps);
+        assertEquals(1, player1.getPosition());
+        assertEquals(3000 + GameEngine.LAP_BONUS, player1.getResources());
+    }
+
+    @Test
+    public void testClaimTask() {
+        player1.setPosition(1); // Define Goals
+        Task task = engine.getBoardTasks().get(1);
+
+        assertEquals(GameEngine.ClaimResult.CLAIMED, engine.claimTask(player1));
+        assertEquals(player1, task.getOwner());
+        assertTrue(player1.getTasks().contains(task));
+        assertEquals(3000 - task.getDeposit(), player1.getResources());
+        assertEquals(task.getDeposit(), task.checkResourceBalance());
+
+        // second claim is rejected
+        player2.setPosition(1);
+        assertEquals(GameEngine.ClaimResult.ALREADY_CLAIMED, engine.claimTask(player2));
+    }
+
+    @Test
+    public void testClaimRejectedSquares() {
+        player1.setPosition(0);
+        assertEquals(GameEngine.ClaimResult.START_SQUARE, engine.checkClaim(player1));
+
+        player1.setPosition(3);
+        assertEquals(GameEngine.ClaimResult.RANDOM_SQUARE, engine.checkClaim(player1));
+
+        player1.setPosition(1);
+        player1.deductResources(player1.getResources());
+        assertEquals(GameEngine.ClaimResult.INSUFFICIENT_FUNDS, engine.checkClaim(player1));
+    }
+
+    @Test
+    public void testAllocateResources() {
+        player1.setPosition(1);
+        engine.claimTask(player1);
+        Task task = engine.getBoardTasks().get(1); // 1000 required, 250 deposit
+
+        assertEquals(GameEngine.AllocationResult.INVALID_AMOUNT, engine.allocateResources(player1, task, 0));
+        assertEquals(GameEngine.AllocationResult.EXCEEDS_REQUIRED, engine.allocateResources(player1, task, 800));
+        assertEquals(GameEngine.AllocationResult.ALLOCATED, engine.allocateResources(player1, task, 250));
+        assertEquals(500, task.checkResourceBalance());
+
+        int before = player1.getResources();
+        assertEquals(GameEngine.AllocationResult.COMPLETED, engine.allocateResources(player1, task, 500));
+        assertTrue(task.isComplete());
+        assertEquals(before - 500 + GameEngine.COMPLETION_REFUND, player1.getResources());
+        assertEquals(GameEngine.AllocationResult.ALREADY_COMPLETE, engine.allocateResources(player1, task, 1));
+    }
+
+    @Test
+    public void testAllianceSharesAllocatableTasks() {
+        player1.setPosition(1);
+        engine.claimTask(player1);
+
+        assertEquals(GameEngine.AllianceResult.FORMED, engine.formAlliance(player1, player2));
+        assertTrue(game.getAlliances().isPlayerInAnyAlliance(player2));
+        assertTrue(engine.getAllocatableTasks(player2).contains(engine.getBoardTasks().get(1)));
+        assertEquals(GameEngine.AllianceResult.ALREADY_IN_ALLIANCE, engine.checkAlliance(player1));
+    }
+
+    @Test
+    public void testTransferTask() {
+        player1.setPosition(1);
+        engine.claimTask(player1);
+        Task task = engine.getBoardTasks().get(1);
+
+        assertTrue(engine.transferTask(player1, task, player2));
+        assertFalse(player1.getTasks().contains(task));
+        assertTrue(player2.getTasks().contains(task));
+        assertFalse(engine.transferTask(player1, task, player2));
+    }
+
+    @Test
+    public void testEndTurn() {
+        assertEquals(GameEngine.TurnResult.NOT_ROLLED, engine.endTurn());
+
+        engine.rollDice();
+        assertEquals(GameEngine.TurnResult.NEXT_TURN, engine.endTurn());
+        assertEquals(player2, game.getCurrentPlayer());
+
+        engine.rollDice();
+        player1.deductResources(player1.getResources());
+        player2.deductResources(player2.getResources());
+        assertEquals(GameEngine.TurnResult.OUT_OF_RESOURCES, engine.endTurn());
+
+        for (Task task : engine.getBoardTasks()) {
+            task.markAsComplete();
+        }
+        assertEquals(GameEngine.TurnResult.ALL_TASKS_COMPLETE, engine.endTurn());
+    }
+}
@@ -0,0 +1,122 @@
+package main;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.swing.SwingUtilities;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+
+public class GameLogTest {
+
+    // Records list model events as "added 0-2" / "removed 0-0"
+    private static List<String> recordEvents(GameLog log) {
+        List<String> events = new ArrayList<>();
+        log.addListDataListener(new ListDataListener() {
+            @Override
+            public void intervalAdded(ListDataEvent e) {
+                events.add("added " + e.getIndex0() + "-" + e.getIndex1());
+            }
+
+            @Override
+            public void intervalRemoved(ListDataEvent e) {
+                events.add("removed " + e.getIndex0() + "-" + e.getIndex1());
+            }
+
+            @Override
+            public void contentsChanged(ListDataEvent e) {
+                events.add("changed");
+            }
+        });
+        return events;
+    }
+
+    @Test
+    public void testAppendsAreBatched() throws Exception {
+        GameLog log = new GameLog(10);
+        List<String> events = recordEvents(log);
+
+        SwingUtilities.invokeAndWait(() -> {
+            log.append(GameLog.Kind.MOVE, "Player1 rolled a 4");
+            log.append(GameLog.Kind.TURN, "Player2's turn");
+            log.append(GameLog.Kind.EVENT, "Random Event: Grant");
+            assertEquals(0, log.getSize()); // nothing shown until the frame
+
+            log.flush();
+        });
+
+        assertEquals(List.of("added 0-2"), events);
+        assertEquals(List.of("Player1 rolled a 4", "Player2's turn", "Random Event: Grant"), log.getTexts());
+        assertEquals(GameLog.Kind.TURN, log.getElementAt(1).kind());
+    }
+
+    @Test
+    public void testOldestEntriesAreDropped() throws Exception {
+        GameLog log = new GameLog(3);
+        List<String> events = recordEvents(log);
+
+        SwingUtilities.invokeAndWait(() -> {
+            for (int i = 1; i <= 5; i++) {
+                log.append(GameLog.Kind.GAME, "line " + i);
+            }
+            log.flush();
+            log.append(GameLog.Kind.GAME, "line 6");
+            log.flush();
+        });
+
+        assertEquals(3, log.getSize());
+        assertEquals(List.of("line 4", "line 5", "line 6"), log.getTexts());
+        assertEquals(6, log.getAppendedCount());
+        assertEquals(List.of("added 0-2", "removed 0-0", "added 2-2"), events);
+    }
+
+    @Test
+    public void testAppendFromAnotherThreadShowsUpOnTheNextFrame() throws Exception {
+        GameLog log = new GameLog();
+        CountDownLatch shown = new CountDownLatch(1);
+        log.addListDataListener(new ListDataListener() {
+            @Override
+            public void intervalAdded(ListDataEvent e) {
+                assertTrue(SwingUtilities.isEventDispatchThread());
+                shown.countDown();
+            }
+
+            @Override
+            public void intervalRemoved(ListDataEvent e) {
+            }
+
+            @Override
+            public void contentsChanged(ListDataEvent e) {
+            }
+        });
+
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 1000; i++) {
+                log.append(GameLog.Kind.MOVE, "step " + i);
+            }
+        });
+        writer.start();
+        writer.join();
+
+        assertTrue(shown.await(5, TimeUnit.SECONDS));
+        SwingUtilities.invokeAndWait(log::flush); // anything appended after the timer fired
+        assertEquals(GameLog.DEFAULT_CAPACITY, log.getSize());
+        assertEquals("step 999", log.getElementAt(log.getSize() - 1).text());
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        GameLog log = new GameLog(5);
+        SwingUtilities.invokeAndWait(() -> {
+            log.append(GameLog.Kind.GAME, "Game seed: 1");
+            log.flush();
+            log.clear();
+        });
+        assertEquals(0, log.getSize());
+        assertThrows(IllegalArgumentException.class, () -> new GameLog(0));
+    }
+}
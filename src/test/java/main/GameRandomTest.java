@@ -0,0 +1,58 @@
+package main;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+
+public class GameRandomTest {
+
+    @Test
+    public void testSameSeedSameSequence() {
+        GameRandom first = new GameRandom(42);
+        GameRandom second = new GameRandom(42);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.nextLong(), second.nextLong());
+        }
+        assertEquals(42, first.getInitialSeed());
+    }
+
+    @Test
+    public void testDiceRange() {
+        GameRandom random = new GameRandom(7);
+        boolean[] seen = new boolean[7];
+        for (int i = 0; i < 1000; i++) {
+            int roll = GameRandom.rollDice(random);
+            assertTrue(roll >= 1 && roll <= 6);
+            seen[roll] = true;
+        }
+        for (int face = 1; face <= 6; face++) {
+            assertTrue(seen[face], "Face " + face + " never rolled");
+        }
+    }
+
+    @Test
+    public void testForGameDoesNotDependOnOrder() {
+        long a = GameRandom.forGame(99, 5).nextLong();
+        GameRandom.forGame(99, 4).nextLong();
+        long b = GameRandom.forGame(99, 5).nextLong();
+        assertEquals(a, b);
+        assertNotEquals(a, GameRandom.forGame(99, 6).nextLong());
+    }
+
+    @Test
+    public void testSplitIsIndependent() {
+        GameRandom parent = new GameRandom(3);
+        GameRandom child = parent.split();
+        assertNotEquals(parent.nextLong(), child.nextLong());
+    }
+
+    @Test
+    public void testSeededGamesReplayTheSameEvents() {
+        GameEngine first = new GameEngine(new Game(new ArrayList<>(), 2024L));
+        GameEngine second = new GameEngine(new Game(new ArrayList<>(), 2024L));
+        for (int i = 0; i < 20; i++) {
+            assertEquals(first.drawRandomEvent().getDescription(), second.drawRandomEvent().getDescription());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package main;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+
+public class GameSessionTest {
+
+    @Test
+    public void testSessionsAreIndependent() {
+        GameSession first = new GameSession();
+        GameSession second = new GameSession();
+
+        first.setColourblindMode(true);
+
+        assertTrue(first.isColourblindMode());
+        assertFalse(second.isColourblindMode());
+    }
+
+    @Test
+    public void testBoardJoinsItsSession() {
+        GameSession session = new GameSession();
+        assertNull(session.getBoard());
+
+        ArrayList<Player> players = new ArrayList<>();
+        players.add(new Player("Player1"));
+        players.add(new Player("Player2"));
+        Board board = new Board(new Game(players), session);
+        Board otherBoard = new Board(new Game(players));
+
+        assertSame(board, session.getBoard());
+        assertNotSame(otherBoard, session.getBoard());
+
+        // no squares have been built yet, so this only has to not fail
+        session.setColourblindMode(true);
+    }
+
+    @Test
+    public void testAnimationSettings() {
+        GameSession session = new GameSession();
+        assertFalse(session.isSkipAnimation());
+        assertEquals(TokenAnimator.DEFAULT_STEP_MILLIS, session.getAnimationStepMillis());
+
+        session.setSkipAnimation(true);
+        session.setAnimationStepMillis(120);
+        assertTrue(session.isSkipAnimation());
+        assertEquals(120, session.getAnimationStepMillis());
+        assertThrows(IllegalArgumentException.class, () -> session.setAnimationStepMillis(-1));
+    }
+}
@@ -0,0 +1,157 @@
+package main;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class GameSnapshotTest {
+
+    @Test
+    public void testRestoredGameCarriesOnIdentically() throws IOException {
+        for (long seed = 1; seed <= 20; seed++) {
+            GameEngine engine = ReplayEngine.newBotGame(2 + (int) (seed % 3), new GameRandom(seed));
+            BotGames.play(engine, 25);
+
+            GameEngine restored = GameSnapshot.decode(GameSnapshot.encode(engine));
+            assertTrue(SimulationKernel.fromEngine(engine).sameStateAs(SimulationKernel.fromEngine(restored)));
+            assertEquals(engine.getGame().getTurn(), restored.getGame().getTurn());
+            assertEquals(engine.getGame().getSeed(), restored.getGame().getSeed());
+
+            // same generator state, so the rest of the game is the same too
+            for (int turn = 0; turn < 200; turn++) {
+                GameEngine.TurnResult result = BalanceSimulator.playTurn(engine);
+                assertEquals(result, BalanceSimulator.playTurn(restored), "seed " + seed + ", turn " + turn);
+                assertTrue(SimulationKernel.fromEngine(engine).sameStateAs(SimulationKernel.fromEngine(restored)));
+                if (result != GameEngine.TurnResult.NEXT_TURN) {
+                    break;
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testPlayersAndAlliancesAreKept() throws IOException {
+        GameEngine engine = ReplayEngine.newBotGame(3, new GameRandom(7));
+        Game game = engine.getGame();
+        Player player1 = game.getPlayers().get(0);
+        player1.setCharacter("A");
+        player1.setPosition(1); // Define Goals
+        engine.claimTask(player1);
+        engine.formAlliance(player1, game.getPlayers().get(2));
+        engine.rollDice();
+
+        GameEngine restored = GameSnapshot.decode(GameSnapshot.encode(engine));
+        Game restoredGame = restored.getGame();
+        Player restored1 = restoredGame.getPlayers().get(0);
+        assertEquals("Bot 1", restored1.getName());
+        assertEquals("A", restored1.getCharacter());
+        assertEquals(1, restored1.getPosition());
+        assertEquals(0, restored1.getPreviousPosition());
+        assertTrue(restored.hasRolled());
+
+        Task task = restored.getTaskRegistry().getTaskAtSquare(1);
+        assertSame(restored1, task.getOwner());
+        assertEquals(List.of(task), restored1.getTasks());
+        assertSame(restoredGame.getAlliances().getAllianceOf(restored1),
+                restoredGame.getAlliances().getAllianceOf(restoredGame.getPlayers().get(2)));
+        assertFalse(restoredGame.getAlliances().isPlayerInAnyAlliance(restoredGame.getPlayers().get(1)));
+    }
+
+    @Test
+    public void testDecodeIntoPutsAnEarlierStateBack() throws IOException {
+        GameEngine engine = ReplayEngine.newBotGame(3, new GameRandom(13));
+        BotGames.play(engine, 5);
+        byte[] earlier = GameSnapshot.encode(engine);
+        int earlierChecksum = engine.getStateChecksum();
+        List<Player> players = new ArrayList<>(engine.getGame().getPlayers());
+        BotGames.play(engine, 60);
+        assertNotEquals(earlierChecksum, engine.getStateChecksum());
+
+        GameSnapshot.decodeInto(earlier, engine);
+        assertEquals(earlierChecksum, engine.getStateChecksum());
+        assertEquals(players, engine.getGame().getPlayers()); // the same objects, moved back
+        assertTrue(SimulationKernel.fromEngine(engine).sameStateAs(SimulationKernel.fromEngine(GameSnapshot.decode(earlier))));
+
+        byte[] other = GameSnapshot.encode(ReplayEngine.newBotGame(3, new GameRandom(14)));
+        assertThrows(IOException.class, () -> GameSnapshot.decodeInto(other, engine));
+    }
+
+    @Test
+    public void testDamagedSavesAreRejected() {
+        byte[] data = GameSnapshot.encode(ReplayEngine.newBotGame(2, new GameRandom(3)));
+        assertTrue(data.length < 256, "size " + data.length);
+
+        byte[] flipped = data.clone();
+        flipped[20] ^= 1;
+        assertThrows(IOException.class, () -> GameSnapshot.decode(flipped));
+
+        byte[] otherVersion = data.clone();
+        otherVersion[5] = 99;
+        assertThrows(IOException.class, () -> GameSnapshot.decode(otherVersion));
+
+        assertThrows(IOException.class, () -> GameSnapshot.decode(new byte[] {1, 2, 3}));
+        assertThrows(IOException.class, () -> GameSnapshot.decode("not a save at all".getBytes()));
+    }
+
+    @Test
+    public void testCheckpointReplacesTheFile() throws Exception {
+        Path directory = Files.createTempDirectory("ecojozi-save");
+        Path file = directory.resolve("autosave.ejz");
+        try {
+            GameEngine engine = ReplayEngine.newBotGame(2, new GameRandom(11));
+            for (int i = 0; i < 5; i++) {
+                BotGames.play(engine, 1);
+                GameSnapshot.checkpoint(engine, file);
+            }
+            GameSnapshot.awaitWrites();
+
+            GameEngine restored = GameSnapshot.read(file);
+            assertEquals(engine.getGame().getTurn(), restored.getGame().getTurn());
+            assertEquals(List.of(file), Files.list(directory).toList()); // no temporary files left
+
+            GameSnapshot.discard(file);
+            GameSnapshot.awaitWrites();
+            assertFalse(Files.exists(file));
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @Test
+    public void testCheckpointsOfTwoGamesAreBothWritten() throws Exception {
+        Path directory = Files.createTempDirectory("ecojozi-save");
+        Path first = directory.resolve("first.ejz");
+        Path second = directory.resolve("second.ejz");
+        try {
+            GameEngine a = ReplayEngine.newBotGame(2, new GameRandom(5));
+            GameEngine b = ReplayEngine.newBotGame(3, new GameRandom(6));
+            for (int i = 0; i < 5; i++) {
+                BotGames.play(a, 1);
+                GameSnapshot.checkpoint(a, first);
+                BotGames.play(b, 2);
+                GameSnapshot.checkpoint(b, second);
+            }
+            GameSnapshot.awaitWrites();
+
+            assertEquals(a.getStateChecksum(), GameSnapshot.read(first).getStateChecksum());
+            assertEquals(b.getStateChecksum(), GameSnapshot.read(second).getStateChecksum());
+        } finally {
+            Files.deleteIfExists(first);
+            Files.deleteIfExists(second);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @Test
+    public void testAutosavePath() {
+        assertNull(GameSnapshot.autosavePath("off"));
+        assertEquals(Path.of("game.ejz"), GameSnapshot.autosavePath("game.ejz"));
+        assertTrue(GameSnapshot.autosavePath(null).endsWith(Path.of(".ecojozi", "autosave.ejz")));
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.BeforeEach;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.ArrayList;
+import java.util.List;
 
 public class GameTest {
     
@@ -38,6 +39,20 @@ public class GameTest {
         assertEquals(players, game.getPlayers());
     }
     
+    @Test
+    public void testAlliancesArePerGame() {
+        // A second game with the same players shares nothing with the first
+        Game otherGame = new Game(players);
+        List<Player> members = new ArrayList<>();
+        members.add(players.get(0));
+        members.add(players.get(1));
+        new Alliance(game.getAlliances(), members);
+
+        assertTrue(game.getAlliances().isPlayerInAnyAlliance(players.get(0)));
+        assertFalse(otherGame.getAlliances().isPlayerInAnyAlliance(players.get(0)));
+        assertEquals(0, otherGame.getAlliances().size());
+    }
+    
     @Test
     public void testGetCurrentPlayer() {
         // Test getting the current player
@@ -0,0 +1,124 @@
+package main;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import javax.swing.SwingUtilities;
+
+public class GameViewModelTest {
+
+    private Game game;
+    private GameEngine engine;
+    private Player player1;
+    private Player player2;
+
+    @BeforeEach
+    public void setUp() {
+        player1 = new Player("Player1");
+        player1.addResources(3000);
+        player1.setCharacter("A");
+        player2 = new Player("Player2");
+        player2.addResources(3000);
+        player2.setCharacter("B");
+
+        ArrayList<Player> players = new ArrayList<>();
+        players.add(player1);
+        players.add(player2);
+        game = new Game(players);
+        engine = new GameEngine(game);
+    }
+
+    private GameViewModel snapshot(long version) {
+        return GameViewModel.build(GameViewModel.capture(game, engine.getTaskRegistry(), version));
+    }
+
+    @Test
+    public void testTaskStatesAndText() {
+        player1.setPosition(1); // Define Goals
+        engine.claimTask(player1);
+        Task task = engine.getBoardTasks().get(1);
+
+        GameViewModel model = snapshot(1);
+        GameViewModel.TaskStatus status = model.getTask(task.getId());
+        assertEquals(GameViewModel.TaskState.CLAIMED, status.state());
+        assertEquals("Player1", status.owner());
+        assertEquals(List.of("A"), status.tokens());
+        assertEquals(task.getDeposit(), status.balance());
+        assertEquals(task.getDeposit() / (double) task.getRequiredTotalResources(), status.getProgress(), 1e-9);
+        assertTrue(status.displayText().contains("[CLAIMED]"));
+        assertTrue(status.toolTip().contains("Currently Allocated: " + task.getDeposit()));
+
+        // the snapshot keeps what it saw
+        engine.allocateResources(player1, task, task.getRequiredTotalResources() - task.getDeposit());
+        assertEquals(GameViewModel.TaskState.CLAIMED, status.state());
+        assertEquals(GameViewModel.TaskState.COMPLETED, snapshot(2).getTask(task.getId()).state());
+    }
+
+    @Test
+    public void testAllianceShowsEveryMember() {
+        player1.setPosition(1);
+        engine.claimTask(player1);
+        engine.formAlliance(player1, player2);
+
+        GameViewModel model = snapshot(1);
+        for (GameViewModel.PlayerSummary player : model.getPlayers()) {
+            assertEquals(2, player.allianceSize());
+            assertTrue(player.displayText().contains("Alliance formed"));
+        }
+        assertTrue(model.getPlayers().get(0).current());
+        assertSame(model.getPlayers().get(0), model.getCurrentPlayer());
+    }
+
+    @Test
+    public void testPhaseRowsMatchTheRegistry() {
+        TaskRegistry registry = engine.getTaskRegistry();
+        GameViewModel model = snapshot(1);
+        for (int phase = 0; phase < TaskRegistry.PHASES.length; phase++) {
+            List<Task> tasks = registry.getPhaseTasks(phase);
+            List<GameViewModel.TaskStatus> rows = model.getPhaseTasks(phase);
+            assertEquals(tasks.size(), rows.size());
+            for (int row = 0; row < tasks.size(); row++) {
+                assertEquals(tasks.get(row).getId(), rows.get(row).id());
+            }
+        }
+        assertThrows(UnsupportedOperationException.class, () -> model.getTasks().clear());
+    }
+
+    @Test
+    public void testPublisherShowsTheNewestSnapshot() throws Exception {
+        ViewModelPublisher publisher = new ViewModelPublisher(game, engine.getTaskRegistry());
+        List<GameViewModel> shown = new CopyOnWriteArrayList<>();
+        List<Boolean> onEdt = new CopyOnWriteArrayList<>();
+        publisher.addListener(model -> {
+            shown.add(model);
+            onEdt.add(SwingUtilities.isEventDispatchThread());
+        });
+
+        for (int i = 1; i <= 50; i++) {
+            player1.addResources(1);
+            publisher.requestUpdate();
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((publisher.getSnapshot() == null || publisher.getSnapshot().getVersion() < 50)
+                && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        SwingUtilities.invokeAndWait(() -> { });
+
+        assertEquals(50, publisher.getSnapshot().getVersion());
+        assertEquals(3050, publisher.getSnapshot().getPlayers().get(0).resources());
+        assertFalse(shown.isEmpty());
+        assertTrue(shown.size() <= 50);
+        assertEquals(50, shown.get(shown.size() - 1).getVersion());
+        for (int i = 1; i < shown.size(); i++) {
+            assertTrue(shown.get(i).getVersion() > shown.get(i - 1).getVersion());
+        }
+        assertFalse(onEdt.contains(false));
+    }
+}
@@ -0,0 +1,61 @@
+package main;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.swing.SwingUtilities;
+
+public class MainMenuPanelTest {
+
+    @Test
+    public void testContinueIsCheckedEachTimeTheMenuIsShown() throws Exception {
+        Path directory = Files.createTempDirectory("ecojozi-menu");
+        Path save = directory.resolve("autosave.ejz");
+        try {
+            GameSnapshot.write(new GameEngine(new Game()), save);
+            MainMenuPanel[] menu = new MainMenuPanel[1];
+            SwingUtilities.invokeAndWait(() ->
+                    menu[0] = new MainMenuPanel(new Game().getPlayers(), null, new GameSession(), save));
+            assertTrue(menu[0].getContinueButton().isVisible());
+
+            // the game ends (and deletes its save) while another screen is shown
+            SwingUtilities.invokeAndWait(() -> menu[0].setVisible(false));
+            Files.delete(save);
+            SwingUtilities.invokeAndWait(() -> menu[0].setVisible(true));
+            SwingUtilities.invokeAndWait(() -> { }); // the shown event is delivered before this
+            assertFalse(menu[0].getContinueButton().isVisible());
+
+            // a new game saves again
+            GameSnapshot.write(new GameEngine(new Game()), save);
+            SwingUtilities.invokeAndWait(() -> menu[0].setVisible(false));
+            SwingUtilities.invokeAndWait(() -> menu[0].setVisible(true));
+            SwingUtilities.invokeAndWait(() -> { });
+            assertTrue(menu[0].getContinueButton().isVisible());
+        } finally {
+            Files.deleteIfExists(save);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @Test
+    public void testContinueWithoutASaveOnlyHidesTheButton() throws Exception {
+        Path directory = Files.createTempDirectory("ecojozi-menu");
+        Path save = directory.resolve("autosave.ejz");
+        try {
+            GameSnapshot.write(new GameEngine(new Game()), save);
+            MainMenuPanel[] menu = new MainMenuPanel[1];
+            SwingUtilities.invokeAndWait(() ->
+                    menu[0] = new MainMenuPanel(new Game().getPlayers(), null, new GameSession(), save));
+            Files.delete(save);
+
+            // no "could not be loaded" dialog (which would need a screen here), just no button
+            SwingUtilities.invokeAndWait(() -> menu[0].getContinueButton().doClick());
+            assertFalse(menu[0].getContinueButton().isVisible());
+        } finally {
+            Files.deleteIfExists(save);
+            Files.deleteIfExists(directory);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package main;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ReplayEngineTest {
+
+    @Test
+    public void testRecordedBotGamesReplayExactly() {
+        for (long seed = 1; seed <= 30; seed++) {
+            GameEngine engine = ReplayEngine.newBotGame(2 + (int) (seed % 3), new GameRandom(seed));
+            TurnJournal.Contents recording = ReplayEngine.recordBotGame(engine, 300);
+
+            ReplayEngine.Result result = ReplayEngine.replay("seed " + seed, recording);
+            assertTrue(result.passed(), result.failure());
+            assertEquals(recording.entries().size(), result.actions());
+            assertEquals(engine.getGame().getTurn() / GameEngine.CHECKSUM_INTERVAL, result.checksums());
+            assertTrue(BotGames.sameState(engine, result.engine()), "seed " + seed);
+        }
+    }
+
+    @Test
+    public void testChangedActionIsCaughtByTheChecksum() {
+        GameEngine engine = ReplayEngine.newBotGame(3, new GameRandom(8));
+        TurnJournal.Contents recording = ReplayEngine.recordBotGame(engine, 300);
+
+        // a smaller allocation is still allowed, so only the next checksum can tell
+        List<TurnJournal.Entry> entries = new ArrayList<>(recording.entries());
+        int changed = -1;
+        for (int i = 0; i < entries.size() && changed < 0; i++) {
+            TurnJournal.Entry entry = entries.get(i);
+            if (entry.kind() == TurnJournal.Kind.ALLOCATE && entry.b() > 1) {
+                entries.set(i, new TurnJournal.Entry(entry.kind(), entry.turn(), entry.player(), entry.a(), entry.b() - 1));
+                changed = i;
+            }
+        }
+        assertTrue(changed >= 0);
+
+        ReplayEngine.Result result = ReplayEngine.replay("changed",
+                new TurnJournal.Contents(recording.seed(), recording.baseTurn(), recording.start(), entries,
+                        recording.board()));
+        assertFalse(result.passed());
+        assertTrue(result.actions() > changed);
+        assertTrue(result.failure().startsWith("action " + result.actions() + ": "), result.failure());
+    }
+
+    @Test
+    public void testReplayStopsAtTheActionLimit() {
+        GameEngine engine = ReplayEngine.newBotGame(2, new GameRandom(21));
+        TurnJournal.Contents recording = ReplayEngine.recordBotGame(engine, 20);
+        int limit = recording.entries().size() / 2;
+
+        ReplayEngine.Result result = ReplayEngine.replay("half", recording, limit);
+        assertTrue(result.passed());
+        assertEquals(limit, result.actions());
+        assertEquals(recording.entries().get(limit).turn(), result.engine().getGame().getTurn());
+    }
+
+    @Test
+    public void testReplayAllReadsJournalFiles() throws IOException {
+        Path directory = Files.createTempDirectory("ecojozi-replay");
+        Path recorded = directory.resolve("game" + ReplayEngine.JOURNAL_SUFFIX);
+        Path broken = directory.resolve("broken" + ReplayEngine.JOURNAL_SUFFIX);
+        try {
+            GameEngine engine = ReplayEngine.newBotGame(4, new GameRandom(5));
+            try (TurnJournal journal = TurnJournal.create(recorded, engine)) {
+                engine.setRecorder(journal);
+                for (int turn = 0; turn < 40; turn++) {
+                    BalanceSimulator.playTurn(engine);
+                }
+            }
+            Files.write(broken, new byte[] {1, 2, 3});
+
+            List<ReplayEngine.Result> results = ReplayEngine.replayAll(List.of(recorded, broken));
+            assertTrue(results.get(0).passed(), results.get(0).failure());
+            assertTrue(BotGames.sameState(engine, results.get(0).engine()));
+            assertFalse(results.get(1).passed());
+        } finally {
+            Files.deleteIfExists(recorded);
+            Files.deleteIfExists(broken);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @Test
+    public void testJournalIsReplayedOnTheBoardItWasRecordedOn() throws IOException {
+        List<String> lines = new ArrayList<>(List.of("squares 40"));
+        for (int pos = 1; pos < 40; pos++) {
+            lines.add("task " + pos + " " + TaskRegistry.PHASES[pos % 4] + " 1000 250 Task " + pos);
+        }
+        BoardDefinition board = BoardDefinition.parse("ring", lines);
+        Path directory = Files.createTempDirectory("ecojozi-replay");
+        Path recorded = directory.resolve("ring" + ReplayEngine.JOURNAL_SUFFIX);
+        try {
+            GameEngine engine = BotGames.newGame(3, new GameRandom(17), board);
+            try (TurnJournal journal = TurnJournal.create(recorded, engine)) {
+                engine.setRecorder(journal);
+                BotGames.play(engine, 60);
+            }
+
+            ReplayEngine.Result onDefault = ReplayEngine.replayFile(recorded);
+            assertFalse(onDefault.passed());
+            assertTrue(onDefault.failure().contains("board ring"), onDefault.failure());
+
+            ReplayEngine.Result result = ReplayEngine.replayFile(recorded, board);
+            assertTrue(result.passed(), result.failure());
+            assertSame(board, result.engine().getBoard());
+            assertTrue(BotGames.sameState(engine, result.engine()));
+        } finally {
+            Files.deleteIfExists(recorded);
+            Files.deleteIfExists(directory);
+        }
+    }
+}
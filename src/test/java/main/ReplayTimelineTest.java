@@ -0,0 +1,95 @@
+package main;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class ReplayTimelineTest {
+
+    private static TurnJournal.Contents recordedGame(int playerCount, long seed, int maxTurns) {
+        return ReplayEngine.recordBotGame(ReplayEngine.newBotGame(playerCount, new GameRandom(seed)), maxTurns);
+    }
+
+    // Checksum at the start of every turn (and after the last action, for the last turn), played straight through
+    private static List<Integer> checksumsByTurn(TurnJournal.Contents recording) throws IOException {
+        GameEngine engine = recording.startEngine();
+        List<Integer> checksums = new ArrayList<>();
+        checksums.add(engine.getStateChecksum());
+        for (TurnJournal.Entry entry : recording.entries()) {
+            TurnJournal.replay(engine, entry);
+            if (engine.getGame().getTurn() == checksums.size()) {
+                checksums.add(engine.getStateChecksum());
+            }
+        }
+        checksums.set(checksums.size() - 1, engine.getStateChecksum());
+        return checksums;
+    }
+
+    @Test
+    public void testEveryTurnMatchesAStraightReplay() throws IOException {
+        TurnJournal.Contents recording = recordedGame(3, 17, 300);
+        List<Integer> expected = checksumsByTurn(recording);
+        ReplayTimeline timeline = new ReplayTimeline(recording);
+        assertNull(timeline.getFailure());
+        assertEquals(expected.size() - 1, timeline.getLastTurn());
+
+        Random random = new Random(1);
+        for (int i = 0; i < 300; i++) {
+            int turn = random.nextInt(timeline.getLastTurn() + 1);
+            timeline.seek(turn);
+            assertEquals(turn, timeline.getEngine().getGame().getTurn());
+            assertEquals((int) expected.get(turn), timeline.getEngine().getStateChecksum(), "turn " + turn);
+        }
+    }
+
+    @Test
+    public void testSeekingOnlyReplaysFromTheNearestKeyframe() throws IOException {
+        TurnJournal.Contents recording = recordedGame(4, 3, 400);
+        ReplayTimeline timeline = new ReplayTimeline(recording);
+        int last = timeline.getLastTurn();
+        assertTrue(last > 3 * ReplayTimeline.KEYFRAME_INTERVAL, "game of " + last + " turns");
+        assertEquals(last / ReplayTimeline.KEYFRAME_INTERVAL + 1, timeline.getKeyframeCount());
+
+        // back to the turn before the last: from its keyframe, not from the start
+        timeline.seek(last);
+        int target = last - 1;
+        int actions = 0;
+        for (int turn = target - target % ReplayTimeline.KEYFRAME_INTERVAL; turn < target; turn++) {
+            actions += timeline.getEntries(turn).size();
+        }
+        assertEquals(actions, timeline.seek(target));
+
+        // one step forward replays just that turn
+        timeline.seek(ReplayTimeline.KEYFRAME_INTERVAL + 1);
+        assertEquals(timeline.getEntries(ReplayTimeline.KEYFRAME_INTERVAL + 1).size(),
+                timeline.seek(ReplayTimeline.KEYFRAME_INTERVAL + 2));
+        assertEquals(0, timeline.seek(ReplayTimeline.KEYFRAME_INTERVAL + 2));
+    }
+
+    @Test
+    public void testBrokenRecordingEndsBeforeTheTurnThatFails() throws IOException {
+        TurnJournal.Contents recording = recordedGame(2, 9, 300);
+        List<TurnJournal.Entry> entries = new ArrayList<>(recording.entries());
+        int broken = entries.size() / 2;
+        while (entries.get(broken).kind() != TurnJournal.Kind.ROLL) {
+            broken++;
+        }
+        TurnJournal.Entry roll = entries.get(broken);
+        entries.set(broken, new TurnJournal.Entry(roll.kind(), roll.turn(), roll.player(), roll.a() % 6 + 1, 0));
+
+        ReplayTimeline timeline = new ReplayTimeline(
+                new TurnJournal.Contents(recording.seed(), recording.baseTurn(), recording.start(), entries,
+                        recording.board()));
+        assertNotNull(timeline.getFailure());
+        assertEquals(roll.turn(), timeline.getLastTurn());
+        assertTrue(timeline.getEntries(roll.turn()).isEmpty());
+
+        timeline.seek(timeline.getLastTurn());
+        assertEquals((int) checksumsByTurn(recording).get(roll.turn()), timeline.getEngine().getStateChecksum());
+        assertThrows(IllegalArgumentException.class, () -> timeline.seek(roll.turn() + 1));
+    }
+}
@@ -0,0 +1,80 @@
+package main;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.swing.JButton;
+import javax.swing.JComponent;
+import javax.swing.JPanel;
+
+public class ScreenNavigatorTest {
+
+    @Test
+    public void testScreensAreBuiltOnceOnFirstShow() {
+        ScreenNavigator navigator = new ScreenNavigator();
+        navigator.register(ScreenNavigator.Screen.MAIN_MENU, JPanel::new);
+        navigator.register(ScreenNavigator.Screen.SETTINGS, JPanel::new);
+        navigator.register(ScreenNavigator.Screen.ABOUT, JPanel::new);
+        assertEquals(0, navigator.getBuildCount());
+
+        navigator.show(ScreenNavigator.Screen.MAIN_MENU);
+        JComponent menu = navigator.getScreen(ScreenNavigator.Screen.MAIN_MENU);
+        for (int i = 0; i < 5; i++) {
+            navigator.show(ScreenNavigator.Screen.SETTINGS);
+            navigator.show(ScreenNavigator.Screen.MAIN_MENU);
+        }
+
+        assertEquals(2, navigator.getBuildCount());
+        assertFalse(navigator.isBuilt(ScreenNavigator.Screen.ABOUT));
+        assertSame(menu, navigator.getScreen(ScreenNavigator.Screen.MAIN_MENU));
+        assertEquals(ScreenNavigator.Screen.MAIN_MENU, navigator.getCurrent());
+        assertEquals(2, navigator.getCards().getComponentCount());
+    }
+
+    @Test
+    public void testOnlyCurrentScreenIsVisible() {
+        ScreenNavigator navigator = new ScreenNavigator();
+        navigator.register(ScreenNavigator.Screen.MAIN_MENU, JPanel::new);
+        navigator.register(ScreenNavigator.Screen.TUTORIAL, JPanel::new);
+
+        navigator.show(ScreenNavigator.Screen.MAIN_MENU);
+        navigator.show(ScreenNavigator.Screen.TUTORIAL);
+        assertFalse(navigator.getScreen(ScreenNavigator.Screen.MAIN_MENU).isVisible());
+        assertTrue(navigator.getScreen(ScreenNavigator.Screen.TUTORIAL).isVisible());
+
+        navigator.show(ScreenNavigator.Screen.MAIN_MENU);
+        assertTrue(navigator.getScreen(ScreenNavigator.Screen.MAIN_MENU).isVisible());
+        assertFalse(navigator.getScreen(ScreenNavigator.Screen.TUTORIAL).isVisible());
+    }
+
+    @Test
+    public void testRegisterAgainReplacesScreen() {
+        ScreenNavigator navigator = new ScreenNavigator();
+        JPanel firstGame = new JPanel();
+        JPanel secondGame = new JPanel();
+        navigator.register(ScreenNavigator.Screen.GAME, () -> firstGame);
+        navigator.show(ScreenNavigator.Screen.GAME);
+
+        navigator.register(ScreenNavigator.Screen.GAME, () -> secondGame);
+        assertFalse(navigator.isBuilt(ScreenNavigator.Screen.GAME));
+        navigator.show(ScreenNavigator.Screen.GAME);
+
+        assertSame(secondGame, navigator.getScreen(ScreenNavigator.Screen.GAME));
+        assertEquals(1, navigator.getCards().getComponentCount());
+        assertNull(firstGame.getParent());
+    }
+
+    @Test
+    public void testFoundFromAnyComponentInside() {
+        ScreenNavigator navigator = new ScreenNavigator();
+        JPanel screen = new JPanel();
+        JButton button = new JButton("Back");
+        screen.add(button);
+        navigator.register(ScreenNavigator.Screen.ABOUT, () -> screen);
+        navigator.show(ScreenNavigator.Screen.ABOUT);
+
+        assertSame(navigator, ScreenNavigator.of(button));
+        assertThrows(IllegalStateException.class, () -> ScreenNavigator.of(new JButton()));
+        assertThrows(IllegalArgumentException.class, () -> navigator.show(ScreenNavigator.Screen.SETTINGS));
+    }
+}
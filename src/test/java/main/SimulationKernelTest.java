@@ -0,0 +1,85 @@
+package main;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+public class SimulationKernelTest {
+
+    @Test
+    public void testSameGameAsEngine() {
+        for (long seed = 1; seed <= 30; seed++) {
+            int playerCount = 2 + (int) (seed % 3);
+            GameEngine engine = ReplayEngine.newBotGame(playerCount, new GameRandom(seed));
+            SimulationKernel kernel = SimulationKernel.fromEngine(engine);
+
+            for (int turn = 0; turn < 300; turn++) {
+                GameEngine.TurnResult engineResult = BalanceSimulator.playTurn(engine);
+                GameEngine.TurnResult kernelResult = BalanceSimulator.playTurn(kernel);
+
+                assertEquals(engineResult, kernelResult, "seed " + seed + ", turn " + turn);
+                assertTrue(SimulationKernel.fromEngine(engine).sameStateAs(kernel), "seed " + seed + ", turn " + turn);
+                if (engineResult != GameEngine.TurnResult.NEXT_TURN) {
+                    break;
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testNewGameMatchesFreshEngine() {
+        GameEngine engine = ReplayEngine.newBotGame(3, new GameRandom(5));
+        SimulationKernel kernel = new SimulationKernel(new String[] {"Bot 1", "Bot 2", "Bot 3"},
+                Game.getStartingResources(3), new GameRandom(5));
+
+        assertTrue(SimulationKernel.fromEngine(engine).sameStateAs(kernel));
+        assertEquals(16, kernel.getTaskCount());
+    }
+
+    @Test
+    public void testClaimAndAllocate() {
+        SimulationKernel kernel = SimulationKernel.fromEngine(ReplayEngine.newBotGame(2, new GameRandom(1)));
+        kernel.movePlayer(0, 1); // Define Goals: 1000 required, 250 deposit
+
+        assertEquals(GameEngine.ClaimResult.CLAIMED, kernel.claimTask(0));
+        assertEquals(GameEngine.ClaimResult.ALREADY_CLAIMED, kernel.checkClaim(0));
+        int task = kernel.getHeldTask(0, 0);
+        assertEquals(0, kernel.getTaskOwner(task));
+        assertEquals(2750, kernel.getResources(0));
+
+        assertEquals(GameEngine.AllocationResult.EXCEEDS_REQUIRED, kernel.allocateResources(0, task, 800));
+        assertEquals(GameEngine.AllocationResult.COMPLETED, kernel.allocateResources(0, task, 750));
+        assertTrue(kernel.isTaskComplete(task));
+        assertEquals(2750 - 750 + GameEngine.COMPLETION_REFUND, kernel.getResources(0));
+    }
+
+    @Test
+    public void testAllianceAndTransfer() {
+        SimulationKernel kernel = SimulationKernel.fromEngine(ReplayEngine.newBotGame(2, new GameRandom(1)));
+        kernel.movePlayer(0, 1);
+        kernel.claimTask(0);
+        int task = kernel.getHeldTask(0, 0);
+
+        assertEquals(GameEngine.AllianceResult.FORMED, kernel.formAlliance(0, 1));
+        assertEquals(1, kernel.getPartner(0));
+        assertEquals(GameEngine.AllianceResult.ALREADY_IN_ALLIANCE, kernel.checkAlliance(0));
+
+        assertTrue(kernel.transferTask(0, task, 1));
+        assertEquals(0, kernel.getHeldTaskCount(0));
+        assertEquals(task, kernel.getHeldTask(1, 0));
+        assertEquals(0, kernel.getTaskOwner(task)); // claimer keeps the refund
+        assertFalse(kernel.transferTask(0, task, 1));
+    }
+
+    @Test
+    public void testRoundTripThroughEngine() {
+        SimulationKernel kernel = SimulationKernel.fromEngine(ReplayEngine.newBotGame(3, new GameRandom(9)));
+        for (int turn = 0; turn < 20; turn++) {
+            BalanceSimulator.playTurn(kernel);
+        }
+
+        GameEngine engine = kernel.toEngine();
+        assertTrue(SimulationKernel.fromEngine(engine).sameStateAs(kernel));
+        assertEquals(kernel.getCurrentPlayer(), engine.getGame().getCurrentPlayerIndex());
+    }
+}
@@ -0,0 +1,58 @@
+package main;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+
+public class SquareBackgroundCacheTest {
+
+    @Test
+    public void testSameSquareIsRenderedOnce() {
+        SquareBackgroundCache cache = new SquareBackgroundCache();
+        BufferedImage first = cache.get(113, 113, Color.RED, null);
+        BufferedImage second = cache.get(113, 113, new Color(255, 0, 0), null);
+
+        assertSame(first, second);
+        assertEquals(1, cache.getRenderCount());
+        assertEquals(113, first.getWidth());
+        assertEquals(113, first.getHeight());
+    }
+
+    @Test
+    public void testSizeAndColourAreBothPartOfTheKey() {
+        SquareBackgroundCache cache = new SquareBackgroundCache();
+        BufferedImage normal = cache.get(100, 100, new Color(244, 166, 166), null);
+        BufferedImage colourblind = cache.get(100, 100, new Color(204, 85, 0), null);
+        BufferedImage resized = cache.get(120, 100, new Color(244, 166, 166), null);
+
+        assertNotSame(normal, colourblind);
+        assertNotSame(normal, resized);
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    public void testRenderedImage() {
+        Color colour = new Color(178, 230, 161);
+        BufferedImage image = new SquareBackgroundCache().get(100, 100, colour, null);
+
+        assertEquals(colour.getRGB(), image.getRGB(50, 50));  // filled centre
+        assertEquals(0, image.getRGB(0, 0) >>> 24);           // transparent rounded corner
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() {
+        SquareBackgroundCache cache = new SquareBackgroundCache(2);
+        BufferedImage red = cache.get(10, 10, Color.RED, null);
+        cache.get(10, 10, Color.GREEN, null);
+        cache.get(10, 10, Color.RED, null);      // red is now the most recent
+        cache.get(10, 10, Color.BLUE, null);     // evicts green
+
+        assertEquals(2, cache.size());
+        assertSame(red, cache.get(10, 10, Color.RED, null));
+        assertEquals(3, cache.getRenderCount());
+        cache.get(10, 10, Color.GREEN, null);
+        assertEquals(4, cache.getRenderCount());
+    }
+}
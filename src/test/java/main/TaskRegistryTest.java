@@ -0,0 +1,70 @@
+package main;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+public class TaskRegistryTest {
+    private GameEngine engine;
+    private TaskRegistry registry;
+
+    @BeforeEach
+    public void setUp() {
+        engine = new GameEngine(new Game());
+        registry = engine.getTaskRegistry();
+    }
+
+    @Test
+    public void testIdsMatchRegistryOrder() {
+        assertEquals(16, registry.size());
+        for (int id = 0; id < registry.size(); id++) {
+            assertEquals(id, registry.getTask(id).getId());
+        }
+        // Planning 0-3, Design 4-7, Development 8-11, Testing 12-15
+        assertEquals("Define Goals", registry.getTask(0).getDescription());
+        assertEquals("Designing MVC Architecture", registry.getTask(4).getDescription());
+        assertEquals("Set Up Databases", registry.getTask(10).getDescription());
+        assertEquals("Feedback and Issue Resolution", registry.getTask(15).getDescription());
+    }
+
+    @Test
+    public void testSquareLookupsMatchBoard() {
+        List<Task> boardTasks = engine.getBoardTasks();
+        for (int pos = 0; pos < GameEngine.BOARD_SIZE; pos++) {
+            Task task = registry.getTaskAtSquare(pos);
+            if (pos == 0 || registry.isEventSquare(pos)) {
+                assertNull(task, "square " + pos);
+            } else {
+                assertSame(boardTasks.get(pos), task, "square " + pos);
+                assertEquals(pos, registry.getSquare(task));
+            }
+        }
+        assertTrue(registry.isEventSquare(3));
+        assertEquals("Hire Developers", registry.getTaskAtSquare(12).getDescription());
+    }
+
+    @Test
+    public void testPhaseLookups() {
+        for (int phase = 0; phase < TaskRegistry.PHASES.length; phase++) {
+            List<Task> tasks = registry.getPhaseTasks(phase);
+            assertEquals(4, tasks.size());
+            for (int row = 0; row < tasks.size(); row++) {
+                Task task = tasks.get(row);
+                assertEquals(phase, registry.getPhase(task));
+                assertEquals(row, registry.getPhaseRow(task));
+                assertEquals(TaskRegistry.PHASES[phase], task.getObjective());
+            }
+        }
+        assertSame(engine.getPlanningTasks().get(2), registry.getTask(2));
+    }
+
+    @Test
+    public void testContains() {
+        assertTrue(registry.contains(registry.getTask(5)));
+        // same id, different game
+        assertFalse(registry.contains(new GameEngine(new Game()).getTaskRegistry().getTask(5)));
+        assertFalse(registry.contains(new Task("Planning", 1000, null, 250, "Define Goals")));
+    }
+}
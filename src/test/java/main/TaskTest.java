@@ -4,6 +4,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class TaskTest {
     private Task task;
     private Player player;
@@ -89,4 +92,24 @@ public class TaskTest {
         task.updateResourceBalance(-20);
         assertEquals(-20, task.checkResourceBalance());
     }
+
+    // Testing change notifications
+    @Test
+    public void testChangeListenerIsNotified() {
+        List<Task> changes = new ArrayList<>();
+        Task.ChangeListener listener = changes::add;
+        task.addChangeListener(listener);
+
+        task.assignOwner(player);
+        task.assignOwner(new Player("NewPlayer")); // already owned, nothing changes
+        task.updateResourceBalance(10);
+        task.markAsComplete();
+        task.markAsComplete(); // already complete
+        assertEquals(3, changes.size());
+        assertSame(task, changes.get(0));
+
+        task.removeChangeListener(listener);
+        task.updateResourceBalance(10);
+        assertEquals(3, changes.size());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,108 @@
+package main;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.swing.SwingUtilities;
+
+public class TokenAnimatorTest {
+    private Player player;
+    private BoardCanvas canvas;
+    private TokenAnimator animator;
+
+    @BeforeEach
+    public void setUp() {
+        player = new Player("Player1");
+        player.setCharacter("🍳");
+        Player other = new Player("Player2");
+        other.setCharacter("🌍");
+        ArrayList<Player> players = new ArrayList<>();
+        players.add(player);
+        players.add(other);
+
+        String[] labels = new String[GameEngine.BOARD_SIZE];
+        Color[] colours = new Color[GameEngine.BOARD_SIZE];
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = "Square " + i;
+            colours[i] = Color.LIGHT_GRAY;
+        }
+        Game game = new Game(players);
+        canvas = new BoardCanvas(game, labels, colours, new SquareBackgroundCache(),
+                TokenAtlas.forPlayers(game.getPlayers()));
+        canvas.setSize(700, 700);
+        animator = new TokenAnimator(canvas);
+    }
+
+    private Runnable stepForward() {
+        return () -> player.setPosition((player.getPosition() + 1) % GameEngine.BOARD_SIZE);
+    }
+
+    @Test
+    public void testSkipAnimationMovesInstantly() {
+        AtomicInteger finished = new AtomicInteger();
+        animator.setSkipAnimation(true);
+        animator.animateMove(player, 5, stepForward(), finished::incrementAndGet);
+
+        assertEquals(5, player.getPosition());
+        assertEquals(1, finished.get());
+        assertFalse(animator.isRunning());
+        assertNull(canvas.getMovingPlayer());
+    }
+
+    @Test
+    public void testTimerAnimatesEachStep() throws Exception {
+        List<Integer> positions = new ArrayList<>();
+        CountDownLatch finished = new CountDownLatch(1);
+        animator.setStepMillis(20);
+
+        SwingUtilities.invokeAndWait(() -> {
+            animator.animateMove(player, 3,
+                    () -> {
+                        stepForward().run();
+                        positions.add(player.getPosition());
+                    },
+                    finished::countDown);
+
+            // first step is applied at once, the token glides towards it
+            assertEquals(List.of(1), positions);
+            assertSame(player, canvas.getMovingPlayer());
+            assertFalse(canvas.getTokens(1).contains(player.getCharacter()));
+        });
+
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        SwingUtilities.invokeAndWait(() -> {
+            assertEquals(List.of(1, 2, 3), positions);
+            assertFalse(animator.isRunning());
+            assertNull(canvas.getMovingPlayer());
+        });
+    }
+
+    @Test
+    public void testSkipFinishesMoveInProgress() throws Exception {
+        AtomicInteger finished = new AtomicInteger();
+        animator.setStepMillis(10_000);
+
+        SwingUtilities.invokeAndWait(() -> {
+            animator.animateMove(player, 4, stepForward(), finished::incrementAndGet);
+            assertEquals(1, player.getPosition());
+            assertTrue(animator.isRunning());
+
+            animator.skip();
+            assertEquals(4, player.getPosition());
+            assertEquals(1, finished.get());
+            assertFalse(animator.isRunning());
+        });
+    }
+
+    @Test
+    public void testNegativeStepDuration() {
+        assertThrows(IllegalArgumentException.class, () -> animator.setStepMillis(-5));
+    }
+}
@@ -0,0 +1,91 @@
+package main;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.List;
+import javax.swing.Icon;
+
+public class TokenAtlasTest {
+
+    private static boolean hasInk(BufferedImage image, int x, int y, int size) {
+        for (int i = x; i < x + size; i++) {
+            for (int j = y; j < y + size; j++) {
+                if ((image.getRGB(i, j) >>> 24) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Test
+    public void testEachSizeIsRenderedOnce() {
+        TokenAtlas atlas = new TokenAtlas(Arrays.asList("A", "B", "A", "", null));
+        assertEquals(2, atlas.getCharacterCount());
+
+        BufferedImage target = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = target.createGraphics();
+        for (int i = 0; i < 10; i++) {
+            atlas.draw(g, "A", 0, 0, 20);
+            atlas.draw(g, "B", 20, 0, 20);
+        }
+        assertEquals(1, atlas.getRenderCount());
+        assertEquals(40, atlas.getStrip(20).getWidth());
+
+        atlas.draw(g, "B", 0, 40, 30);
+        assertEquals(2, atlas.getRenderCount());
+        g.dispose();
+
+        assertTrue(hasInk(target, 0, 0, 20));
+        assertTrue(hasInk(target, 20, 0, 20));
+        assertFalse(hasInk(target, 50, 50, 40));
+    }
+
+    @Test
+    public void testNewCharacterIsAdded() {
+        TokenAtlas atlas = new TokenAtlas(List.of("A"));
+        atlas.prepare(16);
+
+        BufferedImage target = new BufferedImage(16, 16, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = target.createGraphics();
+        atlas.draw(g, "Z", 0, 0, 16);
+        atlas.draw(g, "", 0, 0, 16); // nothing to draw
+        g.dispose();
+
+        assertEquals(2, atlas.getCharacterCount());
+        assertEquals(32, atlas.getStrip(16).getWidth());
+        assertTrue(hasInk(target, 0, 0, 16));
+    }
+
+    @Test
+    public void testIconSize() {
+        Player player1 = new Player("Player1");
+        player1.setCharacter("A");
+        Player player2 = new Player("Player2");
+        player2.setCharacter("B");
+        TokenAtlas atlas = TokenAtlas.forPlayers(List.of(player1, player2));
+
+        Icon one = atlas.getIcon(new String[] {"A"}, 16);
+        assertEquals(16, one.getIconWidth());
+        assertEquals(16, one.getIconHeight());
+        Icon two = atlas.getIcon(new String[] {"A", "B"}, 16);
+        assertEquals(16 + 2 + 16, two.getIconWidth());
+    }
+
+    @Test
+    public void testStripsAreBounded() {
+        TokenAtlas atlas = new TokenAtlas(List.of("A"));
+        for (int size = 10; size < 10 + TokenAtlas.MAX_SIZES * 2; size++) {
+            atlas.prepare(size);
+        }
+        int rendered = atlas.getRenderCount();
+        atlas.prepare(10 + TokenAtlas.MAX_SIZES * 2 - 1); // most recent, still kept
+        assertEquals(rendered, atlas.getRenderCount());
+        atlas.prepare(10); // evicted long ago
+        assertEquals(rendered + 1, atlas.getRenderCount());
+    }
+}
@@ -0,0 +1,230 @@
+package main;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public class TurnJournalTest {
+
+    private Path directory;
+    private Path save;
+    private Path journalFile;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("ecojozi-journal");
+        save = directory.resolve("game.ejz");
+        journalFile = directory.resolve("game" + ReplayEngine.JOURNAL_SUFFIX);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (var files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) { // replays/ after its files
+                try {
+                    Files.delete(file);
+                } catch (IOException e) {
+                    file.toFile().deleteOnExit(); // a journal still mapped, on Windows
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testRecordedGameReplaysExactly() throws IOException {
+        GameEngine engine = ReplayEngine.newBotGame(3, new GameRandom(42));
+        try (TurnJournal journal = TurnJournal.create(journalFile, engine)) {
+            engine.setRecorder(journal);
+            BotGames.play(engine, 60);
+
+            TurnJournal.Contents contents = TurnJournal.read(journalFile);
+            assertEquals(42, contents.seed());
+            assertEquals(journal.getRecordCount(), contents.entries().size());
+            double bytesPerRecord = (journal.getSize() - TurnJournal.HEADER_SIZE - contents.start().length)
+                    / (double) journal.getRecordCount();
+            assertTrue(bytesPerRecord < 4, "bytes per record " + bytesPerRecord);
+            assertTrue(contents.entries().stream().anyMatch(entry -> entry.kind() == TurnJournal.Kind.CHECKSUM));
+
+            GameEngine replayed = contents.startEngine();
+            for (TurnJournal.Entry entry : contents.entries()) {
+                TurnJournal.replay(replayed, entry);
+            }
+            assertTrue(BotGames.sameState(engine, replayed));
+        }
+    }
+
+    @Test
+    public void testEachGameGetsItsOwnJournal() throws IOException {
+        // two games one after the other in this JVM, as on the Board: the first journal is still mapped
+        List<Path> journals = new ArrayList<>();
+        for (long seed = 1; seed <= 2; seed++) {
+            assertNull(TurnJournal.journalFor(save));
+            GameEngine engine = ReplayEngine.newBotGame(2, new GameRandom(seed));
+            GameSnapshot.write(engine, save);
+            try (TurnJournal journal = TurnJournal.start(save, engine)) {
+                engine.setRecorder(journal);
+                BotGames.play(engine, 40);
+            }
+            Path file = TurnJournal.journalFor(save);
+            assertEquals(TurnJournal.replaysFor(save), file.getParent());
+            assertTrue(BotGames.sameState(engine, TurnJournal.recover(save)));
+            journals.add(file);
+
+            // the game ends: its save and the link go, the journal stays
+            Files.delete(save);
+            Files.delete(TurnJournal.linkFor(save));
+        }
+
+        // the second game, probably started within the same second, didn't reuse the first one's file
+        assertNotEquals(journals.get(0), journals.get(1));
+        for (int i = 0; i < 2; i++) {
+            ReplayEngine.Result result = ReplayEngine.replayFile(journals.get(i));
+            assertTrue(result.passed(), result.failure());
+            assertEquals(i + 1, TurnJournal.read(journals.get(i)).seed());
+        }
+        GameEngine engine = ReplayEngine.newBotGame(2, new GameRandom(3));
+        assertThrows(IOException.class, () -> TurnJournal.create(journals.get(0), engine));
+    }
+
+    @Test
+    public void testEveryKindIsRecorded() throws IOException {
+        GameEngine engine = ReplayEngine.newBotGame(2, new GameRandom(1));
+        Game game = engine.getGame();
+        Player player1 = game.getPlayers().get(0);
+        Player player2 = game.getPlayers().get(1);
+        try (TurnJournal journal = TurnJournal.create(journalFile, engine)) {
+            engine.setRecorder(journal);
+            int roll = engine.rollDice();
+            engine.stepPlayer(player1); // Define Goals
+            engine.claimTask(player1);
+            engine.allocateResources(player1, engine.getTaskRegistry().getTaskAtSquare(1), 100);
+            engine.formAlliance(player1, player2);
+            engine.transferTask(player1, engine.getTaskRegistry().getTaskAtSquare(1), player2);
+            engine.drawRandomEvent().applyEffect(player1);
+            engine.endTurn();
+
+            List<TurnJournal.Entry> entries = TurnJournal.read(journalFile).entries();
+            assertEquals(List.of(TurnJournal.Kind.ROLL, TurnJournal.Kind.MOVE, TurnJournal.Kind.CLAIM,
+                    TurnJournal.Kind.ALLOCATE, TurnJournal.Kind.ALLIANCE, TurnJournal.Kind.TRANSFER,
+                    TurnJournal.Kind.EVENT, TurnJournal.Kind.END_TURN),
+                    entries.stream().map(TurnJournal.Entry::kind).toList());
+            assertEquals(roll, entries.get(0).a());
+            assertEquals(new TurnJournal.Entry(TurnJournal.Kind.ALLOCATE, 0, 0, 0, 100), entries.get(3));
+            assertEquals(new TurnJournal.Entry(TurnJournal.Kind.TRANSFER, 0, 0, 0, 1), entries.get(5));
+        }
+    }
+
+    @Test
+    public void testJournalGrowsPastOneRegion() throws IOException {
+        GameEngine engine = ReplayEngine.newBotGame(2, new GameRandom(9));
+        Player player = engine.getGame().getPlayers().get(0);
+        int moves = TurnJournal.REGION_SIZE; // at 3 bytes each, several regions
+        try (TurnJournal journal = TurnJournal.create(journalFile, engine)) {
+            engine.setRecorder(journal);
+            for (int i = 0; i < moves; i++) {
+                engine.stepPlayer(player);
+            }
+        }
+        assertEquals(moves, TurnJournal.read(journalFile).entries().size());
+    }
+
+    @Test
+    public void testGameLargerThanOneRegionIsJournalled() throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("squares 15000");
+        for (int pos = 1; pos < 15000; pos++) {
+            lines.add("task " + pos + " " + TaskRegistry.PHASES[pos % 4] + " 1000 250 Task " + pos);
+        }
+        BoardDefinition board = BoardDefinition.parse("huge", lines);
+        GameEngine engine = BotGames.newGame(2, new GameRandom(8), board);
+        assertTrue(GameSnapshot.encode(engine).length > TurnJournal.REGION_SIZE);
+
+        try (TurnJournal journal = TurnJournal.create(journalFile, engine)) {
+            engine.setRecorder(journal);
+            BotGames.play(engine, 20);
+            assertTrue(journal.getRecordCount() > 0);
+        }
+        TurnJournal.Contents contents = TurnJournal.read(journalFile);
+        GameEngine replayed = GameSnapshot.decode(contents.start(), board);
+        for (TurnJournal.Entry entry : contents.entries()) {
+            TurnJournal.replay(replayed, entry);
+        }
+        assertTrue(BotGames.sameState(engine, replayed));
+    }
+
+    @Test
+    public void testCutOffRecordIsNotRead() throws IOException {
+        GameEngine engine = ReplayEngine.newBotGame(2, new GameRandom(5));
+        long size;
+        try (TurnJournal journal = TurnJournal.create(journalFile, engine)) {
+            engine.setRecorder(journal);
+            BotGames.play(engine, 3);
+            size = journal.getSize();
+            engine.endTurn(); // not rolled: nothing recorded
+            assertEquals(size, journal.getSize());
+        }
+        int count = TurnJournal.read(journalFile).entries().size();
+
+        // a record whose payload made it but whose kind byte didn't
+        byte[] bytes = Files.readAllBytes(journalFile);
+        bytes[(int) size + 1] = 2;
+        bytes[(int) size + 2] = 1;
+        Files.write(journalFile, bytes);
+        assertEquals(count, TurnJournal.read(journalFile).entries().size());
+    }
+
+    @Test
+    public void testRecoverReplaysTheTailAfterTheSave() throws IOException {
+        GameEngine engine = ReplayEngine.newBotGame(3, new GameRandom(77));
+        BotGames.play(engine, 10);
+        GameSnapshot.write(engine, save);
+        try (TurnJournal journal = TurnJournal.create(journalFile, engine)) {
+            engine.setRecorder(journal);
+            BotGames.play(engine, 5);
+            GameSnapshot.write(engine, save); // a later checkpoint already holds those turns
+            engine.movePlayer(engine.getGame().getCurrentPlayer(), engine.rollDice()); // then a crash mid-turn
+        }
+
+        GameEngine recovered = TurnJournal.recover(save, journalFile);
+        assertTrue(BotGames.sameState(engine, recovered));
+        assertTrue(recovered.hasRolled());
+        assertEquals(engine.getGame().getRandom().nextLong(), recovered.getGame().getRandom().nextLong());
+    }
+
+    @Test
+    public void testJournalOfAnotherGameIsIgnored() throws IOException {
+        GameEngine engine = ReplayEngine.newBotGame(2, new GameRandom(3));
+        GameSnapshot.write(engine, save);
+        GameEngine other = ReplayEngine.newBotGame(2, new GameRandom(4));
+        try (TurnJournal journal = TurnJournal.create(journalFile, other)) {
+            other.setRecorder(journal);
+            BotGames.play(other, 5);
+        }
+
+        assertTrue(BotGames.sameState(engine, TurnJournal.recover(save, journalFile)));
+        assertTrue(BotGames.sameState(engine, TurnJournal.recover(save, directory.resolve("none.journal"))));
+        assertTrue(BotGames.sameState(engine, TurnJournal.recover(save)));
+    }
+
+    @Test
+    public void testDamagedSaveIsRebuiltFromTheJournal() throws IOException {
+        GameEngine engine = ReplayEngine.newBotGame(2, new GameRandom(12));
+        BotGames.play(engine, 4);
+        try (TurnJournal journal = TurnJournal.create(journalFile, engine)) {
+            engine.setRecorder(journal);
+            BotGames.play(engine, 30);
+        }
+        Files.write(save, new byte[] {1, 2, 3});
+
+        assertTrue(BotGames.sameState(engine, TurnJournal.recover(save, journalFile)));
+        assertThrows(IOException.class, () -> TurnJournal.recover(save, directory.resolve("none.journal")));
+    }
+}